@@ -7,24 +7,37 @@
 package org.banking.base;
 
 import com.aventstack.chaintest.plugins.ChainTestListener;
+import io.qameta.allure.Allure;
 import io.restassured.RestAssured;
 import io.restassured.filter.log.RequestLoggingFilter;
 import io.restassured.filter.log.ResponseLoggingFilter;
 import io.restassured.specification.RequestSpecification;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.banking.metrics.EndpointLatencyRecorder;
+import org.banking.metrics.EndpointSlo;
+import org.banking.metrics.SloGate;
 import org.banking.utils.ConfigReader;
+import org.testng.Assert;
+import org.testng.ITestContext;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.AfterSuite;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Listeners;
 
-import io.qameta.allure.restassured.AllureRestAssured;
+import java.util.List;
 
-@Listeners({org.banking.listeners.AllureTestListener.class, org.banking.listeners.ExtentTestListener.class, ChainTestListener.class})
+@Listeners({org.banking.listeners.AllureTestListener.class, org.banking.listeners.ExtentTestListener.class,
+        org.banking.listeners.LatencyReportListener.class, org.banking.listeners.ParallelExecutionListener.class,
+        org.banking.listeners.DurationOrderingListener.class, org.banking.listeners.RetryReportListener.class,
+        org.banking.listeners.WarmUpListener.class, org.banking.listeners.TestTimeoutListener.class,
+        ChainTestListener.class})
 public class BaseTest {
 
     protected static final Logger logger = LogManager.getLogger(BaseTest.class);
-    protected RequestSpecification requestSpec;
+    // Test methods of one instance run concurrently under parallel="methods", so each thread gets its own spec
+    private final ThreadLocal<RequestSpecification> requestSpec = new ThreadLocal<>();
 
     @BeforeClass(alwaysRun = true)
     public void setupClass() {
@@ -47,18 +60,40 @@ public class BaseTest {
     public void setupMethod() {
         logger.info("Initializing request specification...");
 
-        requestSpec = RestAssured.given()
-                .filter(new AllureRestAssured())
-                .header("Content-Type", "application/json")
-                .header("Accept", "application/json");
+        requestSpec.set(RequestSpecFactory.newRequestSpec());
 
-        // Add authentication if needed
-        String authToken = ConfigReader.getProperty("auth.token", "");
-        if (!authToken.isEmpty()) {
-            requestSpec.header("Authorization", "Bearer " + authToken);
-            logger.info("Authorization header added");
+        logger.info("Request specification initialized successfully");
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void tearDownMethod() {
+        // Pooled and virtual worker threads are reused across methods
+        requestSpec.remove();
+    }
+
+    protected RequestSpecification requestSpec() {
+        return requestSpec.get();
+    }
+
+    // Percentile SLO gates (slo.file / slo.gates) evaluated over everything the suite recorded
+    @AfterSuite(alwaysRun = true)
+    public void verifyEndpointSlos(ITestContext context) {
+        List<EndpointSlo> slos = SloGate.load(suiteParameter(context, "slo.file"),
+                suiteParameter(context, "slo.gates"));
+        if (slos.isEmpty()) {
+            return;
         }
 
-        logger.info("Request specification initialized successfully");
+        List<SloGate.Check> checks = SloGate.evaluate(slos, EndpointLatencyRecorder.snapshot());
+        String table = SloGate.formatTable(checks);
+        logger.info("Endpoint SLO evaluation:\n" + table);
+        Allure.addAttachment("Endpoint SLO Gates", "text/plain", table);
+
+        Assert.assertFalse(SloGate.hasBreach(checks), "Endpoint SLOs breached:\n" + table);
+    }
+
+    private String suiteParameter(ITestContext context, String key) {
+        String value = context.getSuite().getParameter(key);
+        return value != null ? value : ConfigReader.getProperty(key, "");
     }
-}
\ No newline at end of file
+}
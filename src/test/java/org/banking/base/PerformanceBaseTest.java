@@ -0,0 +1,117 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.base;
+
+import io.qameta.allure.Allure;
+import org.banking.performance.CapacitySearchConfig;
+import org.banking.performance.CapacitySearchResult;
+import org.banking.performance.LoadConfig;
+import org.banking.performance.LoadResult;
+import org.banking.performance.ReconciliationConfig;
+import org.banking.performance.ReconciliationResult;
+import org.banking.performance.VirtualUserConfig;
+import org.banking.performance.VirtualUserResult;
+import org.banking.utils.ConfigReader;
+import org.testng.ITestContext;
+
+public class PerformanceBaseTest extends BaseTest {
+
+    // Suite XML parameters use the same keys as application.properties and take precedence
+    protected String parameter(ITestContext context, String key, String defaultValue) {
+        String value = context.getCurrentXmlTest().getParameter(key);
+        if (value == null || value.trim().isEmpty()) {
+            return ConfigReader.getProperty(key, defaultValue);
+        }
+        return value.trim();
+    }
+
+    protected int intParameter(ITestContext context, String key, int defaultValue) {
+        return Integer.parseInt(parameter(context, key, String.valueOf(defaultValue)));
+    }
+
+    protected double doubleParameter(ITestContext context, String key, double defaultValue) {
+        return Double.parseDouble(parameter(context, key, String.valueOf(defaultValue)));
+    }
+
+    protected LoadConfig loadConfig(ITestContext context) {
+        LoadConfig defaults = LoadConfig.fromProperties();
+        return LoadConfig.builder()
+                .targetRps(doubleParameter(context, "perf.target.rps", defaults.getTargetRps()))
+                .durationSeconds(intParameter(context, "perf.duration.seconds", defaults.getDurationSeconds()))
+                .reportIntervalSeconds(intParameter(context, "perf.report.interval.seconds",
+                        defaults.getReportIntervalSeconds()))
+                .drainTimeoutSeconds(intParameter(context, "perf.drain.timeout.seconds",
+                        defaults.getDrainTimeoutSeconds()))
+                .seed(Long.parseLong(parameter(context, "perf.seed", String.valueOf(defaults.getSeed()))))
+                .serviceLoggingEnabled(Boolean.parseBoolean(parameter(context, "perf.service.logging.enabled",
+                        String.valueOf(defaults.isServiceLoggingEnabled()))))
+                .build();
+    }
+
+    protected VirtualUserConfig virtualUserConfig(ITestContext context) {
+        VirtualUserConfig defaults = VirtualUserConfig.fromProperties();
+        return VirtualUserConfig.builder()
+                .virtualUsers(intParameter(context, "perf.vu.users", defaults.getVirtualUsers()))
+                .rampUpSeconds(intParameter(context, "perf.vu.rampup.seconds", defaults.getRampUpSeconds()))
+                .steadyStateSeconds(intParameter(context, "perf.vu.steady.seconds", defaults.getSteadyStateSeconds()))
+                .rampDownSeconds(intParameter(context, "perf.vu.rampdown.seconds", defaults.getRampDownSeconds()))
+                .thinkTime(parameter(context, "perf.vu.think.time", defaults.getThinkTime()))
+                .reportIntervalSeconds(intParameter(context, "perf.report.interval.seconds",
+                        defaults.getReportIntervalSeconds()))
+                .seed(Long.parseLong(parameter(context, "perf.seed", String.valueOf(defaults.getSeed()))))
+                .serviceLoggingEnabled(Boolean.parseBoolean(parameter(context, "perf.service.logging.enabled",
+                        String.valueOf(defaults.isServiceLoggingEnabled()))))
+                .build();
+    }
+
+    protected ReconciliationConfig reconciliationConfig(ITestContext context) {
+        ReconciliationConfig defaults = ReconciliationConfig.fromProperties();
+        return ReconciliationConfig.builder()
+                .parallelism(intParameter(context, "reconcile.parallelism", defaults.getParallelism()))
+                .accountsPerTask(intParameter(context, "reconcile.accounts.per.task", defaults.getAccountsPerTask()))
+                .maxReportedMismatches(intParameter(context, "reconcile.max.reported.mismatches",
+                        defaults.getMaxReportedMismatches()))
+                .serviceLoggingEnabled(Boolean.parseBoolean(parameter(context, "perf.service.logging.enabled",
+                        String.valueOf(defaults.isServiceLoggingEnabled()))))
+                .build();
+    }
+
+    protected CapacitySearchConfig capacitySearchConfig(ITestContext context) {
+        CapacitySearchConfig defaults = CapacitySearchConfig.fromProperties();
+        return CapacitySearchConfig.builder()
+                .startRps(doubleParameter(context, "perf.capacity.start.rps", defaults.getStartRps()))
+                .growthFactor(doubleParameter(context, "perf.capacity.growth.factor", defaults.getGrowthFactor()))
+                .maxRps(doubleParameter(context, "perf.capacity.max.rps", defaults.getMaxRps()))
+                .stepSeconds(intParameter(context, "perf.capacity.step.seconds", defaults.getStepSeconds()))
+                .cooldownSeconds(intParameter(context, "perf.capacity.cooldown.seconds", defaults.getCooldownSeconds()))
+                .resolution(doubleParameter(context, "perf.capacity.resolution", defaults.getResolution()))
+                .maxSteps(intParameter(context, "perf.capacity.max.steps", defaults.getMaxSteps()))
+                .maxP99Millis(doubleParameter(context, "perf.capacity.max.p99.ms", defaults.getMaxP99Millis()))
+                .maxErrorRate(doubleParameter(context, "perf.capacity.max.error.rate", defaults.getMaxErrorRate()))
+                .minThroughputRatio(doubleParameter(context, "perf.capacity.min.throughput.ratio",
+                        defaults.getMinThroughputRatio()))
+                .maxDispatchLagMillis(doubleParameter(context, "perf.capacity.max.dispatch.lag.ms",
+                        defaults.getMaxDispatchLagMillis()))
+                .build();
+    }
+
+    protected void attachResult(LoadResult result) {
+        Allure.addAttachment("Load Result - " + result.getName(), "text/plain", result.formatSummary());
+    }
+
+    protected void attachResult(VirtualUserResult result) {
+        Allure.addAttachment("Virtual User Result - " + result.getName(), "text/plain", result.formatSummary());
+    }
+
+    protected void attachResult(CapacitySearchResult result) {
+        Allure.addAttachment("Capacity Search - " + result.getName(), "text/plain", result.formatSummary());
+    }
+
+    protected void attachResult(ReconciliationResult result) {
+        Allure.addAttachment("Ledger Reconciliation", "text/plain", result.formatSummary());
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.base;
+
+import io.qameta.allure.restassured.AllureRestAssured;
+import io.restassured.RestAssured;
+import io.restassured.specification.RequestSpecification;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.banking.metrics.LatencyRecordingFilter;
+import org.banking.metrics.PhaseTimingHttpClient;
+import org.banking.resilience.CircuitBreakerFilter;
+import org.banking.resilience.ConcurrencyLimitFilter;
+import org.banking.resilience.RequestTimeoutFilter;
+import org.banking.utils.ConfigReader;
+
+public class RequestSpecFactory {
+
+    private static final Logger logger = LogManager.getLogger(RequestSpecFactory.class);
+
+    // Request specification used by functional tests (reported to Allure, guarded by the backend circuit breaker)
+    public static RequestSpecification newRequestSpec() {
+        RequestSpecification spec = baseSpec(RestAssured.given())
+                .filter(new AllureRestAssured());
+        if (ConfigReader.getBooleanProperty("circuit.enabled", true)) {
+            spec.filter(CircuitBreakerFilter.INSTANCE);
+        }
+        // Protection mode for shared environments: adapts the suite's concurrency to the backend
+        if (ConfigReader.getBooleanProperty("limiter.enabled", false)) {
+            spec.filter(ConcurrencyLimitFilter.INSTANCE);
+        }
+        return spec;
+    }
+
+    // Lightweight request specification for load generation: no logging or Allure filters.
+    // A new instance must be created per request because RequestSpecification is mutable.
+    public static RequestSpecification newLoadRequestSpec() {
+        return baseSpec(RestAssured.given().noFilters());
+    }
+
+    private static RequestSpecification baseSpec(RequestSpecification spec) {
+        spec.header("Content-Type", "application/json")
+                .header("Accept", "application/json")
+                .filter(RequestTimeoutFilter.INSTANCE)
+                .filter(LatencyRecordingFilter.INSTANCE)
+                .config(RestAssured.config().httpClient(RestAssured.config().getHttpClientConfig()
+                        .httpClientFactory(PhaseTimingHttpClient.FACTORY)));
+
+        // Add authentication if needed
+        String authToken = ConfigReader.getAuthToken();
+        if (!authToken.isEmpty()) {
+            spec.header("Authorization", "Bearer " + authToken);
+            logger.debug("Authorization header added");
+        }
+
+        return spec;
+    }
+}
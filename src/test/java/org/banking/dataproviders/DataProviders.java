@@ -12,6 +12,7 @@ import org.banking.dto.TransactionDto;
 import org.banking.dto.UserDto;
 import org.banking.utils.ExcelDataReader;
 import org.banking.utils.JsonDataReader;
+import org.banking.utils.TestDataGenerator;
 import org.testng.annotations.DataProvider;
 
 import java.math.BigDecimal;
@@ -129,8 +130,8 @@ public class DataProviders {
 
     public static UserDto createValidUserDto() {
         return UserDto.builder()
-                .username(faker.name().username())
-                .email(faker.internet().emailAddress())
+                .username(TestDataGenerator.namespaced(faker.name().username()))
+                .email(TestDataGenerator.namespaced(faker.internet().emailAddress()))
                 .password(faker.internet().password(8, 20))
                 .phoneNumber("+1234567890")
                 .fullName(faker.name().fullName())
@@ -6,6 +6,7 @@
  */
 package org.banking.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -34,4 +35,9 @@ public class AccountDto {
 
     @JsonProperty("creditLimit")
     private BigDecimal creditLimit;
+
+    // Omitted when null, so the server applies its default currency
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @JsonProperty("currency")
+    private String currency;
 }
\ No newline at end of file
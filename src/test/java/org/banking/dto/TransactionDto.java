@@ -6,6 +6,7 @@
  */
 package org.banking.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -37,4 +38,19 @@ public class TransactionDto {
 
     @JsonProperty("toAccountId")
     private Long toAccountId;
+
+    // Set by TransactionBatchClient on every transaction of a batch; omitted for single transactions
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @JsonProperty("batchId")
+    private String batchId;
+
+    // ISO local date-time (yyyy-MM-ddTHH:mm:ss) the transaction is due; null executes it at once
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @JsonProperty("scheduledDate")
+    private String scheduledDate;
+
+    // The recurring series this occurrence belongs to, if any
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @JsonProperty("recurringTransactionId")
+    private Long recurringTransactionId;
 }
\ No newline at end of file
@@ -0,0 +1,80 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.listeners;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.banking.scheduling.TestDurationHistory;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestContext;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Schedules the longest tests first (longest processing time first), using the durations kept by
+ * {@link TestDurationHistory}, so a long E2E flow does not start last and stretch the wall time
+ * of a parallel run. Tests without history are estimated at the average. TestNG still honours
+ * dependsOnMethods and priorities on top of this order. Durations of this run are recorded per
+ * method and written back to the history file when a suite finishes.
+ */
+public class DurationOrderingListener implements IMethodInterceptor, ITestListener, ISuiteListener {
+
+    private static final Logger logger = LogManager.getLogger(DurationOrderingListener.class);
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        double defaultMillis = TestDurationHistory.defaultMillis();
+        List<IMethodInstance> ordered = new ArrayList<>(methods);
+        // Stable sort: equal estimates (e.g. no history yet) keep TestNG's order
+        ordered.sort(Comparator.comparingDouble((IMethodInstance instance) -> TestDurationHistory
+                .averageMillis(instance.getMethod().getQualifiedName()).orElse(defaultMillis)).reversed());
+        if (logger.isDebugEnabled()) {
+            ordered.forEach(instance -> logger.debug("Scheduled " + instance.getMethod().getQualifiedName()));
+        }
+        return ordered;
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        record(result);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        record(result);
+    }
+
+    @Override
+    public void onTestFailedButWithinSuccessPercentage(ITestResult result) {
+        record(result);
+    }
+
+    // A failed attempt that RetryAnalyzer re-runs is reported as skipped, but it did take the time
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        if (result.wasRetried()) {
+            record(result);
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        TestDurationHistory.flush();
+    }
+
+    private void record(ITestResult result) {
+        TestDurationHistory.record(result.getMethod().getQualifiedName(),
+                result.getEndMillis() - result.getStartMillis());
+    }
+}
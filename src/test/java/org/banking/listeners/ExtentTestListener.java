@@ -9,10 +9,15 @@ package org.banking.listeners;
 import com.aventstack.extentreports.ExtentReports;
 import com.aventstack.extentreports.ExtentTest;
 import com.aventstack.extentreports.Status;
+import com.aventstack.extentreports.markuputils.MarkupHelper;
 import com.aventstack.extentreports.reporter.ExtentSparkReporter;
+import com.aventstack.extentreports.reporter.JsonFormatter;
 import com.aventstack.extentreports.reporter.configuration.Theme;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.banking.metrics.EndpointLatency;
+import org.banking.metrics.EndpointLatencyRecorder;
+import org.banking.utils.ConfigReader;
 import org.testng.ITestListener;
 import org.testng.ITestResult;
 import org.testng.ISuite;
@@ -20,6 +25,7 @@ import org.testng.ISuiteListener;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Map;
 
 public class ExtentTestListener implements ITestListener, ISuiteListener {
 
@@ -30,7 +36,8 @@ public class ExtentTestListener implements ITestListener, ISuiteListener {
     @Override
     public void onStart(ISuite suite) {
         String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss"));
-        String reportPath = "test-output/ExtentReport_" + timestamp + ".html";
+        String reportPath = ConfigReader.getProperty("extent.report.dir", "test-output")
+                + "/ExtentReport_" + timestamp + ".html";
 
         ExtentSparkReporter sparkReporter = new ExtentSparkReporter(reportPath);
         sparkReporter.config().setDocumentTitle("Banking API Test Report");
@@ -39,6 +46,11 @@ public class ExtentTestListener implements ITestListener, ISuiteListener {
 
         extentReports = new ExtentReports();
         extentReports.attachReporter(sparkReporter);
+        // Set by ShardedRunner for each fork; the JSON archives are combined into one report afterwards
+        String jsonPath = ConfigReader.getProperty("extent.json.file", "");
+        if (!jsonPath.isBlank()) {
+            extentReports.attachReporter(new JsonFormatter(jsonPath));
+        }
         extentReports.setSystemInfo("Environment", System.getProperty("env", "test"));
         extentReports.setSystemInfo("User", System.getProperty("user.name"));
         extentReports.setSystemInfo("OS", System.getProperty("os.name"));
@@ -49,32 +61,53 @@ public class ExtentTestListener implements ITestListener, ISuiteListener {
 
     @Override
     public void onTestStart(ITestResult result) {
-        ExtentTest test = extentReports.createTest(
-                result.getTestClass().getName() + " :: " + result.getMethod().getMethodName(),
-                result.getMethod().getDescription()
-        );
-        extentTest.set(test);
+        extentTest.set(createTest(result));
     }
 
     @Override
     public void onTestSuccess(ITestResult result) {
-        extentTest.get().log(Status.PASS, "Test Passed");
+        currentTest(result).log(Status.PASS, "Test Passed");
+        extentTest.remove();
     }
 
     @Override
     public void onTestFailure(ITestResult result) {
-        extentTest.get().log(Status.FAIL, "Test Failed");
-        extentTest.get().log(Status.FAIL, result.getThrowable());
+        ExtentTest test = currentTest(result);
+        test.log(Status.FAIL, "Test Failed");
+        test.log(Status.FAIL, result.getThrowable());
+        extentTest.remove();
     }
 
     @Override
     public void onTestSkipped(ITestResult result) {
-        extentTest.get().log(Status.SKIP, "Test Skipped");
-        extentTest.get().log(Status.SKIP, result.getThrowable());
+        ExtentTest test = currentTest(result);
+        test.log(Status.SKIP, "Test Skipped");
+        test.log(Status.SKIP, result.getThrowable());
+        extentTest.remove();
+    }
+
+    // Worker threads are reused across methods, so the entry is removed once a result is logged;
+    // results reported without onTestStart (e.g. skipped after a configuration failure) get their own node
+    private ExtentTest currentTest(ITestResult result) {
+        ExtentTest test = extentTest.get();
+        return test != null ? test : createTest(result);
+    }
+
+    private ExtentTest createTest(ITestResult result) {
+        return extentReports.createTest(
+                result.getTestClass().getName() + " :: " + result.getMethod().getMethodName(),
+                result.getMethod().getDescription()
+        );
     }
 
     @Override
     public void onFinish(ISuite suite) {
+        Map<String, EndpointLatency> latency = EndpointLatencyRecorder.snapshot();
+        if (!latency.isEmpty()) {
+            extentReports.createTest("Endpoint Latency Summary")
+                    .info(MarkupHelper.createCodeBlock(EndpointLatencyRecorder.formatSummary(latency)));
+        }
+
         extentReports.flush();
         logger.info("ExtentReports flushed successfully");
     }
@@ -0,0 +1,101 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.listeners;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.model.Status;
+import io.qameta.allure.model.TestResult;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.banking.metrics.ConsistencyRecorder;
+import org.banking.metrics.EndpointLatency;
+import org.banking.metrics.EndpointLatencyRecorder;
+import org.banking.metrics.HistogramArchive;
+import org.banking.utils.ConfigReader;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.UUID;
+
+// Exports per-endpoint latency percentiles (and time-to-consistency of awaits) at suite end to a file and to Allure
+public class LatencyReportListener implements ISuiteListener {
+
+    private static final Logger logger = LogManager.getLogger(LatencyReportListener.class);
+
+    @Override
+    public void onStart(ISuite suite) {
+        EndpointLatencyRecorder.reset();
+        ConsistencyRecorder.reset();
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        Map<String, EndpointLatency> snapshot = EndpointLatencyRecorder.snapshot();
+        if (snapshot.isEmpty()) {
+            return;
+        }
+        String report = EndpointLatencyRecorder.formatSummary(snapshot);
+        if (!ConsistencyRecorder.isEmpty()) {
+            report += System.lineSeparator() + ConsistencyRecorder.formatReport();
+        }
+        logger.info("Endpoint latency for suite " + suite.getName() + ":\n" + report);
+        writeReportFile(suite, report);
+        writeHistogramArchive(snapshot);
+        attachToAllure(suite, report);
+    }
+
+    // Set by ShardedRunner for each fork, so the forks' latency can be merged without loss
+    private void writeHistogramArchive(Map<String, EndpointLatency> snapshot) {
+        String archive = ConfigReader.getProperty("metrics.histogram.file", "");
+        if (archive.isBlank()) {
+            return;
+        }
+        try {
+            HistogramArchive.write(snapshot, Paths.get(archive));
+        } catch (IOException e) {
+            logger.error("Failed to write latency histogram archive: " + e.getMessage());
+        }
+    }
+
+    private void writeReportFile(ISuite suite, String report) {
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss"));
+        Path reportPath = Paths.get(ConfigReader.getProperty("metrics.report.dir", "test-output/metrics"),
+                "EndpointLatency_" + suite.getName().replaceAll("\\W+", "_") + "_" + timestamp + ".txt");
+        try {
+            Files.createDirectories(reportPath.getParent());
+            Files.write(reportPath, report.getBytes(StandardCharsets.UTF_8));
+            logger.info("Endpoint latency report written to: " + reportPath);
+        } catch (IOException e) {
+            logger.error("Failed to write endpoint latency report: " + e.getMessage());
+        }
+    }
+
+    // No test is running at suite end, so the report is published as its own Allure result
+    private void attachToAllure(ISuite suite, String report) {
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        String uuid = UUID.randomUUID().toString();
+        lifecycle.scheduleTestCase(new TestResult()
+                .setUuid(uuid)
+                .setName("Endpoint Latency: " + suite.getName())
+                .setFullName(suite.getName() + ".endpointLatency")
+                .setStatus(Status.PASSED));
+        lifecycle.startTestCase(uuid);
+        lifecycle.addAttachment("Endpoint Latency", "text/plain", ".txt",
+                report.getBytes(StandardCharsets.UTF_8));
+        lifecycle.stopTestCase(uuid);
+        lifecycle.writeTestCase(uuid);
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.listeners;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.banking.utils.ConfigReader;
+import org.banking.utils.VirtualThreadExecutorFactory;
+import org.testng.ITestContext;
+import org.testng.ITestListener;
+import org.testng.internal.IConfiguration;
+import org.testng.xml.XmlSuite;
+
+import java.lang.reflect.Field;
+
+/**
+ * Installs {@link VirtualThreadExecutorFactory} for tests running in parallel. The supported way
+ * is TestNG's {@code -threadpoolfactoryclass} option, which {@code ShardedRunner} passes to its
+ * forks. Surefire hands TestNG its options through {@code TestNG.configure(Map)}, which ignores
+ * that one, so under Maven the factory is set on the run configuration when a test starts, before
+ * TestNG creates that test's method executor. That reaches into TestNG internals: if they change,
+ * the run fails here rather than quietly losing the virtual threads. Only done when
+ * {@code test.virtual.threads=true}; otherwise TestNG keeps its own executor.
+ */
+public class ParallelExecutionListener implements ITestListener {
+
+    private static final Logger logger = LogManager.getLogger(ParallelExecutionListener.class);
+
+    @Override
+    public void onStart(ITestContext context) {
+        XmlSuite.ParallelMode parallel = context.getCurrentXmlTest().getParallel();
+        if (parallel == null || parallel == XmlSuite.ParallelMode.NONE
+                || !ConfigReader.getBooleanProperty("test.virtual.threads", false)
+                || VirtualThreadExecutorFactory.isInstalled()) {
+            return;
+        }
+        IConfiguration configuration;
+        try {
+            // The context is TestNG's TestRunner; its configuration is shared by the whole run
+            Field field = context.getClass().getDeclaredField("m_configuration");
+            field.setAccessible(true);
+            configuration = (IConfiguration) field.get(context);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            throw new IllegalStateException("Cannot install " + VirtualThreadExecutorFactory.class.getSimpleName()
+                    + " on " + context.getClass().getName() + " (TestNG internals changed?). Pass "
+                    + "-threadpoolfactoryclass " + VirtualThreadExecutorFactory.class.getName()
+                    + " or set test.virtual.threads=false", e);
+        }
+        configuration.setExecutorFactory(new VirtualThreadExecutorFactory());
+        logger.info("Parallel test " + context.getName() + " will run methods on "
+                + VirtualThreadExecutorFactory.class.getSimpleName());
+    }
+}
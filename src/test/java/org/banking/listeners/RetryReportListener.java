@@ -0,0 +1,92 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.listeners;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.model.Status;
+import io.qameta.allure.model.TestResult;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.banking.metrics.RequestTiming;
+import org.banking.utils.RetryAnalyzer;
+import org.banking.utils.RetryBudget;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Feeds RetryBudget with executions and recoveries and reports the cost of retries at suite end
+public class RetryReportListener implements ITestListener, ISuiteListener {
+
+    private static final Logger logger = LogManager.getLogger(RetryReportListener.class);
+    // Invocations (method, instance, parameters) that have been retried at least once
+    private static final Set<String> retried = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public void onStart(ISuite suite) {
+        RetryBudget.reset();
+        retried.clear();
+    }
+
+    @Override
+    public void onTestStart(ITestResult result) {
+        RetryBudget.recordExecution();
+        result.setAttribute(RetryAnalyzer.REQUESTS_AT_START, RequestTiming.callCount());
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        if (retried.remove(invocationKey(result))) {
+            RetryBudget.recordRecovered();
+        }
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        retried.remove(invocationKey(result));
+    }
+
+    // TestNG reports an attempt that will be retried as skipped with wasRetried() set
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        if (result.wasRetried()) {
+            retried.add(invocationKey(result));
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (RetryBudget.getRetries() == 0 && RetryBudget.getDeniedByBudget() == 0) {
+            return;
+        }
+        String report = RetryBudget.formatReport();
+        logger.info("Retries in suite " + suite.getName() + ":\n" + report);
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        String uuid = UUID.randomUUID().toString();
+        lifecycle.scheduleTestCase(new TestResult()
+                .setUuid(uuid)
+                .setName("Retry Report: " + suite.getName())
+                .setFullName(suite.getName() + ".retryReport")
+                .setStatus(Status.PASSED));
+        lifecycle.startTestCase(uuid);
+        lifecycle.addAttachment("Retry Report", "text/plain", ".txt", report.getBytes(StandardCharsets.UTF_8));
+        lifecycle.stopTestCase(uuid);
+        lifecycle.writeTestCase(uuid);
+    }
+
+    private static String invocationKey(ITestResult result) {
+        return result.getMethod().getQualifiedName() + "@" + System.identityHashCode(result.getInstance())
+                + Arrays.deepToString(result.getParameters());
+    }
+}
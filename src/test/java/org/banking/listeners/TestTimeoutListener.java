@@ -0,0 +1,133 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.listeners;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.banking.resilience.InFlightRequests;
+import org.banking.resilience.TestTimeoutException;
+import org.banking.utils.ConfigReader;
+import org.banking.utils.ExecutorUtils;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Enforces a time budget on every test method: test.timeout, overridable per group with
+ * test.timeout.&lt;group&gt; (0 = no budget); a method's own timeOut attribute wins. When the budget
+ * runs out, the test's in-flight HTTP calls are aborted and its thread is interrupted, so the
+ * worker is freed at once, and the test fails with a {@link TestTimeoutException}. The test is
+ * not moved to a helper thread the way TestNG's timeOut does it, so thread-local state such as
+ * the request spec keeps working.
+ */
+public class TestTimeoutListener implements IInvokedMethodListener {
+
+    private static final Logger logger = LogManager.getLogger(TestTimeoutListener.class);
+    private static final String DEADLINE = "timeout.deadline";
+    private static final ScheduledThreadPoolExecutor watchdog = newWatchdog();
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult result) {
+        if (!method.isTestMethod()) {
+            return;
+        }
+        ITestNGMethod testMethod = method.getTestMethod();
+        long budget = budgetMillis(testMethod);
+        if (budget > 0) {
+            // With its own timeOut, TestNG runs the method on a helper thread and frees the worker itself
+            result.setAttribute(DEADLINE, new Deadline(budget, testMethod.getTimeOut() <= 0));
+        }
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult result) {
+        Object attribute = result.removeAttribute(DEADLINE);
+        if (!(attribute instanceof Deadline)) {
+            return;
+        }
+        Deadline deadline = (Deadline) attribute;
+        if (!deadline.finish()) {
+            return;
+        }
+        String message = "Test " + method.getTestMethod().getQualifiedName() + " exceeded its time budget of "
+                + deadline.budgetMillis + " ms; aborted " + deadline.scope.getAbortedCount() + " HTTP request(s)";
+        logger.error(message);
+        result.setStatus(ITestResult.FAILURE);
+        result.setThrowable(new TestTimeoutException(message, result.getThrowable()));
+    }
+
+    public static long budgetMillis(ITestNGMethod testMethod) {
+        if (testMethod.getTimeOut() > 0) {
+            return testMethod.getTimeOut();
+        }
+        for (String group : testMethod.getGroups()) {
+            String key = "test.timeout." + group;
+            if (ConfigReader.hasProperty(key)) {
+                return ConfigReader.getLongProperty(key, 0);
+            }
+        }
+        return ConfigReader.getTestTimeout();
+    }
+
+    private static ScheduledThreadPoolExecutor newWatchdog() {
+        ScheduledThreadPoolExecutor executor =
+                new ScheduledThreadPoolExecutor(1, ExecutorUtils.daemonThreadFactory("test-watchdog"));
+        // Almost every deadline is cancelled; do not keep them queued until they would have fired
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
+    }
+
+    private static final class Deadline {
+        private final long budgetMillis;
+        private final boolean interrupt;
+        private final Thread thread = Thread.currentThread();
+        private final InFlightRequests.Scope scope = InFlightRequests.open();
+        private final ScheduledFuture<?> expiry;
+        // Guarded by this
+        private boolean finished;
+        private boolean expired;
+
+        private Deadline(long budgetMillis, boolean interrupt) {
+            this.budgetMillis = budgetMillis;
+            this.interrupt = interrupt;
+            this.expiry = watchdog.schedule(this::expire, budgetMillis, TimeUnit.MILLISECONDS);
+        }
+
+        private synchronized void expire() {
+            if (finished) {
+                return;
+            }
+            expired = true;
+            scope.abortAll();
+            if (interrupt) {
+                // For tests blocked on something other than a socket (sleeps, futures, locks)
+                thread.interrupt();
+            }
+        }
+
+        // Returns whether the budget ran out; called on the test thread once the method has returned
+        private boolean finish() {
+            boolean timedOut;
+            synchronized (this) {
+                finished = true;
+                timedOut = expired;
+            }
+            expiry.cancel(false);
+            scope.close();
+            if (timedOut && interrupt) {
+                // Do not leak the interrupt into the next method run by this worker
+                Thread.interrupted();
+            }
+            return timedOut;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.listeners;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.banking.metrics.EndpointLatencyRecorder;
+import org.banking.performance.WarmUpConfig;
+import org.banking.performance.WarmUpPhase;
+import org.banking.utils.ConfigReader;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Warms the backend up before the first suite of the run (see {@link WarmUpPhase}) so the first
+ * tests do not pay for JIT compilation and cold caches. Warm-up requests are discarded from the
+ * endpoint latency metrics. Off unless warmup.enabled is true; suites that report latency set it as
+ * a suite parameter, which a -Dwarmup.enabled system property overrides.
+ */
+public class WarmUpListener implements ISuiteListener {
+
+    private static final Logger logger = LogManager.getLogger(WarmUpListener.class);
+    // Parent and child suites each start; the backend only needs warming once per JVM
+    private static final AtomicBoolean warmedUp = new AtomicBoolean();
+
+    @Override
+    public void onStart(ISuite suite) {
+        WarmUpConfig config = WarmUpConfig.fromProperties();
+        String enabled = suite.getParameter("warmup.enabled");
+        if (enabled != null && System.getProperty("warmup.enabled") == null) {
+            config.setEnabled(Boolean.parseBoolean(enabled));
+        }
+        if (!config.isEnabled() || !warmedUp.compareAndSet(false, true)) {
+            return;
+        }
+        logger.info("Warming up " + ConfigReader.getProperty("base.url", "http://localhost") + " before suite "
+                + suite.getName());
+        WarmUpPhase warmUp = new WarmUpPhase(config);
+        warmUp.run();
+        if (warmUp.isConverged()) {
+            logger.info(warmUp.formatSummary());
+        } else {
+            logger.warn(warmUp.formatSummary());
+        }
+        EndpointLatencyRecorder.reset();
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.metrics;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Time-to-consistency per awaited condition ("transaction COMPLETED"): how long it took from the
+ * first poll until the condition held, as observed by {@link org.banking.utils.Await}. Waits that
+ * ran into their deadline are counted separately. Times are in nanoseconds.
+ */
+public final class ConsistencyRecorder {
+
+    private static final ConcurrentMap<String, ConditionStats> conditions = new ConcurrentSkipListMap<>();
+
+    private ConsistencyRecorder() {
+    }
+
+    public static void record(String condition, long nanos, int polls) {
+        ConditionStats stats = stats(condition);
+        stats.histogram.recordValue(Math.max(0, nanos));
+        stats.polls.add(polls);
+    }
+
+    public static void recordTimeout(String condition, int polls) {
+        ConditionStats stats = stats(condition);
+        stats.timeouts.increment();
+        stats.polls.add(polls);
+    }
+
+    public static boolean isEmpty() {
+        return conditions.isEmpty();
+    }
+
+    public static void reset() {
+        conditions.clear();
+    }
+
+    public static String formatReport() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%-48s %7s %9s %9s %9s %9s %9s %10s%n",
+                "Awaited condition", "Count", "TimedOut", "p50(ms)", "p90(ms)", "p99(ms)", "max(ms)", "polls/wait"));
+        for (Map.Entry<String, ConditionStats> entry : conditions.entrySet()) {
+            ConditionStats stats = entry.getValue();
+            Histogram histogram = stats.histogram.copy();
+            long waits = histogram.getTotalCount() + stats.timeouts.sum();
+            sb.append(String.format("%-48s %7d %9d %9.2f %9.2f %9.2f %9.2f %10.1f%n",
+                    entry.getKey(), histogram.getTotalCount(), stats.timeouts.sum(),
+                    histogram.getValueAtPercentile(50) / 1_000_000.0,
+                    histogram.getValueAtPercentile(90) / 1_000_000.0,
+                    histogram.getValueAtPercentile(99) / 1_000_000.0,
+                    histogram.getMaxValue() / 1_000_000.0,
+                    waits == 0 ? 0.0 : (double) stats.polls.sum() / waits));
+        }
+        return sb.toString();
+    }
+
+    private static ConditionStats stats(String condition) {
+        ConditionStats stats = conditions.get(condition);
+        return stats != null ? stats : conditions.computeIfAbsent(condition, key -> new ConditionStats());
+    }
+
+    private static final class ConditionStats {
+        private final ConcurrentHistogram histogram = new ConcurrentHistogram(3);
+        private final LongAdder timeouts = new LongAdder();
+        private final LongAdder polls = new LongAdder();
+
+        private ConditionStats() {
+            histogram.setAutoResize(true);
+        }
+    }
+}
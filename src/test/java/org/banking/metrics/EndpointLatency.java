@@ -0,0 +1,79 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.metrics;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+
+// Immutable snapshot of one endpoint's latency distribution (nanoseconds)
+public class EndpointLatency {
+
+    private final String endpoint;
+    private final Histogram histogram;
+    private final Map<RequestPhase, Histogram> phases;
+    private final Histogram responseBytes;
+    private final long errorCount;
+
+    public EndpointLatency(String endpoint, Histogram histogram, Map<RequestPhase, Histogram> phases,
+                           Histogram responseBytes, long errorCount) {
+        this.endpoint = endpoint;
+        this.histogram = histogram;
+        this.phases = phases;
+        this.responseBytes = responseBytes;
+        this.errorCount = errorCount;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public Histogram getHistogram() {
+        return histogram.copy();
+    }
+
+    public long getCount() {
+        return histogram.getTotalCount();
+    }
+
+    public long getErrorCount() {
+        return errorCount;
+    }
+
+    public double getErrorRate() {
+        long count = getCount();
+        return count == 0 ? 0.0 : (double) errorCount / count;
+    }
+
+    public double getPercentileMillis(double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1_000_000.0;
+    }
+
+    public double getMaxMillis() {
+        return histogram.getMaxValue() / 1_000_000.0;
+    }
+
+    public Histogram getPhaseHistogram(RequestPhase phase) {
+        return phases.get(phase).copy();
+    }
+
+    public long getPhaseCount(RequestPhase phase) {
+        return phases.get(phase).getTotalCount();
+    }
+
+    public double getPhasePercentileMillis(RequestPhase phase, double percentile) {
+        return phases.get(phase).getValueAtPercentile(percentile) / 1_000_000.0;
+    }
+
+    public Histogram getResponseBytesHistogram() {
+        return responseBytes.copy();
+    }
+
+    public long getResponseBytesAtPercentile(double percentile) {
+        return responseBytes.getValueAtPercentile(percentile);
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.metrics;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.PackedHistogram;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Process-wide latency registry keyed by endpoint ("GET /accounts/{id}"). Each endpoint has a
+ * fixed set of locked {@link PackedHistogram} stripes, picked by thread hash, so concurrent writers
+ * rarely share a lock and short-lived (virtual) request threads allocate nothing; readers drain the
+ * stripes into cumulative histograms. Besides the total, each {@link RequestPhase} and the
+ * response size are recorded. Latencies are in nanoseconds.
+ *
+ * <p>The stripes are not HdrHistogram {@code Recorder}s: the packed one (2.1.12) can spin forever
+ * when an interval is taken during a write, and the unpacked one costs hundreds of KB per stripe.
+ */
+public final class EndpointLatencyRecorder {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+    // Power of two, at least twice the cores, so the stripe is a mask of the thread hash
+    private static final int STRIPES = Integer.highestOneBit(
+            Math.max(1, Runtime.getRuntime().availableProcessors() * 4 - 1));
+
+    private static final ConcurrentMap<String, EndpointRecorders[]> recorders = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    // Guarded by EndpointLatencyRecorder.class
+    private static final Map<String, EndpointHistograms> cumulative = new TreeMap<>();
+
+    private EndpointLatencyRecorder() {
+    }
+
+    // Error = server error (5xx) or a transport failure with no response at all
+    public static void record(String endpoint, RequestTiming timing, boolean error) {
+        EndpointRecorders[] stripes = recorders.get(endpoint);
+        if (stripes == null) {
+            stripes = recorders.computeIfAbsent(endpoint, key -> newStripes());
+        }
+        int hash = System.identityHashCode(Thread.currentThread());
+        stripes[(hash ^ (hash >>> 16)) & (STRIPES - 1)].record(timing);
+        if (error) {
+            errors.computeIfAbsent(endpoint, key -> new LongAdder()).increment();
+        }
+    }
+
+    // Cumulative latency per endpoint since the last reset, sorted by endpoint
+    public static synchronized Map<String, EndpointLatency> snapshot() {
+        drain(false);
+        Map<String, EndpointLatency> result = new LinkedHashMap<>();
+        cumulative.forEach((endpoint, histograms) -> {
+            LongAdder errorCount = errors.get(endpoint);
+            Map<RequestPhase, Histogram> phases = new EnumMap<>(RequestPhase.class);
+            histograms.phases.forEach((phase, histogram) -> phases.put(phase, histogram.copy()));
+            result.put(endpoint, new EndpointLatency(endpoint, histograms.total.copy(), phases,
+                    histograms.responseBytes.copy(), errorCount == null ? 0 : errorCount.sum()));
+        });
+        return Collections.unmodifiableMap(result);
+    }
+
+    public static synchronized void reset() {
+        drain(true);
+        cumulative.clear();
+        errors.clear();
+    }
+
+    public static String formatReport(Map<String, EndpointLatency> snapshot) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%-48s %9s %8s %9s %9s %9s %10s %9s%n",
+                "Endpoint", "Count", "Errors", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)"));
+        for (EndpointLatency latency : snapshot.values()) {
+            sb.append(String.format("%-48s %9d %8d %9.2f %9.2f %9.2f %10.2f %9.2f%n",
+                    latency.getEndpoint(), latency.getCount(), latency.getErrorCount(),
+                    latency.getPercentileMillis(50), latency.getPercentileMillis(90),
+                    latency.getPercentileMillis(99), latency.getPercentileMillis(99.9),
+                    latency.getMaxMillis()));
+        }
+        return sb.toString();
+    }
+
+    // Latency percentiles followed by the phase breakdown
+    public static String formatSummary(Map<String, EndpointLatency> snapshot) {
+        return formatReport(snapshot) + System.lineSeparator() + formatPhaseReport(snapshot);
+    }
+
+    // Where the time goes per endpoint: p50/p99 of each client-side phase and the median payload
+    public static String formatPhaseReport(Map<String, EndpointLatency> snapshot) {
+        StringBuilder sb = new StringBuilder(String.format("%-48s", "Endpoint (p50/p99 ms)"));
+        for (RequestPhase phase : RequestPhase.values()) {
+            sb.append(String.format(" %17s", phase.getLabel()));
+        }
+        sb.append(String.format(" %11s%n", "bytes(p50)"));
+        for (EndpointLatency latency : snapshot.values()) {
+            sb.append(String.format("%-48s", latency.getEndpoint()));
+            for (RequestPhase phase : RequestPhase.values()) {
+                sb.append(latency.getPhaseCount(phase) == 0 ? String.format(" %17s", "n/a")
+                        : String.format(" %8.3f/%8.3f", latency.getPhasePercentileMillis(phase, 50),
+                        latency.getPhasePercentileMillis(phase, 99)));
+            }
+            sb.append(String.format(" %11d%n", latency.getResponseBytesAtPercentile(50)));
+        }
+        return sb.toString();
+    }
+
+    private static void drain(boolean discard) {
+        recorders.forEach((endpoint, stripes) -> {
+            EndpointHistograms target = discard ? null
+                    : cumulative.computeIfAbsent(endpoint, key -> new EndpointHistograms());
+            for (EndpointRecorders stripe : stripes) {
+                stripe.drainInto(target);
+            }
+        });
+    }
+
+    private static EndpointRecorders[] newStripes() {
+        EndpointRecorders[] stripes = new EndpointRecorders[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new EndpointRecorders();
+        }
+        return stripes;
+    }
+
+    // Packed (sparse) counts: every endpoint holds several histograms per stripe
+    private static Histogram newStripeHistogram() {
+        return new PackedHistogram(SIGNIFICANT_DIGITS);
+    }
+
+    private static Histogram newHistogram() {
+        Histogram histogram = new Histogram(SIGNIFICANT_DIGITS);
+        histogram.setAutoResize(true);
+        return histogram;
+    }
+
+    private static final class EndpointHistograms {
+        private final Histogram total = newHistogram();
+        private final Map<RequestPhase, Histogram> phases = new EnumMap<>(RequestPhase.class);
+        private final Histogram responseBytes = newHistogram();
+
+        private EndpointHistograms() {
+            for (RequestPhase phase : RequestPhase.values()) {
+                phases.put(phase, newHistogram());
+            }
+        }
+    }
+
+    // One stripe of an endpoint's histograms: total latency, each phase and response size
+    private static final class EndpointRecorders {
+        private final Histogram total = newStripeHistogram();
+        private final Map<RequestPhase, Histogram> phases = new EnumMap<>(RequestPhase.class);
+        private final Histogram responseBytes = newStripeHistogram();
+
+        private EndpointRecorders() {
+            for (RequestPhase phase : RequestPhase.values()) {
+                phases.put(phase, newStripeHistogram());
+            }
+        }
+
+        private synchronized void record(RequestTiming timing) {
+            total.recordValue(Math.max(0, timing.getTotalNanos()));
+            // Phases that were not observed (e.g. no connection on a transport failure) are skipped
+            phases.forEach((phase, histogram) -> {
+                long nanos = timing.getPhaseNanos(phase);
+                if (nanos >= 0) {
+                    histogram.recordValue(nanos);
+                }
+            });
+            if (timing.getResponseBytes() >= 0) {
+                responseBytes.recordValue(timing.getResponseBytes());
+            }
+        }
+
+        private synchronized void drainInto(EndpointHistograms target) {
+            if (target != null) {
+                target.total.add(total);
+                target.responseBytes.add(responseBytes);
+                phases.forEach((phase, histogram) -> target.phases.get(phase).add(histogram));
+            }
+            total.reset();
+            responseBytes.reset();
+            phases.values().forEach(Histogram::reset);
+        }
+    }
+}
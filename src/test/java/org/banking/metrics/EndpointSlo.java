@@ -0,0 +1,71 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Latency and error-rate objectives for one endpoint ("POST /transactions"), evaluated over a whole run
+public class EndpointSlo {
+
+    private final String endpoint;
+    // Percentile (e.g. 99.0) -> maximum latency in milliseconds; 100.0 is the max
+    private final Map<Double, Double> maxLatencyMillis = new TreeMap<>();
+    private Double maxErrorRate;
+    private long minSamples = 1;
+
+    public EndpointSlo(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    public EndpointSlo latency(double percentile, double maxMillis) {
+        if (percentile <= 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be in (0, 100]: " + percentile);
+        }
+        maxLatencyMillis.put(percentile, maxMillis);
+        return this;
+    }
+
+    public EndpointSlo maxErrorRate(double maxErrorRate) {
+        this.maxErrorRate = maxErrorRate;
+        return this;
+    }
+
+    public EndpointSlo minSamples(long minSamples) {
+        this.minSamples = minSamples;
+        return this;
+    }
+
+    // Thresholds of the other SLO replace the ones defined here for the same metric
+    public EndpointSlo merge(EndpointSlo other) {
+        maxLatencyMillis.putAll(other.maxLatencyMillis);
+        if (other.maxErrorRate != null) {
+            maxErrorRate = other.maxErrorRate;
+        }
+        if (other.minSamples != 1) {
+            minSamples = other.minSamples;
+        }
+        return this;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public Map<Double, Double> getMaxLatencyMillis() {
+        return Collections.unmodifiableMap(maxLatencyMillis);
+    }
+
+    public Double getMaxErrorRate() {
+        return maxErrorRate;
+    }
+
+    public long getMinSamples() {
+        return minSamples;
+    }
+}
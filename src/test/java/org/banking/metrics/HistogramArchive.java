@@ -0,0 +1,165 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.metrics;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.DataFormatException;
+
+/**
+ * Lossless file form of an {@link EndpointLatencyRecorder} snapshot, so that latency recorded in
+ * separate JVMs (sharded runs) can be merged into one distribution instead of averaging
+ * percentiles. One tab-separated line per series: endpoint, series ("total", a
+ * {@link RequestPhase} label, "bytes" or "errors") and a compressed base64 histogram or count.
+ */
+public final class HistogramArchive {
+
+    private static final String TOTAL = "total";
+    private static final String BYTES = "bytes";
+    private static final String ERRORS = "errors";
+
+    private HistogramArchive() {
+    }
+
+    public static void write(Map<String, EndpointLatency> snapshot, Path file) throws IOException {
+        if (file.toAbsolutePath().getParent() != null) {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (EndpointLatency latency : snapshot.values()) {
+                writeLine(writer, latency.getEndpoint(), TOTAL, encode(latency.getHistogram()));
+                for (RequestPhase phase : RequestPhase.values()) {
+                    writeLine(writer, latency.getEndpoint(), phase.getLabel(),
+                            encode(latency.getPhaseHistogram(phase)));
+                }
+                writeLine(writer, latency.getEndpoint(), BYTES, encode(latency.getResponseBytesHistogram()));
+                writeLine(writer, latency.getEndpoint(), ERRORS, Long.toString(latency.getErrorCount()));
+            }
+        }
+    }
+
+    public static Map<String, EndpointLatency> read(Path file) throws IOException {
+        Map<String, Series> endpoints = new TreeMap<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                String[] fields = line.split("\t", 3);
+                if (fields.length != 3) {
+                    throw new IOException("Malformed histogram archive line in " + file + ": " + line);
+                }
+                endpoints.computeIfAbsent(fields[0], key -> new Series()).add(fields[1], fields[2]);
+            }
+        }
+        Map<String, EndpointLatency> snapshot = new LinkedHashMap<>();
+        endpoints.forEach((endpoint, series) -> snapshot.put(endpoint, series.toLatency(endpoint)));
+        return Collections.unmodifiableMap(snapshot);
+    }
+
+    // Adds up the distributions (and error counts) of every endpoint across the snapshots
+    public static Map<String, EndpointLatency> merge(List<Map<String, EndpointLatency>> snapshots) {
+        Map<String, Series> merged = new TreeMap<>();
+        for (Map<String, EndpointLatency> snapshot : snapshots) {
+            snapshot.forEach((endpoint, latency) -> merged.computeIfAbsent(endpoint, key -> new Series())
+                    .add(latency));
+        }
+        Map<String, EndpointLatency> result = new LinkedHashMap<>();
+        merged.forEach((endpoint, series) -> result.put(endpoint, series.toLatency(endpoint)));
+        return Collections.unmodifiableMap(result);
+    }
+
+    private static void writeLine(BufferedWriter writer, String endpoint, String series, String value)
+            throws IOException {
+        writer.write(endpoint + "\t" + series + "\t" + value);
+        writer.newLine();
+    }
+
+    private static String encode(Histogram histogram) {
+        ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+        int length = histogram.encodeIntoCompressedByteBuffer(buffer);
+        return Base64.getEncoder().encodeToString(Arrays.copyOf(buffer.array(), length));
+    }
+
+    private static Histogram decode(String value) throws IOException {
+        try {
+            return Histogram.decodeFromCompressedByteBuffer(ByteBuffer.wrap(Base64.getDecoder().decode(value)), 0);
+        } catch (DataFormatException | IllegalArgumentException e) {
+            throw new IOException("Corrupt histogram in archive: " + e.getMessage(), e);
+        }
+    }
+
+    private static Histogram newHistogram() {
+        Histogram histogram = new Histogram(3);
+        histogram.setAutoResize(true);
+        return histogram;
+    }
+
+    // Accumulates one endpoint's histograms from archive lines or snapshots
+    private static final class Series {
+        private final Histogram total = newHistogram();
+        private final Map<RequestPhase, Histogram> phases = new EnumMap<>(RequestPhase.class);
+        private final Histogram responseBytes = newHistogram();
+        private long errors;
+
+        private Series() {
+            for (RequestPhase phase : RequestPhase.values()) {
+                phases.put(phase, newHistogram());
+            }
+        }
+
+        private void add(EndpointLatency latency) {
+            total.add(latency.getHistogram());
+            phases.forEach((phase, histogram) -> histogram.add(latency.getPhaseHistogram(phase)));
+            responseBytes.add(latency.getResponseBytesHistogram());
+            errors += latency.getErrorCount();
+        }
+
+        private void add(String series, String value) throws IOException {
+            if (ERRORS.equals(series)) {
+                errors += Long.parseLong(value.trim());
+            } else if (TOTAL.equals(series)) {
+                total.add(decode(value));
+            } else if (BYTES.equals(series)) {
+                responseBytes.add(decode(value));
+            } else {
+                phases.get(phase(series)).add(decode(value));
+            }
+        }
+
+        private static RequestPhase phase(String label) throws IOException {
+            for (RequestPhase phase : RequestPhase.values()) {
+                if (phase.getLabel().equals(label)) {
+                    return phase;
+                }
+            }
+            throw new IOException("Unknown histogram series in archive: " + label);
+        }
+
+        private EndpointLatency toLatency(String endpoint) {
+            Map<RequestPhase, Histogram> phaseCopies = new EnumMap<>(RequestPhase.class);
+            phases.forEach((phase, histogram) -> phaseCopies.put(phase, histogram.copy()));
+            return new EndpointLatency(endpoint, total.copy(), phaseCopies, responseBytes.copy(), errors);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.metrics;
+
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Records the latency of every request into {@link EndpointLatencyRecorder}, keyed by method
+ * and templated path: "/accounts/1042" is reported as "/accounts/{id}" rather than one entry per
+ * account. Services build concrete paths (a RestAssured spec keeps the unnamed path parameters
+ * of its last call, so templated paths would break the next call on the same spec); the
+ * template is derived here instead. Runs last so logging and Allure filters are not timed.
+ * The phase breakdown is filled in by {@link PhaseTimingHttpClient} when it is the configured
+ * client; the breakdown of the last call is available from {@link RequestTiming#last()}.
+ */
+public class LatencyRecordingFilter implements OrderedFilter {
+
+    private static final Logger logger = LogManager.getLogger(LatencyRecordingFilter.class);
+
+    public static final LatencyRecordingFilter INSTANCE = new LatencyRecordingFilter();
+
+    // Path templates of the API, as named in the SLO and workload files
+    private static final Map<Pattern, String> TEMPLATES = new LinkedHashMap<>();
+    // Any other numeric segment is an ID, so unknown endpoints do not get one entry per entity
+    private static final Pattern NUMERIC_SEGMENT = Pattern.compile("/\\d+(?=/|$)");
+
+    static {
+        TEMPLATES.put(Pattern.compile("/users/\\d+"), "/users/{id}");
+        TEMPLATES.put(Pattern.compile("/users/username/[^/]+"), "/users/username/{username}");
+        TEMPLATES.put(Pattern.compile("/accounts/\\d+"), "/accounts/{id}");
+        TEMPLATES.put(Pattern.compile("/accounts/user/\\d+"), "/accounts/user/{userId}");
+        TEMPLATES.put(Pattern.compile("/accounts/number/[^/]+"), "/accounts/number/{accountNumber}");
+        TEMPLATES.put(Pattern.compile("/transactions/\\d+"), "/transactions/{id}");
+        TEMPLATES.put(Pattern.compile("/transactions/reference/[^/]+"), "/transactions/reference/{reference}");
+        TEMPLATES.put(Pattern.compile("/transactions/account/\\d+"), "/transactions/account/{accountId}");
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        String endpoint = endpointKey(requestSpec);
+        RequestTiming timing = RequestTiming.begin();
+        Response response;
+        try {
+            response = ctx.next(requestSpec, responseSpec);
+            // RestAssured reads the body lazily; read (and cache) it now so the transfer is timed
+            response.asByteArray();
+        } catch (Exception e) {
+            // RestAssured rethrows checked I/O exceptions undeclared; catch them too
+            EndpointLatencyRecorder.record(endpoint, timing.end(), true);
+            throw e;
+        }
+        timing.setStatusCode(response.getStatusCode());
+        EndpointLatencyRecorder.record(endpoint, timing.end(), response.getStatusCode() >= 500);
+        if (logger.isDebugEnabled()) {
+            logger.debug(endpoint + " " + response.getStatusCode() + " " + timing);
+        }
+        return response;
+    }
+
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE;
+    }
+
+    public static String endpointKey(FilterableRequestSpecification requestSpec) {
+        return requestSpec.getMethod() + " " + template(requestSpec.getUserDefinedPath());
+    }
+
+    // "/accounts/1042" -> "/accounts/{id}"; paths already templated by the caller are kept
+    static String template(String path) {
+        int query = path.indexOf('?');
+        String trimmed = query >= 0 ? path.substring(0, query) : path;
+        for (Map.Entry<Pattern, String> template : TEMPLATES.entrySet()) {
+            if (template.getKey().matcher(trimmed).matches()) {
+                return template.getValue();
+            }
+        }
+        return NUMERIC_SEGMENT.matcher(trimmed).replaceAll("/{id}");
+    }
+}
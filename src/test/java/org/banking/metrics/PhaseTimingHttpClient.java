@@ -0,0 +1,281 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.metrics;
+
+import io.restassured.config.HttpClientConfig;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpException;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpResponseInterceptor;
+import org.apache.http.client.methods.AbortableHttpRequest;
+import org.apache.http.conn.ClientConnectionManager;
+import org.apache.http.conn.ClientConnectionOperator;
+import org.apache.http.conn.ClientConnectionRequest;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.ManagedClientConnection;
+import org.apache.http.conn.OperatedClientConnection;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.entity.HttpEntityWrapper;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.client.RequestWrapper;
+import org.apache.http.impl.conn.BasicClientConnectionManager;
+import org.apache.http.impl.conn.DefaultClientConnectionOperator;
+import org.apache.http.impl.conn.SchemeRegistryFactory;
+import org.apache.http.params.HttpParams;
+import org.apache.http.protocol.BasicHttpProcessor;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.protocol.HttpRequestExecutor;
+import org.banking.resilience.InFlightRequests;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The HttpClient RestAssured creates by default ({@link DefaultHttpClient}), instrumented to mark
+ * connection lease, connect, request sent, first byte and body fully read on the
+ * {@link RequestTiming} of the calling thread. Calls without a current timing are not affected.
+ * Every call is registered with {@link InFlightRequests} so a test that runs out of time can abort it.
+ * The deprecated HttpClient 4 classes are the ones RestAssured itself is built on.
+ */
+@SuppressWarnings("deprecation")
+public class PhaseTimingHttpClient extends DefaultHttpClient {
+
+    public static final HttpClientConfig.HttpClientFactory FACTORY = PhaseTimingHttpClient::new;
+
+    @Override
+    protected ClientConnectionManager createClientConnectionManager() {
+        return new TimedConnectionManager(new TimedBasicConnectionManager(SchemeRegistryFactory.createDefault()));
+    }
+
+    @Override
+    protected HttpRequestExecutor createRequestExecutor() {
+        return new TimedRequestExecutor();
+    }
+
+    @Override
+    protected BasicHttpProcessor createHttpProcessor() {
+        BasicHttpProcessor processor = super.createHttpProcessor();
+        // First, so the body is timed as it comes off the wire (before any decompression)
+        processor.addResponseInterceptor(new BodyTimingInterceptor(), 0);
+        return processor;
+    }
+
+    private static class TimedRequestExecutor extends HttpRequestExecutor {
+
+        @Override
+        public HttpResponse execute(HttpRequest request, HttpClientConnection conn, HttpContext context)
+                throws IOException, HttpException {
+            // The original request carries the connection's release trigger, so aborting it
+            // also unblocks a read of the response body after this method has returned
+            HttpRequest original = request instanceof RequestWrapper
+                    ? ((RequestWrapper) request).getOriginal() : request;
+            if (original instanceof AbortableHttpRequest) {
+                InFlightRequests.register((AbortableHttpRequest) original);
+            }
+            return super.execute(request, conn, context);
+        }
+
+        @Override
+        protected HttpResponse doSendRequest(HttpRequest request, HttpClientConnection conn, HttpContext context)
+                throws IOException, HttpException {
+            RequestTiming timing = RequestTiming.current();
+            if (timing != null) {
+                timing.markSendStart();
+            }
+            HttpResponse response = super.doSendRequest(request, conn, context);
+            if (timing != null) {
+                timing.markRequestSent();
+            }
+            return response;
+        }
+
+        @Override
+        protected HttpResponse doReceiveResponse(HttpRequest request, HttpClientConnection conn, HttpContext context)
+                throws HttpException, IOException {
+            HttpResponse response = super.doReceiveResponse(request, conn, context);
+            RequestTiming timing = RequestTiming.current();
+            if (timing != null) {
+                timing.markFirstByte();
+            }
+            return response;
+        }
+    }
+
+    private static class BodyTimingInterceptor implements HttpResponseInterceptor {
+
+        @Override
+        public void process(HttpResponse response, HttpContext context) {
+            RequestTiming timing = RequestTiming.current();
+            if (timing == null) {
+                return;
+            }
+            HttpEntity entity = response.getEntity();
+            if (entity == null) {
+                timing.markBodyEnd(0);
+            } else {
+                response.setEntity(new TimedEntity(entity, timing));
+            }
+        }
+    }
+
+    private static class TimedEntity extends HttpEntityWrapper {
+        private final RequestTiming timing;
+
+        TimedEntity(HttpEntity entity, RequestTiming timing) {
+            super(entity);
+            this.timing = timing;
+        }
+
+        @Override
+        public InputStream getContent() throws IOException {
+            return new CountingInputStream(super.getContent(), timing);
+        }
+
+        @Override
+        public void writeTo(OutputStream out) throws IOException {
+            try (InputStream in = getContent()) {
+                byte[] buffer = new byte[8192];
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    out.write(buffer, 0, read);
+                }
+            }
+        }
+    }
+
+    // Marks the body end at EOF (or close, for bodies that are not read to the end)
+    private static class CountingInputStream extends FilterInputStream {
+        private final RequestTiming timing;
+        private long bytes;
+
+        CountingInputStream(InputStream in, RequestTiming timing) {
+            super(in);
+            this.timing = timing;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = super.read();
+            if (value == -1) {
+                timing.markBodyEnd(bytes);
+            } else {
+                bytes++;
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read == -1) {
+                timing.markBodyEnd(bytes);
+            } else {
+                bytes += read;
+            }
+            return read;
+        }
+
+        @Override
+        public void close() throws IOException {
+            timing.markBodyEnd(bytes);
+            super.close();
+        }
+    }
+
+    private static class TimedBasicConnectionManager extends BasicClientConnectionManager {
+
+        TimedBasicConnectionManager(SchemeRegistry schemeRegistry) {
+            super(schemeRegistry);
+        }
+
+        @Override
+        protected ClientConnectionOperator createConnectionOperator(SchemeRegistry schemeRegistry) {
+            return new DefaultClientConnectionOperator(schemeRegistry) {
+                @Override
+                public void openConnection(OperatedClientConnection conn, HttpHost target, InetAddress local,
+                                           HttpContext context, HttpParams params) throws IOException {
+                    long start = System.nanoTime();
+                    try {
+                        super.openConnection(conn, target, local, context, params);
+                    } finally {
+                        RequestTiming timing = RequestTiming.current();
+                        if (timing != null) {
+                            timing.addConnect(System.nanoTime() - start);
+                        }
+                    }
+                }
+            };
+        }
+    }
+
+    // Times how long the calling thread waits for a connection from the delegate manager
+    private static class TimedConnectionManager implements ClientConnectionManager {
+        private final ClientConnectionManager delegate;
+
+        TimedConnectionManager(ClientConnectionManager delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public SchemeRegistry getSchemeRegistry() {
+            return delegate.getSchemeRegistry();
+        }
+
+        @Override
+        public ClientConnectionRequest requestConnection(HttpRoute route, Object state) {
+            ClientConnectionRequest request = delegate.requestConnection(route, state);
+            return new ClientConnectionRequest() {
+                @Override
+                public ManagedClientConnection getConnection(long timeout, TimeUnit unit)
+                        throws InterruptedException, ConnectionPoolTimeoutException {
+                    long start = System.nanoTime();
+                    try {
+                        return request.getConnection(timeout, unit);
+                    } finally {
+                        RequestTiming timing = RequestTiming.current();
+                        if (timing != null) {
+                            timing.addLease(System.nanoTime() - start);
+                        }
+                    }
+                }
+
+                @Override
+                public void abortRequest() {
+                    request.abortRequest();
+                }
+            };
+        }
+
+        @Override
+        public void releaseConnection(ManagedClientConnection conn, long validDuration, TimeUnit timeUnit) {
+            delegate.releaseConnection(conn, validDuration, timeUnit);
+        }
+
+        @Override
+        public void closeExpiredConnections() {
+            delegate.closeExpiredConnections();
+        }
+
+        @Override
+        public void closeIdleConnections(long idletime, TimeUnit timeUnit) {
+            delegate.closeIdleConnections(idletime, timeUnit);
+        }
+
+        @Override
+        public void shutdown() {
+            delegate.shutdown();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.metrics;
+
+// Client-side phases of one HTTP call, measured by PhaseTimingHttpClient
+public enum RequestPhase {
+
+    // Waiting for a connection from the client connection manager
+    POOL_LEASE("lease"),
+    // DNS resolution and TCP connect; zero when a kept-alive connection is reused
+    CONNECT("connect"),
+    // Writing request line, headers and body to the socket
+    REQUEST_WRITE("write"),
+    // Request sent until response headers received: server time plus network round trip
+    TIME_TO_FIRST_BYTE("ttfb"),
+    // Response headers received until the body is fully read: payload transfer
+    BODY_READ("body");
+
+    private final String label;
+
+    RequestPhase(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.metrics;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * {@code System.nanoTime()} marks of one HTTP call. A call is timed on the thread that executes
+ * it: {@link LatencyRecordingFilter} begins and ends the timing, {@link PhaseTimingHttpClient}
+ * fills in the marks in between. The last completed timing of a thread is available through
+ * {@link #last()} so a test can inspect the breakdown of the call it just made.
+ */
+public class RequestTiming {
+
+    private static final ThreadLocal<RequestTiming> current = new ThreadLocal<>();
+    private static final ThreadLocal<RequestTiming> last = new ThreadLocal<>();
+    private static final ThreadLocal<long[]> callCount = ThreadLocal.withInitial(() -> new long[1]);
+
+    private final long startNanos;
+    private long endNanos;
+    // Summed because a call may lease and connect more than once (redirects, retried connects)
+    private long leaseNanos = -1;
+    private long connectNanos = -1;
+    private long sendStartNanos = -1;
+    private long requestSentNanos = -1;
+    private long firstByteNanos = -1;
+    private long bodyEndNanos = -1;
+    private long responseBytes = -1;
+    private int statusCode = -1;
+
+    private RequestTiming(long startNanos) {
+        this.startNanos = startNanos;
+    }
+
+    public static RequestTiming begin() {
+        RequestTiming timing = new RequestTiming(System.nanoTime());
+        current.set(timing);
+        callCount.get()[0]++;
+        return timing;
+    }
+
+    // Number of calls begun on this thread; the difference of two reads is the calls made in between
+    public static long callCount() {
+        return callCount.get()[0];
+    }
+
+    // Timing of the call in progress on this thread, or null when the call is not instrumented
+    public static RequestTiming current() {
+        return current.get();
+    }
+
+    // Most recent completed call on this thread
+    public static RequestTiming last() {
+        return last.get();
+    }
+
+    public RequestTiming end() {
+        endNanos = System.nanoTime();
+        current.remove();
+        last.set(this);
+        return this;
+    }
+
+    void setStatusCode(int statusCode) {
+        this.statusCode = statusCode;
+    }
+
+    void addLease(long nanos) {
+        leaseNanos = Math.max(0, leaseNanos) + nanos;
+    }
+
+    void addConnect(long nanos) {
+        connectNanos = Math.max(0, connectNanos) + nanos;
+    }
+
+    void markSendStart() {
+        sendStartNanos = System.nanoTime();
+    }
+
+    void markRequestSent() {
+        requestSentNanos = System.nanoTime();
+    }
+
+    void markFirstByte() {
+        firstByteNanos = System.nanoTime();
+    }
+
+    void markBodyEnd(long bytes) {
+        if (bodyEndNanos < 0) {
+            bodyEndNanos = System.nanoTime();
+            responseBytes = bytes;
+        }
+    }
+
+    public long getTotalNanos() {
+        return endNanos - startNanos;
+    }
+
+    // HTTP status of the response, -1 when the call failed without one
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    // Response body size as read from the wire, -1 when the body was not read
+    public long getResponseBytes() {
+        return responseBytes;
+    }
+
+    // Duration of a phase in nanoseconds, -1 when the phase was not observed
+    public long getPhaseNanos(RequestPhase phase) {
+        switch (phase) {
+            case POOL_LEASE:
+                return leaseNanos;
+            case CONNECT:
+                // A reused connection did not connect at all
+                return connectNanos < 0 && leaseNanos >= 0 ? 0 : connectNanos;
+            case REQUEST_WRITE:
+                return between(sendStartNanos, requestSentNanos);
+            case TIME_TO_FIRST_BYTE:
+                return between(requestSentNanos, firstByteNanos);
+            case BODY_READ:
+                return between(firstByteNanos, bodyEndNanos);
+            default:
+                throw new IllegalArgumentException("Unknown phase: " + phase);
+        }
+    }
+
+    public Map<RequestPhase, Long> getPhases() {
+        Map<RequestPhase, Long> phases = new EnumMap<>(RequestPhase.class);
+        for (RequestPhase phase : RequestPhase.values()) {
+            phases.put(phase, getPhaseNanos(phase));
+        }
+        return phases;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(String.format("total=%.3fms", getTotalNanos() / 1_000_000.0));
+        getPhases().forEach((phase, nanos) -> sb.append(nanos < 0
+                ? String.format(" %s=n/a", phase.getLabel())
+                : String.format(" %s=%.3fms", phase.getLabel(), nanos / 1_000_000.0)));
+        return sb.append(" bytes=").append(responseBytes).toString();
+    }
+
+    private static long between(long from, long to) {
+        return from < 0 || to < 0 ? -1 : Math.max(0, to - from);
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.metrics;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Percentile SLO gates evaluated against the latency aggregated by {@link EndpointLatencyRecorder}.
+ *
+ * <p>SLO file (classpath resource or file path), thresholds in milliseconds:
+ * <pre>
+ * { "POST /transactions": { "p99": 300, "maxErrorRate": 0.001, "minSamples": 100 } }
+ * </pre>
+ * Inline form used by the {@code slo.gates} suite parameter, entries separated by ';':
+ * <pre>
+ * POST /transactions p99&lt;300 errors&lt;0.1%; GET /accounts/{id} p95&lt;200 max&lt;1000
+ * </pre>
+ * An error is a 5xx response or a transport failure; 4xx responses are expected by negative tests.
+ */
+public class SloGate {
+
+    private static final Logger logger = LogManager.getLogger(SloGate.class);
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final Pattern PERCENTILE_KEY = Pattern.compile("p(\\d+(?:\\.\\d+)?)");
+    private static final Pattern LATENCY_CONDITION = Pattern.compile("(p\\d+(?:\\.\\d+)?|max)<(\\d+(?:\\.\\d+)?)(?:ms)?");
+    private static final Pattern ERROR_CONDITION = Pattern.compile("errors<(\\d+(?:\\.\\d+)?)%");
+
+    public enum Status { PASS, BREACH, NO_DATA }
+
+    // Outcome of one threshold of one endpoint
+    public static class Check {
+        private final String endpoint;
+        private final String metric;
+        private final String threshold;
+        private final String actual;
+        private final long samples;
+        private final Status status;
+
+        Check(String endpoint, String metric, String threshold, String actual, long samples, Status status) {
+            this.endpoint = endpoint;
+            this.metric = metric;
+            this.threshold = threshold;
+            this.actual = actual;
+            this.samples = samples;
+            this.status = status;
+        }
+
+        public String getEndpoint() {
+            return endpoint;
+        }
+
+        public String getMetric() {
+            return metric;
+        }
+
+        public Status getStatus() {
+            return status;
+        }
+    }
+
+    // SLOs from the file, with inline gates overriding the same endpoint and metric
+    public static List<EndpointSlo> load(String file, String inlineGates) {
+        Map<String, EndpointSlo> slos = new LinkedHashMap<>();
+        if (file != null && !file.trim().isEmpty()) {
+            readFile(file.trim()).forEach(slo -> slos.put(slo.getEndpoint(), slo));
+        }
+        if (inlineGates != null && !inlineGates.trim().isEmpty()) {
+            parse(inlineGates).forEach(slo -> slos.merge(slo.getEndpoint(), slo, EndpointSlo::merge));
+        }
+        return new ArrayList<>(slos.values());
+    }
+
+    public static List<EndpointSlo> parse(String inlineGates) {
+        List<EndpointSlo> slos = new ArrayList<>();
+        for (String entry : inlineGates.split(";")) {
+            String[] tokens = entry.trim().split("\\s+");
+            if (tokens.length < 3) {
+                throw new IllegalArgumentException("Invalid SLO gate '" + entry.trim()
+                        + "', expected: <METHOD> <path> <condition>...");
+            }
+            EndpointSlo slo = new EndpointSlo(tokens[0].toUpperCase() + " " + tokens[1]);
+            for (int i = 2; i < tokens.length; i++) {
+                Matcher latency = LATENCY_CONDITION.matcher(tokens[i]);
+                Matcher errors = ERROR_CONDITION.matcher(tokens[i]);
+                if (latency.matches()) {
+                    slo.latency(percentileOf(latency.group(1)), Double.parseDouble(latency.group(2)));
+                } else if (errors.matches()) {
+                    slo.maxErrorRate(Double.parseDouble(errors.group(1)) / 100.0);
+                } else {
+                    throw new IllegalArgumentException("Invalid SLO condition '" + tokens[i]
+                            + "', expected pNN<ms, max<ms or errors<N%");
+                }
+            }
+            slos.add(slo);
+        }
+        return slos;
+    }
+
+    public static List<Check> evaluate(List<EndpointSlo> slos, Map<String, EndpointLatency> snapshot) {
+        List<Check> checks = new ArrayList<>();
+        for (EndpointSlo slo : slos) {
+            EndpointLatency latency = snapshot.get(slo.getEndpoint());
+            long samples = latency == null ? 0 : latency.getCount();
+
+            if (samples < slo.getMinSamples()) {
+                // Only an explicit sample requirement turns a missing endpoint into a breach
+                Status status = slo.getMinSamples() > 1 ? Status.BREACH : Status.NO_DATA;
+                checks.add(new Check(slo.getEndpoint(), "samples", ">= " + slo.getMinSamples(),
+                        String.valueOf(samples), samples, status));
+                continue;
+            }
+
+            slo.getMaxLatencyMillis().forEach((percentile, maxMillis) -> {
+                double actualMillis = percentile >= 100.0 ? latency.getMaxMillis()
+                        : latency.getPercentileMillis(percentile);
+                checks.add(new Check(slo.getEndpoint(), percentileLabel(percentile),
+                        String.format("< %.2f ms", maxMillis), String.format("%.2f ms", actualMillis), samples,
+                        actualMillis < maxMillis ? Status.PASS : Status.BREACH));
+            });
+
+            if (slo.getMaxErrorRate() != null) {
+                double errorRate = latency.getErrorRate();
+                checks.add(new Check(slo.getEndpoint(), "error rate",
+                        String.format("< %.3f%%", slo.getMaxErrorRate() * 100),
+                        String.format("%.3f%% (%d)", errorRate * 100, latency.getErrorCount()), samples,
+                        errorRate < slo.getMaxErrorRate() || latency.getErrorCount() == 0
+                                ? Status.PASS : Status.BREACH));
+            }
+        }
+        return checks;
+    }
+
+    public static boolean hasBreach(List<Check> checks) {
+        return checks.stream().anyMatch(check -> check.getStatus() == Status.BREACH);
+    }
+
+    public static String formatTable(List<Check> checks) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%-48s %-11s %-13s %-18s %9s %-8s%n",
+                "Endpoint", "Metric", "Objective", "Actual", "Samples", "Status"));
+        for (Check check : checks) {
+            sb.append(String.format("%-48s %-11s %-13s %-18s %9d %-8s%n",
+                    check.endpoint, check.metric, check.threshold, check.actual, check.samples, check.status));
+        }
+        return sb.toString();
+    }
+
+    private static List<EndpointSlo> readFile(String file) {
+        try (InputStream inputStream = open(file)) {
+            JsonNode root = objectMapper.readTree(inputStream);
+            List<EndpointSlo> slos = new ArrayList<>();
+            Iterator<Map.Entry<String, JsonNode>> endpoints = root.fields();
+            while (endpoints.hasNext()) {
+                Map.Entry<String, JsonNode> endpoint = endpoints.next();
+                slos.add(toSlo(endpoint.getKey(), endpoint.getValue()));
+            }
+            logger.info("Loaded " + slos.size() + " endpoint SLOs from " + file);
+            return slos;
+        } catch (IOException e) {
+            logger.error("Error reading SLO file: " + e.getMessage());
+            throw new RuntimeException("Failed to read SLO file: " + file, e);
+        }
+    }
+
+    private static EndpointSlo toSlo(String endpoint, JsonNode node) {
+        EndpointSlo slo = new EndpointSlo(endpoint);
+        Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            String key = field.getKey();
+            if ("maxErrorRate".equals(key)) {
+                slo.maxErrorRate(field.getValue().asDouble());
+            } else if ("minSamples".equals(key)) {
+                slo.minSamples(field.getValue().asLong());
+            } else if ("max".equals(key) || PERCENTILE_KEY.matcher(key).matches()) {
+                slo.latency(percentileOf(key), field.getValue().asDouble());
+            } else {
+                throw new IllegalArgumentException("Unknown SLO key '" + key + "' for " + endpoint);
+            }
+        }
+        return slo;
+    }
+
+    private static InputStream open(String file) throws IOException {
+        InputStream resource = SloGate.class.getClassLoader().getResourceAsStream(file);
+        if (resource != null) {
+            return resource;
+        }
+        Path path = Paths.get(file);
+        if (!Files.exists(path)) {
+            throw new IOException("SLO file not found on classpath or disk: " + file);
+        }
+        return Files.newInputStream(path);
+    }
+
+    private static double percentileOf(String label) {
+        return "max".equals(label) ? 100.0 : Double.parseDouble(label.substring(1));
+    }
+
+    private static String percentileLabel(double percentile) {
+        if (percentile >= 100.0) {
+            return "max";
+        }
+        return percentile == Math.rint(percentile)
+                ? "p" + (long) percentile : "p" + percentile;
+    }
+}
@@ -0,0 +1,349 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.performance;
+
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.banking.dto.AccountDto;
+import org.banking.dto.TransactionDto;
+import org.banking.services.AccountApiService;
+import org.banking.services.TransactionApiService;
+import org.banking.services.UserApiService;
+import org.banking.utils.TestDataGenerator;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Gateway access log turned into an open-model arrival schedule. Log format, one request per
+ * line, further fields ignored, '#' starts a comment:
+ * <pre>
+ * 2025-09-27T10:15:02.123Z GET /api/accounts/1042 200 12ms
+ * </pre>
+ * The timestamp is an ISO-8601 instant, or a local date-time read as UTC. Each request is
+ * mapped to the service call for its endpoint template (the names used by the SLO file and the
+ * latency report). Production IDs become synthetic but consistent ones: every distinct user,
+ * account or transaction key is assigned an {@link EntityPool} entity on first sight and keeps
+ * it, so repeated reads of one hot account stay on one account. Requests keep their original
+ * inter-arrival times divided by the speed-up factor; lines that do not parse or have no
+ * service call are counted by reason and skipped.
+ */
+public class AccessLogReplay {
+
+    private static final Logger logger = LogManager.getLogger(AccessLogReplay.class);
+    private static final Pattern LINE = Pattern.compile("^(\\S+)\\s+(GET|POST|PUT|PATCH|DELETE)\\s+(\\S+).*$");
+
+    public static final String USER = "user";
+    public static final String ACCOUNT = "account";
+    public static final String TRANSACTION = "transaction";
+
+    // Identifier types of path keys; an entity is only recognised again through the same type
+    private static final String ID = "id";
+    private static final String USERNAME = "username";
+    private static final String NUMBER = "number";
+    private static final String REFERENCE = "reference";
+
+    private static final List<Route> ROUTES = List.of(
+            new Route("GET", "/users", "GET /users", null, null, (spec, pool, slot) ->
+                    UserApiService.getAllUsers(spec)),
+            new Route("GET", "/users/(\\d+)", "GET /users/{id}", USER, ID, (spec, pool, slot) ->
+                    UserApiService.getUserById(spec, pool.getUsers().get(slot).getId())),
+            new Route("GET", "/users/username/([^/]+)", "GET /users/username/{username}", USER, USERNAME,
+                    (spec, pool, slot) -> UserApiService.getUserByUsername(spec,
+                            pool.getUsers().get(slot).getUsername())),
+            new Route("POST", "/users", "POST /users", null, null, (spec, pool, slot) ->
+                    UserApiService.createUser(spec, TestDataGenerator.generateValidUser())),
+            new Route("GET", "/accounts", "GET /accounts", null, null, (spec, pool, slot) ->
+                    AccountApiService.getAllAccounts(spec)),
+            new Route("GET", "/accounts/(\\d+)", "GET /accounts/{id}", ACCOUNT, ID, (spec, pool, slot) ->
+                    AccountApiService.getAccountById(spec, pool.getAccounts().get(slot).getId())),
+            new Route("GET", "/accounts/user/(\\d+)", "GET /accounts/user/{userId}", USER, ID, (spec, pool, slot) ->
+                    AccountApiService.getAccountsByUserId(spec, pool.getUsers().get(slot).getId())),
+            new Route("GET", "/accounts/number/([^/]+)", "GET /accounts/number/{accountNumber}", ACCOUNT, NUMBER,
+                    (spec, pool, slot) -> AccountApiService.getAccountByNumber(spec,
+                            pool.getAccounts().get(slot).getAccountNumber())),
+            new Route("POST", "/accounts", "POST /accounts", USER, null, (spec, pool, slot) ->
+                    AccountApiService.createAccount(spec, AccountDto.builder()
+                            .accountType("CHECKING")
+                            .userId(pool.getUsers().get(slot).getId())
+                            .balance(new BigDecimal("100.00"))
+                            .creditLimit(BigDecimal.ZERO)
+                            .build())),
+            new Route("GET", "/transactions", "GET /transactions", null, null, (spec, pool, slot) ->
+                    TransactionApiService.getAllTransactions(spec)),
+            new Route("GET", "/transactions/(\\d+)", "GET /transactions/{id}", TRANSACTION, ID,
+                    (spec, pool, slot) -> TransactionApiService.getTransactionById(spec,
+                            pool.getTransactions().get(slot).getId())),
+            new Route("GET", "/transactions/reference/([^/]+)", "GET /transactions/reference/{reference}",
+                    TRANSACTION, REFERENCE, (spec, pool, slot) -> TransactionApiService.getTransactionByReference(
+                            spec, pool.getTransactions().get(slot).getTransactionReference())),
+            new Route("GET", "/transactions/account/(\\d+)", "GET /transactions/account/{accountId}", ACCOUNT, ID,
+                    (spec, pool, slot) -> TransactionApiService.getTransactionsByAccountId(spec,
+                            pool.getAccounts().get(slot).getId())),
+            new Route("POST", "/transactions", "POST /transactions", ACCOUNT, null, (spec, pool, slot) -> {
+                Long accountId = pool.getAccounts().get(slot).getId();
+                TransactionDto deposit = TestDataGenerator.generateDepositTransaction(new BigDecimal("1.00"));
+                deposit.setFromAccountId(accountId);
+                deposit.setToAccountId(accountId);
+                return TransactionApiService.createTransaction(spec, deposit);
+            }));
+
+    @FunctionalInterface
+    private interface ReplayCall {
+        Response call(RequestSpecification spec, EntityPool pool, int slot);
+    }
+
+    private static final class Route {
+        private final String method;
+        private final Pattern path;
+        private final String endpoint;
+        // Entity kind the path key (or, for creates, the owner) maps to; null when none is needed
+        private final String kind;
+        // What the path key identifies the entity by (id, username, ...); null when the path has no key
+        private final String keyType;
+        private final ReplayCall call;
+
+        private Route(String method, String path, String endpoint, String kind, String keyType, ReplayCall call) {
+            this.method = method;
+            this.path = Pattern.compile(path);
+            this.endpoint = endpoint;
+            this.kind = kind;
+            this.keyType = keyType;
+            this.call = call;
+        }
+    }
+
+    private static final class Request {
+        private final long timestampMillis;
+        private final Route route;
+        // Production key of the entity, null for creates and list reads
+        private final String key;
+
+        private Request(long timestampMillis, Route route, String key) {
+            this.timestampMillis = timestampMillis;
+            this.route = route;
+            this.key = key;
+        }
+    }
+
+    private final String file;
+    private final List<Request> requests;
+    private final Map<String, Long> skipped;
+
+    private AccessLogReplay(String file, List<Request> requests, Map<String, Long> skipped) {
+        this.file = file;
+        this.requests = requests;
+        this.skipped = skipped;
+    }
+
+    /**
+     * @param pathPrefix gateway prefix stripped from every path, e.g. "/api"
+     */
+    public static AccessLogReplay parse(String file, String pathPrefix) {
+        List<Request> requests = new ArrayList<>();
+        Map<String, Long> skipped = new TreeMap<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(open(file), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                Matcher matcher = LINE.matcher(line);
+                Long timestamp = matcher.matches() ? parseTimestamp(matcher.group(1)) : null;
+                if (timestamp == null) {
+                    skipped.merge("unparseable line", 1L, Long::sum);
+                    continue;
+                }
+                String path = matcher.group(3);
+                int query = path.indexOf('?');
+                path = query >= 0 ? path.substring(0, query) : path;
+                if (!pathPrefix.isEmpty() && path.startsWith(pathPrefix)) {
+                    path = path.substring(pathPrefix.length());
+                }
+                Request request = toRequest(timestamp, matcher.group(2), path.replaceAll("/+$", ""));
+                if (request == null) {
+                    skipped.merge("no service call: " + matcher.group(2) + " " + path, 1L, Long::sum);
+                } else {
+                    requests.add(request);
+                }
+            }
+        } catch (IOException e) {
+            logger.error("Error reading access log: " + e.getMessage());
+            throw new RuntimeException("Failed to read access log: " + file, e);
+        }
+        // Gateways write lines as requests finish, so they are not strictly in start order
+        requests.sort(Comparator.comparingLong(request -> request.timestampMillis));
+        logger.info("Parsed {} requests from access log {}, skipped {}", requests.size(), file, skipped);
+        return new AccessLogReplay(file, requests, skipped);
+    }
+
+    private static Request toRequest(long timestamp, String method, String path) {
+        for (Route route : ROUTES) {
+            Matcher matcher = route.path.matcher(path);
+            if (route.method.equals(method) && matcher.matches()) {
+                // Keyed by entity and identifier type: /users/17 and /accounts/user/17 are one user,
+                // while user 17 and username "17" stay apart
+                String key = route.keyType != null ? route.kind + ":" + route.keyType + "=" + matcher.group(1) : null;
+                return new Request(timestamp, route, key);
+            }
+        }
+        return null;
+    }
+
+    private static Long parseTimestamp(String value) {
+        try {
+            return Instant.parse(value).toEpochMilli();
+        } catch (DateTimeParseException e) {
+            try {
+                return LocalDateTime.parse(value).toInstant(ZoneOffset.UTC).toEpochMilli();
+            } catch (DateTimeParseException ignored) {
+                return null;
+            }
+        }
+    }
+
+    // Distinct production keys (per identifier type) the log references for the kind, to size the pool
+    public int distinctKeys(String kind) {
+        Set<String> keys = new HashSet<>();
+        for (Request request : requests) {
+            if (request.key != null && kind.equals(request.route.kind)) {
+                keys.add(request.key);
+            }
+        }
+        return keys.size();
+    }
+
+    // One operation per endpoint in the log, in first-seen order, for the engine's statistics
+    public List<LoadOperation> operations() {
+        Map<String, LoadOperation> operations = new LinkedHashMap<>();
+        for (Request request : requests) {
+            operations.computeIfAbsent(request.route.endpoint, endpoint -> new LoadOperation(endpoint, 1, spec -> {
+                throw new IllegalStateException("Replay operations are bound per request");
+            }));
+        }
+        return new ArrayList<>(operations.values());
+    }
+
+    /**
+     * The replay schedule: each request at its original offset from the first one divided by
+     * speedUp, bound to the pool entity its key was assigned. Keys are assigned in order of first
+     * sight and wrap around when the log has more distinct keys than the pool; creates without
+     * a key go to an owner drawn with the seeded random.
+     */
+    public Iterator<OpenModelLoadEngine.Arrival> arrivals(EntityPool pool, double speedUp, long seed) {
+        if (speedUp <= 0) {
+            throw new IllegalArgumentException("Speed-up factor must be positive: " + speedUp);
+        }
+        Map<String, Map<String, Integer>> slots = new HashMap<>();
+        Map<String, Integer> poolSizes = Map.of(USER, pool.getUserCount(), ACCOUNT, pool.getAccountCount(),
+                TRANSACTION, pool.getTransactionCount());
+        Random random = new Random(seed);
+        long firstMillis = requests.isEmpty() ? 0 : requests.get(0).timestampMillis;
+        Iterator<Request> source = requests.iterator();
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return source.hasNext();
+            }
+
+            @Override
+            public OpenModelLoadEngine.Arrival next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Request request = source.next();
+                Route route = request.route;
+                int slot = 0;
+                if (route.kind != null) {
+                    int poolSize = poolSizes.get(route.kind);
+                    Map<String, Integer> kindSlots = slots.computeIfAbsent(route.kind, kind -> new HashMap<>());
+                    slot = request.key == null ? random.nextInt(poolSize)
+                            : kindSlots.computeIfAbsent(request.key, key -> kindSlots.size()) % poolSize;
+                }
+                int boundSlot = slot;
+                long offsetNanos = Math.round(TimeUnit.MILLISECONDS.toNanos(
+                        request.timestampMillis - firstMillis) / speedUp);
+                return new OpenModelLoadEngine.Arrival(offsetNanos, new LoadOperation(route.endpoint, 1,
+                        spec -> route.call.call(spec, pool, boundSlot)));
+            }
+        };
+    }
+
+    public int getRequestCount() {
+        return requests.size();
+    }
+
+    public long getSkippedCount() {
+        return skipped.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    public Map<String, Long> getSkipped() {
+        return skipped;
+    }
+
+    public long getOriginalSpanMillis() {
+        return requests.isEmpty() ? 0
+                : requests.get(requests.size() - 1).timestampMillis - requests.get(0).timestampMillis;
+    }
+
+    // Mean rate over the whole log, as it was recorded
+    public double getOriginalRps() {
+        return requests.size() / Math.max(0.001, getOriginalSpanMillis() / 1000.0);
+    }
+
+    // Most requests the log has within any one wall-clock second
+    public long getOriginalPeakRps() {
+        Map<Long, Long> perSecond = new HashMap<>();
+        requests.forEach(request -> perSecond.merge(request.timestampMillis / 1000, 1L, Long::sum));
+        return perSecond.values().stream().mapToLong(Long::longValue).max().orElse(0);
+    }
+
+    public String getFile() {
+        return file;
+    }
+
+    private static InputStream open(String file) throws IOException {
+        InputStream resource = AccessLogReplay.class.getClassLoader().getResourceAsStream(file);
+        if (resource != null) {
+            return resource;
+        }
+        Path path = Paths.get(file);
+        if (!Files.exists(path)) {
+            throw new IOException("Access log not found on classpath or disk: " + file);
+        }
+        return Files.newInputStream(path);
+    }
+}
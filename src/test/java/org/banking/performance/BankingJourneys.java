@@ -0,0 +1,179 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.performance;
+
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import org.banking.dataproviders.DataProviders;
+import org.banking.dto.AccountDto;
+import org.banking.dto.TransactionDto;
+import org.banking.dto.UserDto;
+import org.banking.pojo.Account;
+import org.banking.pojo.Transaction;
+import org.banking.pojo.User;
+import org.banking.services.AccountApiService;
+import org.banking.services.TransactionApiService;
+import org.banking.services.UserApiService;
+import org.banking.utils.TestDataGenerator;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.banking.performance.Journey.expectStatus;
+
+/**
+ * Virtual-user journeys mirroring the scenarios in {@code E2EApiTests}. Entities are made
+ * unique per iteration and accounts are funded so that journeys measure the server, not
+ * collisions or insufficient-funds rejections from random test data.
+ */
+public class BankingJourneys {
+
+    private static final AtomicLong sequence = new AtomicLong(System.currentTimeMillis() % 1_000_000);
+
+    // Mirrors E2EApiTests.testCompleteUserAccountTransactionWorkflow
+    public static Journey userAccountTransactionWorkflow(int weight) {
+        return new Journey("userAccountTransactionWorkflow", weight)
+                .step("createUser", (spec, ctx) -> {
+                    Response response = expectStatus(UserApiService.createUser(spec, uniqueUser()), 201);
+                    ctx.put("user", response.as(User.class));
+                    return response;
+                })
+                .step("createAccount", (spec, ctx) -> {
+                    AccountDto accountDto = fundedAccount(ctx.<User>get("user").getId());
+                    Response response = expectStatus(AccountApiService.createAccount(spec, accountDto), 201);
+                    ctx.put("account", response.as(Account.class));
+                    ctx.put("transactionDto", TestDataGenerator.generateValidTransaction());
+                    return response;
+                })
+                .step("createSecondAccount", (spec, ctx) -> {
+                    TransactionDto transactionDto = ctx.get("transactionDto");
+                    if (!"TRANSFER".equals(transactionDto.getTransactionType())) {
+                        return null;
+                    }
+                    User secondUser = expectStatus(UserApiService.createUser(spec, uniqueUser()), 201)
+                            .as(User.class);
+                    AccountDto secondAccountDto = AccountDto.builder()
+                            .accountType("CHECKING")
+                            .userId(secondUser.getId())
+                            .balance(new BigDecimal("500.00"))
+                            .creditLimit(new BigDecimal("100.00"))
+                            .build();
+                    Response response = expectStatus(
+                            AccountApiService.createAccount(spec, secondAccountDto), 201);
+                    ctx.put("secondAccount", response.as(Account.class));
+                    return response;
+                })
+                .step("createTransaction", (spec, ctx) -> {
+                    Account account = ctx.get("account");
+                    TransactionDto transactionDto = ctx.get("transactionDto");
+                    transactionDto.setFromAccountId(account.getId());
+                    transactionDto.setToAccountId(ctx.has("secondAccount")
+                            ? ctx.<Account>get("secondAccount").getId() : account.getId());
+                    Response response = expectStatus(
+                            TransactionApiService.createTransaction(spec, transactionDto), 201);
+                    ctx.put("transaction", response.as(Transaction.class));
+                    return response;
+                })
+                .step("verifyAccountHistory", (spec, ctx) -> {
+                    Response response = expectStatus(TransactionApiService.getTransactionsByAccountId(
+                            spec, ctx.<Account>get("account").getId()), 200);
+                    Long transactionId = ctx.<Transaction>get("transaction").getId();
+                    List<Transaction> history = response.jsonPath().getList("$", Transaction.class);
+                    if (history.stream().noneMatch(t -> transactionId.equals(t.getId()))) {
+                        throw new Journey.StepFailedException("Transaction " + transactionId
+                                + " missing from account history");
+                    }
+                    return response;
+                })
+                .step("getTransactionByReference", (spec, ctx) -> expectStatus(
+                        TransactionApiService.getTransactionByReference(spec,
+                                ctx.<Transaction>get("transaction").getTransactionReference()), 200));
+    }
+
+    // Mirrors E2EApiTests.testCompleteAccountLifecycle
+    public static Journey accountLifecycle(int weight) {
+        return new Journey("accountLifecycle", weight)
+                .step("createUser", (spec, ctx) -> {
+                    Response response = expectStatus(UserApiService.createUser(spec, uniqueUser()), 201);
+                    ctx.put("user", response.as(User.class));
+                    return response;
+                })
+                .step("createAccount", (spec, ctx) -> {
+                    AccountDto accountDto = fundedAccount(ctx.<User>get("user").getId());
+                    Response response = expectStatus(AccountApiService.createAccount(spec, accountDto), 201);
+                    ctx.put("account", response.as(Account.class));
+                    ctx.put("accountDto", accountDto);
+                    return response;
+                })
+                .step("deposit1", (spec, ctx) -> deposit(spec, ctx, 1))
+                .step("deposit2", (spec, ctx) -> deposit(spec, ctx, 2))
+                .step("deposit3", (spec, ctx) -> deposit(spec, ctx, 3))
+                .step("verifyAccountHistory", (spec, ctx) -> {
+                    Response response = expectStatus(TransactionApiService.getTransactionsByAccountId(
+                            spec, ctx.<Account>get("account").getId()), 200);
+                    if (response.jsonPath().getList("$").size() < 3) {
+                        throw new Journey.StepFailedException("Account should have at least 3 transactions");
+                    }
+                    return response;
+                })
+                .step("updateAccount", (spec, ctx) -> {
+                    AccountDto accountDto = ctx.get("accountDto");
+                    AccountDto updateDto = AccountDto.builder()
+                            .accountType("CHECKING")
+                            .userId(ctx.<User>get("user").getId())
+                            .balance(accountDto.getBalance())
+                            .creditLimit(new BigDecimal("1000.00"))
+                            .build();
+                    return expectStatus(AccountApiService.updateAccount(spec,
+                            ctx.<Account>get("account").getId(), updateDto), 200);
+                })
+                .step("getAccountById", (spec, ctx) -> expectStatus(
+                        AccountApiService.getAccountById(spec, ctx.<Account>get("account").getId()), 200));
+    }
+
+    public static Journey byName(String name, int weight) {
+        switch (name) {
+            case "userAccountTransactionWorkflow":
+                return userAccountTransactionWorkflow(weight);
+            case "accountLifecycle":
+                return accountLifecycle(weight);
+            default:
+                throw new IllegalArgumentException("Unknown journey: " + name
+                        + ", expected userAccountTransactionWorkflow or accountLifecycle");
+        }
+    }
+
+    private static Response deposit(RequestSpecification spec, Journey.Context ctx, int number) {
+        Long accountId = ctx.<Account>get("account").getId();
+        TransactionDto deposit = TransactionDto.builder()
+                .transactionType("DEPOSIT")
+                .amount(new BigDecimal("100.00"))
+                .currency("USD")
+                .description("Test deposit " + number)
+                .fromAccountId(accountId)
+                .toAccountId(accountId)
+                .build();
+        return expectStatus(TransactionApiService.createTransaction(spec, deposit), 201);
+    }
+
+    private static UserDto uniqueUser() {
+        long id = sequence.incrementAndGet();
+        UserDto userDto = DataProviders.createValidUserDto();
+        userDto.setUsername(userDto.getUsername() + "." + id);
+        userDto.setEmail("vu" + id + "." + userDto.getEmail());
+        return userDto;
+    }
+
+    private static AccountDto fundedAccount(Long userId) {
+        AccountDto accountDto = DataProviders.createValidAccountDto();
+        accountDto.setUserId(userId);
+        accountDto.setStatus("ACTIVE");
+        accountDto.setBalance(new BigDecimal("5000.00"));
+        return accountDto;
+    }
+}
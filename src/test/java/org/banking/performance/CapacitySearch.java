@@ -0,0 +1,166 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.performance;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramIterationValue;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.banking.metrics.EndpointLatency;
+import org.banking.metrics.EndpointSlo;
+import org.banking.metrics.SloGate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Finds the highest arrival rate an operation mix sustains within its SLO. Short open-model
+ * steps grow the rate geometrically from the start rate until one breaches, then bisect between
+ * the highest passing and the lowest breaching rate until the gap is within the resolution.
+ *
+ * <p>A step meets the SLO when its p99 response time (from the intended start, so queueing is
+ * included) and error rate are within bounds, it achieves most of its target rate, and the
+ * load generator kept its schedule. Endpoint SLOs (the {@code slo.file} format), evaluated over
+ * the operations of the same name, can tighten this per endpoint.</p>
+ */
+public class CapacitySearch {
+
+    private static final Logger logger = LogManager.getLogger(CapacitySearch.class);
+
+    private final LoadConfig loadConfig;
+    private final CapacitySearchConfig config;
+    private final List<LoadOperation> operations;
+    private final List<EndpointSlo> endpointSlos;
+
+    public CapacitySearch(LoadConfig loadConfig, CapacitySearchConfig config, List<LoadOperation> operations,
+                          List<EndpointSlo> endpointSlos) {
+        if (config.getStartRps() <= 0 || config.getGrowthFactor() <= 1) {
+            throw new IllegalArgumentException("Capacity search needs a positive start rate and a growth factor > 1");
+        }
+        this.loadConfig = loadConfig;
+        this.config = config;
+        this.operations = operations;
+        this.endpointSlos = endpointSlos;
+    }
+
+    public CapacitySearchResult run(String name) {
+        List<CapacitySearchResult.Step> steps = new ArrayList<>();
+        double highestPass = 0;
+        double lowestBreach = Double.POSITIVE_INFINITY;
+        double rate = Math.min(config.getStartRps(), config.getMaxRps());
+        long start = System.nanoTime();
+        while (steps.size() < config.getMaxSteps()) {
+            if (!steps.isEmpty() && !cooldown()) {
+                break;
+            }
+            CapacitySearchResult.Step step = runStep(name, steps.size() + 1, rate);
+            steps.add(step);
+            if (step.isWithinSlo()) {
+                highestPass = Math.max(highestPass, rate);
+            } else {
+                lowestBreach = Math.min(lowestBreach, rate);
+            }
+            logger.info("Capacity step {} at {} rps: {}", step.getNumber(), String.format("%.1f", rate),
+                    step.isWithinSlo() ? "within SLO" : step.getBreaches());
+
+            Double next = nextRate(rate, highestPass, lowestBreach);
+            if (next == null) {
+                break;
+            }
+            rate = next;
+        }
+        return new CapacitySearchResult(name, describeSlo(), steps, config.getMaxRps(), System.nanoTime() - start);
+    }
+
+    // Grows until the first breach, then bisects; null when the search is done
+    private Double nextRate(double current, double highestPass, double lowestBreach) {
+        if (Double.isInfinite(lowestBreach)) {
+            return current >= config.getMaxRps() ? null
+                    : Math.min(config.getMaxRps(), current * config.getGrowthFactor());
+        }
+        if (lowestBreach - highestPass <= config.getResolution() * lowestBreach) {
+            return null;
+        }
+        double next = (highestPass + lowestBreach) / 2;
+        return next < 1 ? null : next;
+    }
+
+    private CapacitySearchResult.Step runStep(String name, int number, double rate) {
+        LoadConfig stepConfig = LoadConfig.builder()
+                .targetRps(rate)
+                .durationSeconds(config.getStepSeconds())
+                .reportIntervalSeconds(loadConfig.getReportIntervalSeconds())
+                .drainTimeoutSeconds(loadConfig.getDrainTimeoutSeconds())
+                .seed(loadConfig.getSeed() + number)
+                .serviceLoggingEnabled(loadConfig.isServiceLoggingEnabled())
+                .build();
+        LoadResult result = new OpenModelLoadEngine(stepConfig)
+                .runConstantRate(String.format("%s-step%d-%.1frps", name, number, rate), operations);
+        return new CapacitySearchResult.Step(number, result, breaches(result));
+    }
+
+    private List<String> breaches(LoadResult result) {
+        List<String> breaches = new ArrayList<>();
+        double p99Millis = result.getResponseTimeHistogram().getValueAtPercentile(99) / 1000.0;
+        if (p99Millis > config.getMaxP99Millis()) {
+            breaches.add(String.format("p99 %.1f ms", p99Millis));
+        }
+        if (result.getErrorRate() > config.getMaxErrorRate()) {
+            breaches.add(String.format("errors %.2f%%", result.getErrorRate() * 100));
+        }
+        double throughputRatio = result.getAchievedRps() / result.getTargetRps();
+        if (throughputRatio < config.getMinThroughputRatio()) {
+            breaches.add(String.format("achieved %.0f%% of target", throughputRatio * 100));
+        }
+        double lagMillis = result.getSchedulerLag().getValueAtPercentile(99) / 1000.0;
+        if (lagMillis > config.getMaxDispatchLagMillis()) {
+            breaches.add(String.format("generator behind by %.1f ms", lagMillis));
+        }
+        if (!endpointSlos.isEmpty()) {
+            for (SloGate.Check check : SloGate.evaluate(endpointSlos, snapshot(result))) {
+                if (check.getStatus() == SloGate.Status.BREACH) {
+                    breaches.add(check.getEndpoint() + " " + check.getMetric());
+                }
+            }
+        }
+        return breaches;
+    }
+
+    // Operation statistics as an endpoint latency snapshot (nanoseconds), for the SLO gate
+    private static Map<String, EndpointLatency> snapshot(LoadResult result) {
+        Map<String, EndpointLatency> snapshot = new LinkedHashMap<>();
+        for (OperationStats stats : result.getOperations().values()) {
+            Histogram nanos = new Histogram(3);
+            for (HistogramIterationValue value : stats.getResponseTimeHistogram().recordedValues()) {
+                nanos.recordValueWithCount(value.getValueIteratedTo() * 1000, value.getCountAtValueIteratedTo());
+            }
+            snapshot.put(stats.getName(), new EndpointLatency(stats.getName(), nanos, Map.of(), new Histogram(3),
+                    stats.getErrorCount()));
+        }
+        return snapshot;
+    }
+
+    private boolean cooldown() {
+        try {
+            TimeUnit.SECONDS.sleep(config.getCooldownSeconds());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private String describeSlo() {
+        String slo = String.format("p99 <= %.0f ms, errors <= %.2f%%, achieved >= %.0f%% of target, "
+                        + "dispatch lag p99 <= %.0f ms", config.getMaxP99Millis(), config.getMaxErrorRate() * 100,
+                config.getMinThroughputRatio() * 100, config.getMaxDispatchLagMillis());
+        return endpointSlos.isEmpty() ? slo : slo + ", plus " + endpointSlos.size() + " endpoint SLOs";
+    }
+}
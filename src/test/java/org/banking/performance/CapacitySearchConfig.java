@@ -0,0 +1,78 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.performance;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.banking.utils.ConfigReader;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CapacitySearchConfig {
+
+    // Rate of the first step; the search grows from here until the SLO is breached
+    @Builder.Default
+    private double startRps = 10;
+
+    // Rate multiplier between steps until the first breach
+    @Builder.Default
+    private double growthFactor = 2.0;
+
+    @Builder.Default
+    private double maxRps = 1000;
+
+    // Length of each load step; long enough for queues to build up at an unsustainable rate
+    @Builder.Default
+    private int stepSeconds = 15;
+
+    // Pause between steps, so the next one does not start on the previous one's backlog
+    @Builder.Default
+    private int cooldownSeconds = 2;
+
+    // Bisection stops once the gap between the highest passing and lowest breaching rate is this
+    // fraction of the latter
+    @Builder.Default
+    private double resolution = 0.1;
+
+    @Builder.Default
+    private int maxSteps = 12;
+
+    // SLO of a step over all its requests
+    @Builder.Default
+    private double maxP99Millis = 500;
+
+    @Builder.Default
+    private double maxErrorRate = 0.01;
+
+    // A step that achieves less than this fraction of its target rate is not sustainable
+    @Builder.Default
+    private double minThroughputRatio = 0.95;
+
+    // Above this p99 dispatch lag the load generator, not the server, limits the step
+    @Builder.Default
+    private double maxDispatchLagMillis = 50;
+
+    public static CapacitySearchConfig fromProperties() {
+        return CapacitySearchConfig.builder()
+                .startRps(ConfigReader.getDoubleProperty("perf.capacity.start.rps", 10))
+                .growthFactor(ConfigReader.getDoubleProperty("perf.capacity.growth.factor", 2.0))
+                .maxRps(ConfigReader.getDoubleProperty("perf.capacity.max.rps", 1000))
+                .stepSeconds(ConfigReader.getIntProperty("perf.capacity.step.seconds", 15))
+                .cooldownSeconds(ConfigReader.getIntProperty("perf.capacity.cooldown.seconds", 2))
+                .resolution(ConfigReader.getDoubleProperty("perf.capacity.resolution", 0.1))
+                .maxSteps(ConfigReader.getIntProperty("perf.capacity.max.steps", 12))
+                .maxP99Millis(ConfigReader.getDoubleProperty("perf.capacity.max.p99.ms", 500))
+                .maxErrorRate(ConfigReader.getDoubleProperty("perf.capacity.max.error.rate", 0.01))
+                .minThroughputRatio(ConfigReader.getDoubleProperty("perf.capacity.min.throughput.ratio", 0.95))
+                .maxDispatchLagMillis(ConfigReader.getDoubleProperty("perf.capacity.max.dispatch.lag.ms", 50))
+                .build();
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.performance;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Outcome of a {@link CapacitySearch}: every load step with its latency and the SLO breaches
+ * that made it unsustainable, and the highest rate that met the SLO.
+ */
+public class CapacitySearchResult {
+
+    // One load step at a fixed arrival rate
+    public static class Step {
+        private final int number;
+        private final LoadResult result;
+        private final List<String> breaches;
+
+        Step(int number, LoadResult result, List<String> breaches) {
+            this.number = number;
+            this.result = result;
+            this.breaches = Collections.unmodifiableList(new ArrayList<>(breaches));
+        }
+
+        // Position in run order, from 1
+        public int getNumber() {
+            return number;
+        }
+
+        public double getTargetRps() {
+            return result.getTargetRps();
+        }
+
+        public LoadResult getResult() {
+            return result;
+        }
+
+        public List<String> getBreaches() {
+            return breaches;
+        }
+
+        public boolean isWithinSlo() {
+            return breaches.isEmpty();
+        }
+    }
+
+    private final String name;
+    private final String sloDescription;
+    private final List<Step> steps;
+    private final double maxRps;
+    private final long elapsedNanos;
+
+    CapacitySearchResult(String name, String sloDescription, List<Step> steps, double maxRps, long elapsedNanos) {
+        this.name = name;
+        this.sloDescription = sloDescription;
+        this.steps = Collections.unmodifiableList(new ArrayList<>(steps));
+        this.maxRps = maxRps;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<Step> getSteps() {
+        return steps;
+    }
+
+    // Highest step rate that met the SLO, 0 when none did
+    public double getMaxSustainableRps() {
+        return steps.stream().filter(Step::isWithinSlo).mapToDouble(Step::getTargetRps).max().orElse(0);
+    }
+
+    // Lowest step rate that breached the SLO, infinite when none did
+    public double getFirstBreachRps() {
+        return steps.stream().filter(step -> !step.isWithinSlo()).mapToDouble(Step::getTargetRps).min()
+                .orElse(Double.POSITIVE_INFINITY);
+    }
+
+    public double getElapsedSeconds() {
+        return elapsedNanos / 1_000_000_000.0;
+    }
+
+    public String formatSummary() {
+        StringBuilder sb = new StringBuilder();
+        double sustainable = getMaxSustainableRps();
+        double firstBreach = getFirstBreachRps();
+        if (sustainable == 0) {
+            sb.append(String.format("=== Capacity search '%s': no step met the SLO, capacity is below %.1f rps ===%n",
+                    name, firstBreach));
+        } else if (Double.isInfinite(firstBreach)) {
+            sb.append(String.format("=== Capacity search '%s': SLO met up to the %.1f rps limit "
+                    + "(%.1f rps tested) ===%n", name, maxRps, sustainable));
+        } else {
+            sb.append(String.format("=== Capacity search '%s': max sustainable %.1f rps, "
+                    + "first breach at %.1f rps ===%n", name, sustainable, firstBreach));
+        }
+        sb.append(String.format("SLO per step: %s%n", sloDescription));
+        sb.append(String.format("%d steps in %.1f s; latency curve by rate:%n", steps.size(), getElapsedSeconds()));
+        sb.append(String.format("%4s %9s %9s %9s %9s %9s %9s %7s %9s  %s%n", "#", "Target", "Achieved", "p50(ms)",
+                "p90(ms)", "p99(ms)", "max(ms)", "Err%", "Lag p99", "Result"));
+        List<Step> byRate = new ArrayList<>(steps);
+        byRate.sort(Comparator.comparingDouble(Step::getTargetRps));
+        for (Step step : byRate) {
+            LoadResult result = step.getResult();
+            Histogram latency = result.getResponseTimeHistogram();
+            sb.append(String.format("%4d %9.1f %9.1f %9.2f %9.2f %9.2f %9.2f %6.2f%% %9.2f  %s%n", step.getNumber(),
+                    step.getTargetRps(), result.getAchievedRps(), latency.getValueAtPercentile(50) / 1000.0,
+                    latency.getValueAtPercentile(90) / 1000.0, latency.getValueAtPercentile(99) / 1000.0,
+                    latency.getMaxValue() / 1000.0, result.getErrorRate() * 100,
+                    result.getSchedulerLag().getValueAtPercentile(99) / 1000.0,
+                    step.isWithinSlo() ? "ok" : String.join("; ", step.getBreaches())));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.performance;
+
+import io.restassured.response.Response;
+import org.banking.dto.TransactionDto;
+import org.banking.pojo.Transaction;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Checks the conversion of accepted cross-currency transfers. Load operations only
+ * {@link #record} each request with its response, so parsing and checking stay out of the
+ * measured latency; {@link #verify()} checks them once the run is over. A converted transfer
+ * must report originalCurrency and originalAmount as requested, and amount must equal
+ * originalAmount x exchangeRate rounded to cents, within the tolerance. Responses without
+ * conversion fields are counted as unconverted rather than wrong, as the service may convert
+ * without reporting it. Only the first mismatches are kept.
+ */
+public class CurrencyConversionCheck {
+
+    private static final int MAX_REPORTED_MISMATCHES = 20;
+
+    private final BigDecimal tolerance;
+    private final LongAdder verified = new LongAdder();
+    private final LongAdder unconverted = new LongAdder();
+    private final LongAdder mismatched = new LongAdder();
+    private final Queue<String> mismatches = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger reportedMismatches = new AtomicInteger();
+    private final Queue<Map.Entry<TransactionDto, Response>> recorded = new ConcurrentLinkedQueue<>();
+
+    public CurrencyConversionCheck(BigDecimal tolerance) {
+        this.tolerance = tolerance;
+    }
+
+    // Queues one response to a cross-currency transfer request; thread-safe and cheap enough for a timed call
+    public void record(TransactionDto request, Response response) {
+        recorded.add(Map.entry(request, response));
+    }
+
+    // Checks every recorded response not checked yet; call after the load run
+    public void verify() {
+        Map.Entry<TransactionDto, Response> next;
+        while ((next = recorded.poll()) != null) {
+            check(next.getKey(), next.getValue());
+        }
+    }
+
+    // Only accepted transfers are checked; other statuses are ignored
+    private void check(TransactionDto request, Response response) {
+        if (response.getStatusCode() != 201) {
+            return;
+        }
+        Transaction transaction = response.as(Transaction.class);
+        if (transaction.getExchangeRate() == null || transaction.getOriginalAmount() == null
+                || !transaction.isCrossCurrency()) {
+            unconverted.increment();
+            return;
+        }
+        List<String> problems = new ArrayList<>();
+        if (!request.getCurrency().equals(transaction.getOriginalCurrency())) {
+            problems.add("originalCurrency " + transaction.getOriginalCurrency() + ", requested "
+                    + request.getCurrency());
+        }
+        if (transaction.getOriginalAmount().compareTo(request.getAmount()) != 0) {
+            problems.add("originalAmount " + transaction.getOriginalAmount() + ", requested " + request.getAmount());
+        }
+        BigDecimal expected = transaction.getOriginalAmount().multiply(transaction.getExchangeRate())
+                .setScale(2, RoundingMode.HALF_UP);
+        if (transaction.getAmount() == null
+                || transaction.getAmount().subtract(expected).abs().compareTo(tolerance) > 0) {
+            problems.add("amount " + transaction.getAmount() + ", expected " + transaction.getOriginalAmount()
+                    + " x " + transaction.getExchangeRate() + " = " + expected);
+        }
+        if (problems.isEmpty()) {
+            verified.increment();
+            return;
+        }
+        mismatched.increment();
+        if (reportedMismatches.incrementAndGet() <= MAX_REPORTED_MISMATCHES) {
+            mismatches.add(transaction.getTransactionReference() + " " + request.getCurrency() + "->"
+                    + transaction.getCurrency() + ": " + String.join("; ", problems));
+        }
+    }
+
+    public long getVerifiedCount() {
+        return verified.sum();
+    }
+
+    public long getUnconvertedCount() {
+        return unconverted.sum();
+    }
+
+    public long getMismatchCount() {
+        return mismatched.sum();
+    }
+
+    public String formatReport() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Conversion: %d verified, %d mismatched, %d without conversion fields "
+                + "(tolerance %s)%n", getVerifiedCount(), getMismatchCount(), getUnconvertedCount(), tolerance));
+        mismatches.forEach(mismatch -> sb.append("  ").append(mismatch).append('\n'));
+        if (getMismatchCount() > mismatches.size()) {
+            sb.append(String.format("  ... %d more%n", getMismatchCount() - mismatches.size()));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.performance;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.banking.pojo.Account;
+import org.banking.pojo.Transaction;
+import org.banking.pojo.User;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Users, accounts and transactions created before a mixed workload, for its operations to pick
+ * IDs from. Picks follow a {@link ZipfianSelector} over each list, so a few customers take a
+ * large share of the requests the way they do in production; skew 0 picks uniformly.
+ * Thread-safe: picks are serialized on the pool.
+ */
+public class EntityPool {
+
+    private static final Logger logger = LogManager.getLogger(EntityPool.class);
+
+    private final ZipfianSelector<User> users;
+    private final ZipfianSelector<Account> accounts;
+    private final ZipfianSelector<Transaction> transactions;
+
+    public EntityPool(List<User> users, List<Account> accounts, List<Transaction> transactions, double skew,
+                      long seed) {
+        Random random = new Random(seed);
+        this.users = new ZipfianSelector<>(users, skew, random);
+        this.accounts = new ZipfianSelector<>(accounts, skew, random);
+        this.transactions = new ZipfianSelector<>(transactions, skew, random);
+    }
+
+    /**
+     * Seeds one account per user and a few deposits per account, so every read in the mix has
+     * an entity that exists and account histories are not empty.
+     */
+    public static EntityPool seed(int userCount, int transactionsPerAccount, double skew, long seed) {
+        List<User> users = new ArrayList<>();
+        List<Account> accounts = new ArrayList<>();
+        List<Transaction> transactions = new ArrayList<>();
+        for (int i = 0; i < userCount; i++) {
+            User user = PerformanceDataSeeder.createUser();
+            Account account = PerformanceDataSeeder.createAccount(user.getId(), "CHECKING",
+                    new BigDecimal("100000.00"));
+            users.add(user);
+            accounts.add(account);
+            for (int t = 0; t < transactionsPerAccount; t++) {
+                transactions.add(PerformanceDataSeeder.createDeposit(account.getId(), new BigDecimal("10.00")));
+            }
+        }
+        logger.info("Seeded entity pool: {} users, {} accounts, {} transactions", users.size(), accounts.size(),
+                transactions.size());
+        return new EntityPool(users, accounts, transactions, skew, seed);
+    }
+
+    public synchronized User user() {
+        return users.next();
+    }
+
+    public synchronized Account account() {
+        return accounts.next();
+    }
+
+    public synchronized Transaction transaction() {
+        return transactions.next();
+    }
+
+    // Pool entities in seeding order, for callers that map their own keys onto them
+    public List<User> getUsers() {
+        return Collections.unmodifiableList(users.getItems());
+    }
+
+    public List<Account> getAccounts() {
+        return Collections.unmodifiableList(accounts.getItems());
+    }
+
+    public List<Transaction> getTransactions() {
+        return Collections.unmodifiableList(transactions.getItems());
+    }
+
+    public double getSkew() {
+        return users.getSkew();
+    }
+
+    public int getUserCount() {
+        return users.getItems().size();
+    }
+
+    public int getAccountCount() {
+        return accounts.getItems().size();
+    }
+
+    public int getTransactionCount() {
+        return transactions.getItems().size();
+    }
+}
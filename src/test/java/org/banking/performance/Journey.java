@@ -0,0 +1,112 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.performance;
+
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An ordered list of service calls a virtual user performs in one iteration. Steps share a
+ * {@link Context} so later steps can use entities created by earlier ones. A step that
+ * returns {@code null} was skipped for this iteration (e.g. an optional second account).
+ */
+public class Journey {
+
+    @FunctionalInterface
+    public interface StepAction {
+        Response execute(RequestSpecification requestSpec, Context context);
+    }
+
+    public static class Step {
+        private final String name;
+        private final StepAction action;
+
+        public Step(String name, StepAction action) {
+            this.name = name;
+            this.action = action;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public StepAction getAction() {
+            return action;
+        }
+    }
+
+    // Per-iteration state shared between the steps of a journey
+    public static class Context {
+        private final Map<String, Object> values = new HashMap<>();
+
+        public void put(String key, Object value) {
+            values.put(key, value);
+        }
+
+        @SuppressWarnings("unchecked")
+        public <T> T get(String key) {
+            T value = (T) values.get(key);
+            if (value == null) {
+                throw new IllegalStateException("Journey context has no value for: " + key);
+            }
+            return value;
+        }
+
+        public boolean has(String key) {
+            return values.containsKey(key);
+        }
+    }
+
+    // Thrown by a step when the response does not allow the journey to continue
+    public static class StepFailedException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        public StepFailedException(String message) {
+            super(message);
+        }
+    }
+
+    private final String name;
+    private final int weight;
+    private final List<Step> steps = new ArrayList<>();
+
+    public Journey(String name, int weight) {
+        this.name = name;
+        this.weight = weight;
+    }
+
+    public Journey step(String stepName, StepAction action) {
+        steps.add(new Step(stepName, action));
+        return this;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getWeight() {
+        return weight;
+    }
+
+    public List<Step> getSteps() {
+        return Collections.unmodifiableList(steps);
+    }
+
+    public static Response expectStatus(Response response, int expectedStatus) {
+        if (response.getStatusCode() != expectedStatus) {
+            throw new StepFailedException("Expected HTTP " + expectedStatus + " but got "
+                    + response.getStatusCode());
+        }
+        return response;
+    }
+}
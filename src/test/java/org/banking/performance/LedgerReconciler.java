@@ -0,0 +1,445 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.performance;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.banking.base.RequestSpecFactory;
+import org.banking.services.AccountApiService;
+import org.banking.services.TransactionApiService;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Supplier;
+
+/**
+ * Checks that every account's balance matches its transaction history. All accounts are listed,
+ * sorted by ID and reconciled by a fork-join pool that splits the ID range until a task holds
+ * {@link ReconciliationConfig#getAccountsPerTask()} accounts; each task reads the histories of its
+ * accounts one by one.
+ * <p>
+ * The API exposes no opening balance, so a balance is rebuilt from an anchor: the earliest
+ * completed transaction that reports the account's balanceAfterTransaction (the source account
+ * for WITHDRAWAL and TRANSFER, the target account for DEPOSIT). Every later completed transaction
+ * is then applied: DEPOSIT credits amount - fee, WITHDRAWAL debits amount + fee, TRANSFER debits
+ * the source amount + fee and credits the target amount. Transaction IDs are assumed to increase in
+ * the order the service applied them.
+ * <p>
+ * Responses are read with a streaming JSON parser that keeps two longs per transaction of the
+ * accounts in flight, and two per account for the listing, so memory stays bounded by the largest
+ * single history rather than the size of the ledger. Amounts are compared in cents.
+ */
+public class LedgerReconciler {
+
+    private static final Logger logger = LogManager.getLogger(LedgerReconciler.class);
+    private static final JsonFactory JSON = new JsonFactory();
+    private static final int MAX_REPORTED_FAILURES = 10;
+
+    private final ReconciliationConfig config;
+    private final Supplier<RequestSpecification> requestSpecSupplier;
+
+    public LedgerReconciler(ReconciliationConfig config) {
+        this(config, RequestSpecFactory::newLoadRequestSpec);
+    }
+
+    public LedgerReconciler(ReconciliationConfig config, Supplier<RequestSpecification> requestSpecSupplier) {
+        this.config = config;
+        this.requestSpecSupplier = requestSpecSupplier;
+    }
+
+    public ReconciliationResult reconcile() {
+        Level serviceLogLevel = ServiceLogging.quiet(config.isServiceLoggingEnabled());
+        ForkJoinPool pool = new ForkJoinPool(config.getParallelism());
+        long start = System.nanoTime();
+        try {
+            AccountListing accounts = listAccounts();
+            logger.info("Reconciling {} accounts with parallelism {}", accounts.size, config.getParallelism());
+            Tally tally = pool.invoke(new RangeTask(accounts, 0, accounts.size));
+            return new ReconciliationResult(accounts.size, tally, System.nanoTime() - start);
+        } finally {
+            pool.shutdownNow();
+            ServiceLogging.restore(serviceLogLevel);
+        }
+    }
+
+    private AccountListing listAccounts() {
+        Response response = AccountApiService.getAllAccounts(requestSpecSupplier.get());
+        if (response.getStatusCode() != 200) {
+            throw new IllegalStateException("Failed to list accounts: HTTP " + response.getStatusCode());
+        }
+        AccountListing accounts = new AccountListing();
+        try (InputStream body = response.asInputStream(); JsonParser parser = JSON.createParser(body)) {
+            expectArray(parser);
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                Long id = null;
+                BigDecimal balance = null;
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.getCurrentName();
+                    parser.nextToken();
+                    if ("id".equals(field)) {
+                        id = readLong(parser);
+                    } else if ("balance".equals(field)) {
+                        balance = readDecimal(parser);
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                if (id != null) {
+                    accounts.add(id, balance == null ? 0 : cents(balance));
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read the account listing", e);
+        }
+        accounts.sortById();
+        return accounts;
+    }
+
+    // Rebuilds one account's balance from its history and compares it with the listed balance
+    private Tally reconcileAccount(long accountId, long actualCents) {
+        Tally tally = new Tally();
+        History history;
+        try {
+            history = readHistory(accountId);
+        } catch (Exception e) {
+            tally.failed++;
+            tally.failures.add("account " + accountId + ": " + e.getMessage());
+            return tally;
+        }
+        tally.entries = history.entries;
+        tally.ignoredEntries = history.ignored;
+        Long expectedCents = history.rebuildBalance();
+        if (expectedCents == null) {
+            tally.unanchored++;
+        } else {
+            tally.checked++;
+            if (expectedCents != actualCents) {
+                tally.mismatchCount++;
+                tally.mismatches.add(new ReconciliationResult.Mismatch(accountId, expectedCents, actualCents,
+                        history.entries));
+            }
+        }
+        return tally;
+    }
+
+    private History readHistory(long accountId) throws IOException {
+        Response response = TransactionApiService.getTransactionsByAccountId(requestSpecSupplier.get(), accountId);
+        if (response.getStatusCode() != 200) {
+            throw new IOException("HTTP " + response.getStatusCode());
+        }
+        History history = new History();
+        TransactionFields transaction = new TransactionFields();
+        try (InputStream body = response.asInputStream(); JsonParser parser = JSON.createParser(body)) {
+            expectArray(parser);
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                transaction.read(parser);
+                history.entries++;
+                transaction.apply(accountId, history);
+            }
+        }
+        return history;
+    }
+
+    private static void expectArray(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_ARRAY) {
+            throw new IOException("Expected a JSON array, got " + parser.getCurrentToken());
+        }
+    }
+
+    private static Long readLong(JsonParser parser) throws IOException {
+        JsonToken token = parser.getCurrentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT) {
+            return parser.getLongValue();
+        }
+        return token == JsonToken.VALUE_STRING ? Long.valueOf(parser.getText()) : null;
+    }
+
+    private static BigDecimal readDecimal(JsonParser parser) throws IOException {
+        JsonToken token = parser.getCurrentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+            return parser.getDecimalValue();
+        }
+        return token == JsonToken.VALUE_STRING ? new BigDecimal(parser.getText()) : null;
+    }
+
+    private static long cents(BigDecimal amount) {
+        return amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    private class RangeTask extends RecursiveTask<Tally> {
+        private static final long serialVersionUID = 1L;
+
+        private final AccountListing accounts;
+        private final int from;
+        private final int to;
+
+        private RangeTask(AccountListing accounts, int from, int to) {
+            this.accounts = accounts;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Tally compute() {
+            if (to - from <= config.getAccountsPerTask()) {
+                Tally tally = new Tally();
+                for (int i = from; i < to; i++) {
+                    tally.merge(reconcileAccount(accounts.ids[i], accounts.balanceCents[i]),
+                            config.getMaxReportedMismatches());
+                }
+                return tally;
+            }
+            int middle = (from + to) >>> 1;
+            RangeTask lower = new RangeTask(accounts, from, middle);
+            lower.fork();
+            Tally upper = new RangeTask(accounts, middle, to).compute();
+            // Lower IDs first, so the reported mismatches are the first ones in ID order
+            return lower.join().merge(upper, config.getMaxReportedMismatches());
+        }
+    }
+
+    // Counts for a range of accounts; merged up the fork-join tree
+    static final class Tally {
+        long checked;
+        long unanchored;
+        long failed;
+        long entries;
+        long ignoredEntries;
+        long mismatchCount;
+        final List<ReconciliationResult.Mismatch> mismatches = new ArrayList<>();
+        final List<String> failures = new ArrayList<>();
+
+        private Tally merge(Tally other, int maxReportedMismatches) {
+            checked += other.checked;
+            unanchored += other.unanchored;
+            failed += other.failed;
+            entries += other.entries;
+            ignoredEntries += other.ignoredEntries;
+            mismatchCount += other.mismatchCount;
+            for (ReconciliationResult.Mismatch mismatch : other.mismatches) {
+                if (mismatches.size() < maxReportedMismatches) {
+                    mismatches.add(mismatch);
+                }
+            }
+            for (String failure : other.failures) {
+                if (failures.size() < MAX_REPORTED_FAILURES) {
+                    failures.add(failure);
+                }
+            }
+            return this;
+        }
+    }
+
+    // Account IDs and balances as parallel primitive arrays, sorted by ID
+    private static final class AccountListing {
+        private long[] ids = new long[256];
+        private long[] balanceCents = new long[256];
+        private int size;
+
+        private void add(long id, long cents) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                balanceCents = Arrays.copyOf(balanceCents, size * 2);
+            }
+            ids[size] = id;
+            balanceCents[size++] = cents;
+        }
+
+        private void sortById() {
+            for (int i = 1; i < size; i++) {
+                if (ids[i - 1] > ids[i]) {
+                    sortPairs();
+                    return;
+                }
+            }
+        }
+
+        private void sortPairs() {
+            Integer[] order = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> Long.compare(ids[a], ids[b]));
+            long[] sortedIds = new long[size];
+            long[] sortedBalances = new long[size];
+            for (int i = 0; i < size; i++) {
+                sortedIds[i] = ids[order[i]];
+                sortedBalances[i] = balanceCents[order[i]];
+            }
+            ids = sortedIds;
+            balanceCents = sortedBalances;
+        }
+    }
+
+    // One account's money movements by transaction ID, plus its anchor
+    private static final class History {
+        private long[] transactionIds = new long[64];
+        private long[] movementCents = new long[64];
+        private int size;
+        private long entries;
+        private long ignored;
+        private long anchorId = Long.MAX_VALUE;
+        private long anchorBalanceCents;
+
+        private void addMovement(long transactionId, long cents) {
+            if (size == transactionIds.length) {
+                transactionIds = Arrays.copyOf(transactionIds, size * 2);
+                movementCents = Arrays.copyOf(movementCents, size * 2);
+            }
+            transactionIds[size] = transactionId;
+            movementCents[size++] = cents;
+        }
+
+        private void offerAnchor(long transactionId, long balanceCents) {
+            if (transactionId < anchorId) {
+                anchorId = transactionId;
+                anchorBalanceCents = balanceCents;
+            }
+        }
+
+        private Long rebuildBalance() {
+            if (anchorId == Long.MAX_VALUE) {
+                return null;
+            }
+            long balance = anchorBalanceCents;
+            for (int i = 0; i < size; i++) {
+                if (transactionIds[i] > anchorId) {
+                    balance += movementCents[i];
+                }
+            }
+            return balance;
+        }
+    }
+
+    // The fields of one transaction the reconciliation needs; reused across the objects of a history
+    private static final class TransactionFields {
+        private Long id;
+        private String type;
+        private String status;
+        private BigDecimal amount;
+        private BigDecimal fee;
+        private BigDecimal balanceAfter;
+        private Long fromAccountId;
+        private Long toAccountId;
+
+        private void read(JsonParser parser) throws IOException {
+            id = null;
+            type = null;
+            status = null;
+            amount = null;
+            fee = null;
+            balanceAfter = null;
+            fromAccountId = null;
+            toAccountId = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken token = parser.nextToken();
+                switch (field) {
+                    case "id":
+                        id = readLong(parser);
+                        break;
+                    case "transactionType":
+                        type = parser.getValueAsString();
+                        break;
+                    case "status":
+                        status = parser.getValueAsString();
+                        break;
+                    case "amount":
+                        amount = readDecimal(parser);
+                        break;
+                    case "fee":
+                        fee = readDecimal(parser);
+                        break;
+                    case "balanceAfterTransaction":
+                        balanceAfter = readDecimal(parser);
+                        break;
+                    case "fromAccountId":
+                        fromAccountId = fromAccountId == null ? readLong(parser) : fromAccountId;
+                        break;
+                    case "toAccountId":
+                        toAccountId = toAccountId == null ? readLong(parser) : toAccountId;
+                        break;
+                    case "fromAccount":
+                        fromAccountId = token == JsonToken.START_OBJECT ? readNestedId(parser) : fromAccountId;
+                        break;
+                    case "toAccount":
+                        toAccountId = token == JsonToken.START_OBJECT ? readNestedId(parser) : toAccountId;
+                        break;
+                    default:
+                        parser.skipChildren();
+                }
+            }
+        }
+
+        // The service may embed the account instead of (or besides) sending its ID
+        private Long readNestedId(JsonParser parser) throws IOException {
+            Long nestedId = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                parser.nextToken();
+                if ("id".equals(field)) {
+                    nestedId = readLong(parser);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return nestedId;
+        }
+
+        private void apply(long accountId, History history) {
+            boolean completed = status == null || "COMPLETED".equalsIgnoreCase(status);
+            if (!completed || id == null || amount == null || type == null) {
+                history.ignored++;
+                return;
+            }
+            long amountCents = cents(amount);
+            long feeCents = fee == null ? 0 : cents(fee);
+            boolean source = Long.valueOf(accountId).equals(fromAccountId);
+            boolean target = Long.valueOf(accountId).equals(toAccountId);
+            long movement;
+            boolean balanceSide;
+            switch (type.toUpperCase()) {
+                case "DEPOSIT":
+                    movement = target ? amountCents - feeCents : 0;
+                    balanceSide = target;
+                    break;
+                case "WITHDRAWAL":
+                    movement = source ? -(amountCents + feeCents) : 0;
+                    balanceSide = source;
+                    break;
+                case "TRANSFER":
+                    movement = (source ? -(amountCents + feeCents) : 0) + (target ? amountCents : 0);
+                    balanceSide = source;
+                    break;
+                default:
+                    history.ignored++;
+                    return;
+            }
+            if (!source && !target) {
+                history.ignored++;
+                return;
+            }
+            history.addMovement(id, movement);
+            if (balanceSide && balanceAfter != null) {
+                history.offerAnchor(id, cents(balanceAfter));
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.performance;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.banking.utils.ConfigReader;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoadConfig {
+
+    // Target arrival rate in requests per second (open model)
+    @Builder.Default
+    private double targetRps = 50;
+
+    @Builder.Default
+    private int durationSeconds = 60;
+
+    // How often interval throughput/latency is logged while the run is in progress
+    @Builder.Default
+    private int reportIntervalSeconds = 5;
+
+    // How long to wait for in-flight requests after the last arrival has been dispatched
+    @Builder.Default
+    private int drainTimeoutSeconds = 30;
+
+    // Seed for operation selection so that runs are reproducible
+    @Builder.Default
+    private long seed = 42L;
+
+    // Keep per-request INFO logging from the service layer during the run
+    @Builder.Default
+    private boolean serviceLoggingEnabled = false;
+
+    public static LoadConfig fromProperties() {
+        return LoadConfig.builder()
+                .targetRps(ConfigReader.getDoubleProperty("perf.target.rps", 50))
+                .durationSeconds(ConfigReader.getIntProperty("perf.duration.seconds", 60))
+                .reportIntervalSeconds(ConfigReader.getIntProperty("perf.report.interval.seconds", 5))
+                .drainTimeoutSeconds(ConfigReader.getIntProperty("perf.drain.timeout.seconds", 30))
+                .seed(ConfigReader.getLongProperty("perf.seed", 42L))
+                .serviceLoggingEnabled(ConfigReader.getBooleanProperty("perf.service.logging.enabled", false))
+                .build();
+    }
+}
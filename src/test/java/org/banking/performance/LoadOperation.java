@@ -0,0 +1,50 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.performance;
+
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+
+import java.util.function.Function;
+
+/**
+ * A named, weighted call into the service layer, e.g.
+ * {@code new LoadOperation("getAccountById", 30, spec -> AccountApiService.getAccountById(spec, id))}.
+ * The function receives a fresh request specification on every invocation.
+ */
+public class LoadOperation {
+
+    private final String name;
+    private final int weight;
+    private final Function<RequestSpecification, Response> call;
+
+    public LoadOperation(String name, int weight, Function<RequestSpecification, Response> call) {
+        if (weight < 0) {
+            throw new IllegalArgumentException("Operation weight must not be negative: " + name);
+        }
+        this.name = name;
+        this.weight = weight;
+        this.call = call;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getWeight() {
+        return weight;
+    }
+
+    public Response invoke(RequestSpecification requestSpec) {
+        return call.apply(requestSpec);
+    }
+
+    @Override
+    public String toString() {
+        return name + ":" + weight;
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.performance;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class LoadResult {
+
+    private final String name;
+    private final double targetRps;
+    private final long elapsedNanos;
+    private final long dispatchedCount;
+    private final int maxInFlight;
+    private final Histogram schedulerLag;
+    private final Map<String, OperationStats> operations;
+
+    public LoadResult(String name, double targetRps, long elapsedNanos, long dispatchedCount, int maxInFlight,
+                      Histogram schedulerLag, Map<String, OperationStats> operations) {
+        this.name = name;
+        this.targetRps = targetRps;
+        this.elapsedNanos = elapsedNanos;
+        this.dispatchedCount = dispatchedCount;
+        this.maxInFlight = maxInFlight;
+        this.schedulerLag = schedulerLag;
+        this.operations = Collections.unmodifiableMap(new LinkedHashMap<>(operations));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public double getTargetRps() {
+        return targetRps;
+    }
+
+    public double getElapsedSeconds() {
+        return elapsedNanos / 1_000_000_000.0;
+    }
+
+    public long getDispatchedCount() {
+        return dispatchedCount;
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    // Delay between intended and actual dispatch, in microseconds. A large lag means the
+    // generator itself could not keep up and the run is not a valid open-model measurement.
+    public Histogram getSchedulerLag() {
+        return schedulerLag;
+    }
+
+    public Map<String, OperationStats> getOperations() {
+        return operations;
+    }
+
+    public long getCompletedCount() {
+        return operations.values().stream().mapToLong(OperationStats::getTotalCount).sum();
+    }
+
+    public long getErrorCount() {
+        return operations.values().stream().mapToLong(OperationStats::getErrorCount).sum();
+    }
+
+    public double getErrorRate() {
+        long completed = getCompletedCount();
+        return completed == 0 ? 0.0 : (double) getErrorCount() / completed;
+    }
+
+    public double getAchievedRps() {
+        double seconds = getElapsedSeconds();
+        return seconds == 0 ? 0.0 : getCompletedCount() / seconds;
+    }
+
+    public Histogram getResponseTimeHistogram() {
+        Histogram merged = new Histogram(3);
+        operations.values().forEach(stats -> merged.add(stats.getResponseTimeHistogram()));
+        return merged;
+    }
+
+    public String formatSummary() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("=== Load Result: %s ===%n", name));
+        sb.append(String.format("Target rate: %.1f rps, achieved: %.1f rps over %.1f s%n",
+                targetRps, getAchievedRps(), getElapsedSeconds()));
+        sb.append(String.format("Dispatched: %d, completed: %d, errors: %d (%.3f%%), max in-flight: %d%n",
+                dispatchedCount, getCompletedCount(), getErrorCount(), getErrorRate() * 100, maxInFlight));
+        sb.append(String.format("Scheduler lag p99: %.3f ms, max: %.3f ms%n",
+                toMillis(schedulerLag.getValueAtPercentile(99)), toMillis(schedulerLag.getMaxValue())));
+        sb.append("Response time is measured from the intended start time (coordinated-omission corrected)\n");
+        sb.append(formatHeader());
+        for (OperationStats stats : operations.values()) {
+            sb.append(formatRow(stats.getName(), stats.getTotalCount(), stats.getErrorCount(),
+                    stats.getResponseTimeHistogram()));
+        }
+        sb.append(formatRow("ALL", getCompletedCount(), getErrorCount(), getResponseTimeHistogram()));
+
+        operations.values().stream()
+                .filter(stats -> stats.getErrorCount() > 0)
+                .forEach(stats -> sb.append(String.format("Errors for %s: %s%n",
+                        stats.getName(), stats.getErrorsByCause())));
+        return sb.toString();
+    }
+
+    private String formatHeader() {
+        return String.format("%-32s %9s %8s %9s %9s %9s %9s %9s %9s%n",
+                "Operation", "Count", "Errors", "RPS", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)");
+    }
+
+    private String formatRow(String operation, long count, long errors, Histogram histogram) {
+        double seconds = getElapsedSeconds();
+        return String.format("%-32s %9d %8d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                operation, count, errors, seconds == 0 ? 0.0 : count / seconds,
+                toMillis(histogram.getValueAtPercentile(50)),
+                toMillis(histogram.getValueAtPercentile(90)),
+                toMillis(histogram.getValueAtPercentile(99)),
+                toMillis(histogram.getValueAtPercentile(99.9)),
+                toMillis(histogram.getMaxValue()));
+    }
+
+    private static double toMillis(long micros) {
+        return micros / 1000.0;
+    }
+}
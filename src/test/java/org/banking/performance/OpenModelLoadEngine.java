@@ -0,0 +1,236 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.performance;
+
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import org.HdrHistogram.Histogram;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.banking.base.RequestSpecFactory;
+import org.banking.utils.ExecutorUtils;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Open-model load generator: requests are started at a fixed schedule regardless of how
+ * many earlier requests are still in flight, so a slow server shows up as growing latency
+ * instead of silently lowering the request rate (coordinated omission).
+ *
+ * <p>A single dispatcher thread waits for each intended start time (park, then spin for the
+ * last few microseconds) and hands the call to an unbounded executor. Latency is measured
+ * from the intended start time, not from the moment the request was actually sent.</p>
+ */
+public class OpenModelLoadEngine {
+
+    private static final Logger logger = LogManager.getLogger(OpenModelLoadEngine.class);
+    private static final long SPIN_THRESHOLD_NANOS = 50_000L;
+    private static final long START_DELAY_NANOS = TimeUnit.MILLISECONDS.toNanos(20);
+
+    private final LoadConfig config;
+    private final Supplier<RequestSpecification> requestSpecSupplier;
+
+    public OpenModelLoadEngine(LoadConfig config) {
+        this(config, RequestSpecFactory::newLoadRequestSpec);
+    }
+
+    public OpenModelLoadEngine(LoadConfig config, Supplier<RequestSpecification> requestSpecSupplier) {
+        this.config = config;
+        this.requestSpecSupplier = requestSpecSupplier;
+    }
+
+    /**
+     * A single scheduled request: the operation to call and its intended start offset
+     * relative to the beginning of the run.
+     */
+    public static class Arrival {
+        private final long offsetNanos;
+        private final LoadOperation operation;
+
+        public Arrival(long offsetNanos, LoadOperation operation) {
+            this.offsetNanos = offsetNanos;
+            this.operation = operation;
+        }
+
+        public long getOffsetNanos() {
+            return offsetNanos;
+        }
+
+        public LoadOperation getOperation() {
+            return operation;
+        }
+    }
+
+    // Fires the weighted operation mix at config.targetRps for config.durationSeconds
+    public LoadResult runConstantRate(String name, List<LoadOperation> operations) {
+        if (config.getTargetRps() <= 0) {
+            throw new IllegalArgumentException("Target rate must be positive: " + config.getTargetRps());
+        }
+
+        WeightedSelector<LoadOperation> selector = new WeightedSelector<>(
+                operations, LoadOperation::getWeight, new Random(config.getSeed()));
+        double intervalNanos = 1_000_000_000.0 / config.getTargetRps();
+        long totalArrivals = (long) Math.ceil(config.getTargetRps() * config.getDurationSeconds());
+
+        Iterator<Arrival> arrivals = new Iterator<>() {
+            private long index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < totalArrivals;
+            }
+
+            @Override
+            public Arrival next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                long offset = Math.round(index++ * intervalNanos);
+                return new Arrival(offset, selector.next());
+            }
+        };
+
+        return run(name, config.getTargetRps(), selector.getItems(), arrivals);
+    }
+
+    // Fires an explicit arrival schedule. Arrivals must be ordered by offset and may only
+    // reference the given operations.
+    public LoadResult run(String name, double targetRps, Collection<LoadOperation> operations,
+                          Iterator<Arrival> arrivals) {
+        Map<String, OperationStats> stats = new LinkedHashMap<>();
+        for (LoadOperation operation : operations) {
+            stats.putIfAbsent(operation.getName(), new OperationStats(operation.getName()));
+        }
+
+        Histogram schedulerLag = new Histogram(3);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        long dispatched = 0;
+
+        ExecutorService workers = ExecutorUtils.newUnboundedExecutor("load-worker");
+        ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor(
+                ExecutorUtils.daemonThreadFactory("load-reporter"));
+
+        logger.info("Starting open-model load run '{}' at {} rps with operations {}",
+                name, targetRps, operations);
+
+        Level serviceLogLevel = ServiceLogging.quiet(config.isServiceLoggingEnabled());
+
+        long startNanos = System.nanoTime() + START_DELAY_NANOS;
+        int reportInterval = Math.max(1, config.getReportIntervalSeconds());
+        reporter.scheduleAtFixedRate(() -> logInterval(name, stats, inFlight, reportInterval),
+                reportInterval, reportInterval, TimeUnit.SECONDS);
+
+        try {
+            while (arrivals.hasNext() && !Thread.currentThread().isInterrupted()) {
+                Arrival arrival = arrivals.next();
+                long intendedStart = startNanos + arrival.getOffsetNanos();
+                sleepUntil(intendedStart);
+
+                OperationStats operationStats = stats.get(arrival.getOperation().getName());
+                if (operationStats == null) {
+                    throw new IllegalArgumentException("Arrival references an unregistered operation: "
+                            + arrival.getOperation().getName());
+                }
+
+                schedulerLag.recordValue(Math.max(0, (System.nanoTime() - intendedStart) / 1000));
+                int current = inFlight.incrementAndGet();
+                maxInFlight.accumulateAndGet(current, Math::max);
+                dispatched++;
+
+                workers.execute(() -> execute(arrival.getOperation(), operationStats, intendedStart, inFlight));
+            }
+
+            awaitDrain(inFlight);
+        } finally {
+            reporter.shutdownNow();
+            ExecutorUtils.shutdownAndAwait(workers, 5, TimeUnit.SECONDS);
+            ServiceLogging.restore(serviceLogLevel);
+        }
+
+        long elapsedNanos = System.nanoTime() - startNanos;
+        stats.values().forEach(OperationStats::drainInterval);
+
+        LoadResult result = new LoadResult(name, targetRps, elapsedNanos, dispatched, maxInFlight.get(),
+                schedulerLag, stats);
+        logger.info("\n" + result.formatSummary());
+        return result;
+    }
+
+    private void execute(LoadOperation operation, OperationStats stats, long intendedStart, AtomicInteger inFlight) {
+        long sendStart = System.nanoTime();
+        try {
+            Response response = operation.invoke(requestSpecSupplier.get());
+            long end = System.nanoTime();
+            int statusCode = response.getStatusCode();
+            if (statusCode < 400) {
+                stats.recordSuccess((end - intendedStart) / 1000, (end - sendStart) / 1000);
+            } else {
+                stats.recordError((end - intendedStart) / 1000, (end - sendStart) / 1000, "HTTP " + statusCode);
+            }
+        } catch (Exception e) {
+            long end = System.nanoTime();
+            stats.recordError((end - intendedStart) / 1000, (end - sendStart) / 1000, e.getClass().getSimpleName());
+            logger.debug("Load operation {} failed: {}", operation.getName(), e.getMessage());
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private void awaitDrain(AtomicInteger inFlight) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(config.getDrainTimeoutSeconds());
+        while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+        if (inFlight.get() > 0) {
+            logger.warn("{} requests still in flight after drain timeout of {}s",
+                    inFlight.get(), config.getDrainTimeoutSeconds());
+        }
+    }
+
+    private void logInterval(String name, Map<String, OperationStats> stats, AtomicInteger inFlight,
+                             int intervalSeconds) {
+        for (OperationStats operationStats : stats.values()) {
+            Histogram interval = operationStats.drainInterval();
+            if (interval.getTotalCount() == 0) {
+                continue;
+            }
+            logger.info("[{}] {}: {} rps, p50={}ms, p99={}ms, max={}ms, in-flight={}",
+                    name, operationStats.getName(),
+                    String.format("%.1f", interval.getTotalCount() / (double) intervalSeconds),
+                    String.format("%.2f", interval.getValueAtPercentile(50) / 1000.0),
+                    String.format("%.2f", interval.getValueAtPercentile(99) / 1000.0),
+                    String.format("%.2f", interval.getMaxValue() / 1000.0),
+                    inFlight.get());
+        }
+    }
+
+    // Parks until shortly before the deadline and spins for the remainder to avoid timer slack
+    static void sleepUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > SPIN_THRESHOLD_NANOS) {
+            LockSupport.parkNanos(remaining - SPIN_THRESHOLD_NANOS);
+        }
+        while (deadlineNanos - System.nanoTime() > 0) {
+            Thread.onSpinWait();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.performance;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe latency and outcome accumulator for one load operation.
+ * Values are recorded in microseconds. Writers never block; the reporter
+ * periodically drains the interval recorders into cumulative histograms.
+ */
+public class OperationStats {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final String name;
+
+    // Intended start -> completion (corrected for coordinated omission)
+    private final Recorder responseTimeRecorder = new Recorder(SIGNIFICANT_DIGITS);
+    // Actual send -> completion (what the client alone would observe)
+    private final Recorder serviceTimeRecorder = new Recorder(SIGNIFICANT_DIGITS);
+
+    private final Histogram responseTimeTotal = new Histogram(SIGNIFICANT_DIGITS);
+    private final Histogram serviceTimeTotal = new Histogram(SIGNIFICANT_DIGITS);
+    private Histogram responseTimeInterval;
+    private Histogram serviceTimeInterval;
+
+    private final LongAdder successCount = new LongAdder();
+    private final LongAdder errorCount = new LongAdder();
+    private final Map<String, LongAdder> errorsByCause = new ConcurrentHashMap<>();
+
+    public OperationStats(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void recordSuccess(long responseTimeMicros, long serviceTimeMicros) {
+        responseTimeRecorder.recordValue(Math.max(0, responseTimeMicros));
+        serviceTimeRecorder.recordValue(Math.max(0, serviceTimeMicros));
+        successCount.increment();
+    }
+
+    public void recordError(long responseTimeMicros, long serviceTimeMicros, String cause) {
+        responseTimeRecorder.recordValue(Math.max(0, responseTimeMicros));
+        serviceTimeRecorder.recordValue(Math.max(0, serviceTimeMicros));
+        errorCount.increment();
+        errorsByCause.computeIfAbsent(cause, key -> new LongAdder()).increment();
+    }
+
+    // Drains values recorded since the previous call and returns them as an interval histogram.
+    // Must only be called from a single reporter thread.
+    public synchronized Histogram drainInterval() {
+        responseTimeInterval = responseTimeRecorder.getIntervalHistogram(responseTimeInterval);
+        serviceTimeInterval = serviceTimeRecorder.getIntervalHistogram(serviceTimeInterval);
+        responseTimeTotal.add(responseTimeInterval);
+        serviceTimeTotal.add(serviceTimeInterval);
+        return responseTimeInterval;
+    }
+
+    public synchronized Histogram getResponseTimeHistogram() {
+        return responseTimeTotal.copy();
+    }
+
+    public synchronized Histogram getServiceTimeHistogram() {
+        return serviceTimeTotal.copy();
+    }
+
+    public long getSuccessCount() {
+        return successCount.sum();
+    }
+
+    public long getErrorCount() {
+        return errorCount.sum();
+    }
+
+    public long getTotalCount() {
+        return getSuccessCount() + getErrorCount();
+    }
+
+    public double getErrorRate() {
+        long total = getTotalCount();
+        return total == 0 ? 0.0 : (double) getErrorCount() / total;
+    }
+
+    public Map<String, Long> getErrorsByCause() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        errorsByCause.forEach((cause, count) -> snapshot.put(cause, count.sum()));
+        return snapshot;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.performance;
+
+import io.restassured.response.Response;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.banking.base.RequestSpecFactory;
+import org.banking.dto.AccountDto;
+import org.banking.dto.TransactionDto;
+import org.banking.pojo.Account;
+import org.banking.pojo.Transaction;
+import org.banking.pojo.User;
+import org.banking.services.AccountApiService;
+import org.banking.services.TransactionApiService;
+import org.banking.services.UserApiService;
+import org.banking.utils.TestDataGenerator;
+
+import java.math.BigDecimal;
+
+/**
+ * Creates the entities a load scenario needs before the measured phase starts.
+ * Seeding failures abort the scenario instead of being counted as load errors.
+ */
+public class PerformanceDataSeeder {
+
+    private static final Logger logger = LogManager.getLogger(PerformanceDataSeeder.class);
+
+    public static User createUser() {
+        Response response = UserApiService.createUser(RequestSpecFactory.newLoadRequestSpec(),
+                TestDataGenerator.generateValidUser());
+        requireStatus(response, 201, "user");
+        return response.as(User.class);
+    }
+
+    public static Account createAccount(Long userId, String accountType, BigDecimal balance) {
+        return createAccount(userId, accountType, balance, null);
+    }
+
+    // currency null leaves it to the service default
+    public static Account createAccount(Long userId, String accountType, BigDecimal balance, String currency) {
+        AccountDto accountDto = AccountDto.builder()
+                .accountType(accountType)
+                .userId(userId)
+                .balance(balance)
+                .creditLimit(BigDecimal.ZERO)
+                .currency(currency)
+                .build();
+        Response response = AccountApiService.createAccount(RequestSpecFactory.newLoadRequestSpec(), accountDto);
+        requireStatus(response, 201, "account");
+        return response.as(Account.class);
+    }
+
+    public static Account createFundedAccount(BigDecimal balance) {
+        User user = createUser();
+        Account account = createAccount(user.getId(), "CHECKING", balance);
+        logger.info("Seeded account {} with balance {}", account.getId(), balance);
+        return account;
+    }
+
+    public static Transaction createDeposit(Long accountId, BigDecimal amount) {
+        TransactionDto deposit = TestDataGenerator.generateDepositTransaction(amount);
+        deposit.setFromAccountId(accountId);
+        deposit.setToAccountId(accountId);
+        Response response = TransactionApiService.createTransaction(RequestSpecFactory.newLoadRequestSpec(), deposit);
+        requireStatus(response, 201, "transaction");
+        return response.as(Transaction.class);
+    }
+
+    private static void requireStatus(Response response, int expectedStatus, String entity) {
+        if (response.getStatusCode() != expectedStatus) {
+            throw new IllegalStateException("Failed to seed " + entity + ": HTTP " + response.getStatusCode()
+                    + " - " + response.getBody().asString());
+        }
+    }
+}
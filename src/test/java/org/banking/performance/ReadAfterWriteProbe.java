@@ -0,0 +1,161 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.performance;
+
+import io.restassured.specification.RequestSpecification;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.banking.base.RequestSpecFactory;
+import org.banking.utils.Await;
+import org.banking.utils.ExecutorUtils;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiPredicate;
+
+/**
+ * Measures how long a write takes to become visible on each read path. After every acknowledged
+ * write ({@link #written}), one probe per read path polls with {@link Await} until the read
+ * reflects the write; the lag is measured from the write acknowledgement. Probes run on their own
+ * threads, so the write schedule of the load engine is not held up by slow reads. The lag is only
+ * as precise as the poll interval at the time the write became visible, so keep the initial
+ * interval small. Writes that are not visible within the timeout are counted separately.
+ *
+ * @param <T> the written entity, passed to the read paths to recognise it
+ */
+public class ReadAfterWriteProbe<T> implements AutoCloseable {
+
+    private static final Logger logger = LogManager.getLogger(ReadAfterWriteProbe.class);
+
+    private final Map<String, BiPredicate<RequestSpecification, T>> readPaths;
+    private final Map<String, PathStats> stats = new LinkedHashMap<>();
+    private final Duration timeout;
+    private final Duration pollInitial;
+    private final Duration pollMax;
+    private final ExecutorService probes = ExecutorUtils.newUnboundedExecutor("consistency-probe");
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Level serviceLogLevel;
+
+    /**
+     * @param readPaths read path name to a check whether the written entity is visible through it;
+     *                  the check gets a fresh request specification on every poll
+     * @param serviceLoggingEnabled as in {@link LoadConfig}; probes keep polling after the load run ends
+     */
+    public ReadAfterWriteProbe(Map<String, BiPredicate<RequestSpecification, T>> readPaths, Duration timeout,
+                               Duration pollInitial, Duration pollMax, boolean serviceLoggingEnabled) {
+        this.readPaths = Collections.unmodifiableMap(new LinkedHashMap<>(readPaths));
+        this.timeout = timeout;
+        this.pollInitial = pollInitial;
+        this.pollMax = pollMax;
+        readPaths.keySet().forEach(path -> stats.put(path, new PathStats()));
+        this.serviceLogLevel = ServiceLogging.quiet(serviceLoggingEnabled);
+    }
+
+    // Call right after the write was acknowledged
+    public void written(T entity) {
+        long acknowledgedNanos = System.nanoTime();
+        readPaths.forEach((path, visible) -> {
+            pending.incrementAndGet();
+            probes.execute(() -> probe(path, visible, entity, acknowledgedNanos));
+        });
+    }
+
+    private void probe(String path, BiPredicate<RequestSpecification, T> visible, T entity, long acknowledgedNanos) {
+        PathStats pathStats = stats.get(path);
+        try {
+            Await.await("visible via " + path)
+                    .atMost(timeout)
+                    .pollInterval(pollInitial, pollMax)
+                    .until(() -> visible.test(RequestSpecFactory.newLoadRequestSpec(), entity));
+            pathStats.lagMicros.recordValue(Math.max(0, (System.nanoTime() - acknowledgedNanos) / 1000));
+        } catch (Await.AwaitTimeoutException e) {
+            pathStats.invisible.increment();
+            logger.debug(e.getMessage());
+        } catch (Exception e) {
+            pathStats.errors.increment();
+            logger.debug("Consistency probe via {} failed: {}", path, e.getMessage());
+        } finally {
+            pending.decrementAndGet();
+        }
+    }
+
+    // Waits until every started probe has seen its write or given up
+    public void awaitProbes() {
+        long deadline = System.nanoTime() + timeout.toNanos() + TimeUnit.SECONDS.toNanos(5);
+        while (pending.get() > 0 && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+        if (pending.get() > 0) {
+            logger.warn("{} consistency probes still running after {} ms", pending.get(), timeout.toMillis());
+        }
+    }
+
+    public long getProbeCount(String path) {
+        PathStats pathStats = stats.get(path);
+        return pathStats.lagMicros.getTotalCount() + pathStats.invisible.sum() + pathStats.errors.sum();
+    }
+
+    public long getInvisibleCount(String path) {
+        return stats.get(path).invisible.sum();
+    }
+
+    public long getErrorCount(String path) {
+        return stats.get(path).errors.sum();
+    }
+
+    // Lag from write acknowledgement until visible, in microseconds
+    public Histogram getLagHistogram(String path) {
+        return stats.get(path).lagMicros.copy();
+    }
+
+    public Iterable<String> getReadPaths() {
+        return readPaths.keySet();
+    }
+
+    // Read-after-write lag per read path, headed by the write throughput it was measured at
+    public String formatReport(LoadResult writes) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("=== Read-after-write lag: %s ===%n", writes.getName()));
+        sb.append(String.format("Writes: target %.1f rps, achieved %.1f rps, completed %d, errors %d, "
+                        + "write p99 %.2f ms%n", writes.getTargetRps(), writes.getAchievedRps(),
+                writes.getCompletedCount(), writes.getErrorCount(),
+                writes.getResponseTimeHistogram().getValueAtPercentile(99) / 1000.0));
+        sb.append("Lag is measured from the write acknowledgement until the read reflects the write\n");
+        sb.append(String.format("%-32s %8s %9s %7s %9s %9s %9s %9s%n",
+                "Read path", "Probes", "Invisible", "Errors", "p50(ms)", "p90(ms)", "p99(ms)", "max(ms)"));
+        for (String path : readPaths.keySet()) {
+            Histogram lag = getLagHistogram(path);
+            sb.append(String.format("%-32s %8d %9d %7d %9.2f %9.2f %9.2f %9.2f%n",
+                    path, getProbeCount(path), getInvisibleCount(path), getErrorCount(path),
+                    lag.getValueAtPercentile(50) / 1000.0, lag.getValueAtPercentile(90) / 1000.0,
+                    lag.getValueAtPercentile(99) / 1000.0, lag.getMaxValue() / 1000.0));
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public void close() {
+        ExecutorUtils.shutdownAndAwait(probes, 5, TimeUnit.SECONDS);
+        ServiceLogging.restore(serviceLogLevel);
+    }
+
+    private static final class PathStats {
+        private final ConcurrentHistogram lagMicros = new ConcurrentHistogram(3);
+        private final LongAdder invisible = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+    }
+}
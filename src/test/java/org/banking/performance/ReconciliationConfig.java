@@ -0,0 +1,44 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.performance;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.banking.utils.ConfigReader;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReconciliationConfig {
+
+    // Accounts whose histories are fetched at the same time; the work is I/O bound
+    @Builder.Default
+    private int parallelism = 8;
+
+    // An account ID range is split until it holds at most this many accounts
+    @Builder.Default
+    private int accountsPerTask = 16;
+
+    // Mismatches kept for the report; the rest are only counted, so memory stays bounded
+    @Builder.Default
+    private int maxReportedMismatches = 50;
+
+    @Builder.Default
+    private boolean serviceLoggingEnabled = false;
+
+    public static ReconciliationConfig fromProperties() {
+        return ReconciliationConfig.builder()
+                .parallelism(ConfigReader.getIntProperty("reconcile.parallelism", 8))
+                .accountsPerTask(ConfigReader.getIntProperty("reconcile.accounts.per.task", 16))
+                .maxReportedMismatches(ConfigReader.getIntProperty("reconcile.max.reported.mismatches", 50))
+                .serviceLoggingEnabled(ConfigReader.getBooleanProperty("perf.service.logging.enabled", false))
+                .build();
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.performance;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Outcome of a {@link LedgerReconciler} run. Only the first mismatches (in account ID order) are
+ * kept; {@link #getMismatchCount()} counts all of them.
+ */
+public class ReconciliationResult {
+
+    private final long accountCount;
+    private final long checkedCount;
+    private final long unanchoredCount;
+    private final long failedCount;
+    private final long entryCount;
+    private final long ignoredEntryCount;
+    private final long mismatchCount;
+    private final List<Mismatch> mismatches;
+    private final List<String> failures;
+    private final long elapsedNanos;
+
+    ReconciliationResult(long accountCount, LedgerReconciler.Tally tally, long elapsedNanos) {
+        this.accountCount = accountCount;
+        this.checkedCount = tally.checked;
+        this.unanchoredCount = tally.unanchored;
+        this.failedCount = tally.failed;
+        this.entryCount = tally.entries;
+        this.ignoredEntryCount = tally.ignoredEntries;
+        this.mismatchCount = tally.mismatchCount;
+        this.mismatches = Collections.unmodifiableList(new ArrayList<>(tally.mismatches));
+        this.failures = Collections.unmodifiableList(new ArrayList<>(tally.failures));
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long getAccountCount() {
+        return accountCount;
+    }
+
+    // Accounts whose balance was compared against their history
+    public long getCheckedCount() {
+        return checkedCount;
+    }
+
+    // Accounts without a transaction reporting their balance: no starting point to rebuild from
+    public long getUnanchoredCount() {
+        return unanchoredCount;
+    }
+
+    // Accounts whose history could not be read
+    public long getFailedCount() {
+        return failedCount;
+    }
+
+    // Transactions read, counted once per account history they appear in
+    public long getEntryCount() {
+        return entryCount;
+    }
+
+    // Transactions that do not move money on the account: not completed, or of an unknown type
+    public long getIgnoredEntryCount() {
+        return ignoredEntryCount;
+    }
+
+    public long getMismatchCount() {
+        return mismatchCount;
+    }
+
+    public List<Mismatch> getMismatches() {
+        return mismatches;
+    }
+
+    // First history read failures, one line each
+    public List<String> getFailures() {
+        return failures;
+    }
+
+    public double getElapsedSeconds() {
+        return elapsedNanos / 1_000_000_000.0;
+    }
+
+    public double getTransactionsPerSecond() {
+        double seconds = getElapsedSeconds();
+        return seconds == 0 ? 0.0 : entryCount / seconds;
+    }
+
+    public double getAccountsPerSecond() {
+        double seconds = getElapsedSeconds();
+        return seconds == 0 ? 0.0 : accountCount / seconds;
+    }
+
+    public String formatSummary() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("=== Ledger reconciliation: %d accounts, %d transactions in %.1f s ===%n",
+                accountCount, entryCount, getElapsedSeconds()));
+        sb.append(String.format("Throughput: %.1f transactions/s, %.1f accounts/s%n",
+                getTransactionsPerSecond(), getAccountsPerSecond()));
+        sb.append(String.format("Checked: %d, no balance anchor: %d, unreadable: %d, ignored transactions: %d%n",
+                checkedCount, unanchoredCount, failedCount, ignoredEntryCount));
+        sb.append(String.format("Mismatches: %d%n", mismatchCount));
+        mismatches.forEach(mismatch -> sb.append("  ").append(mismatch).append('\n'));
+        if (mismatchCount > mismatches.size()) {
+            sb.append(String.format("  ... %d more%n", mismatchCount - mismatches.size()));
+        }
+        failures.forEach(failure -> sb.append("  UNREADABLE ").append(failure).append('\n'));
+        return sb.toString();
+    }
+
+    public static class Mismatch {
+        private final long accountId;
+        private final BigDecimal expected;
+        private final BigDecimal actual;
+        private final long entries;
+
+        Mismatch(long accountId, long expectedCents, long actualCents, long entries) {
+            this.accountId = accountId;
+            this.expected = BigDecimal.valueOf(expectedCents, 2);
+            this.actual = BigDecimal.valueOf(actualCents, 2);
+            this.entries = entries;
+        }
+
+        public long getAccountId() {
+            return accountId;
+        }
+
+        // Balance rebuilt from the transaction history
+        public BigDecimal getExpected() {
+            return expected;
+        }
+
+        // Account.balance as the service reports it
+        public BigDecimal getActual() {
+            return actual;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("account %d: history gives %s, balance is %s (difference %s, %d transactions)",
+                    accountId, expected, actual, actual.subtract(expected), entries);
+        }
+    }
+}
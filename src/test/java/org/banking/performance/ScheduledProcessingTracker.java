@@ -0,0 +1,213 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.performance;
+
+import io.restassured.response.Response;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.banking.base.RequestSpecFactory;
+import org.banking.services.TransactionApiService;
+import org.banking.utils.Await;
+import org.banking.utils.ExecutorUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tracks a set of transactions that all fall due at the same instant until the backend has
+ * processed them. Every poll is a sweep: the still-pending transactions are read with
+ * getTransactionById over a bounded number of connections, and each one seen COMPLETED records
+ * its processing lag, from the due instant until the read that saw it. Sweeps are paced by
+ * {@link Await}, so they follow quickly at first and back off while nothing changes; the lag is
+ * accurate to about one sweep plus the poll interval. Transactions are grouped by kind (e.g.
+ * scheduled vs recurring) for the report.
+ */
+public class ScheduledProcessingTracker implements AutoCloseable {
+
+    private static final Logger logger = LogManager.getLogger(ScheduledProcessingTracker.class);
+    private static final Set<String> TERMINAL_FAILURES = Set.of("FAILED", "CANCELLED", "REJECTED");
+
+    private final long dueNanos;
+    private final Map<Long, String> pending = new ConcurrentHashMap<>();
+    private final Map<String, KindStats> stats = new TreeMap<>();
+    private final ExecutorService connections;
+    private final Level serviceLogLevel;
+
+    /**
+     * @param transactionKinds transaction ID to its kind, e.g. "scheduled" or "recurring"
+     * @param dueNanos the due instant on the {@link System#nanoTime()} clock
+     */
+    public ScheduledProcessingTracker(Map<Long, String> transactionKinds, long dueNanos, int pollConcurrency,
+                                      boolean serviceLoggingEnabled) {
+        this.dueNanos = dueNanos;
+        this.pending.putAll(transactionKinds);
+        transactionKinds.values().forEach(kind -> stats.computeIfAbsent(kind, k -> new KindStats()));
+        this.connections = Executors.newFixedThreadPool(pollConcurrency,
+                ExecutorUtils.newThreadFactory("schedule-poll"));
+        this.serviceLogLevel = ServiceLogging.quiet(serviceLoggingEnabled);
+    }
+
+    // A sweep before the due instant: transactions already completed were not held until due
+    public void checkBeforeDue() {
+        if (System.nanoTime() >= dueNanos) {
+            logger.warn("Seeding ran past the due instant; early completions cannot be told apart");
+            return;
+        }
+        sweep(true);
+    }
+
+    /**
+     * Waits for the due instant, then sweeps until nothing is pending or the timeout runs out.
+     * Transactions still pending after that are reported as unprocessed.
+     */
+    public void awaitProcessed(Duration timeout, Duration pollInitial, Duration pollMax) {
+        long untilDue = dueNanos - System.nanoTime();
+        if (untilDue > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(untilDue);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        } else {
+            logger.warn("Tracking started {} ms after the due instant; the lag includes that delay",
+                    TimeUnit.NANOSECONDS.toMillis(-untilDue));
+        }
+        try {
+            Await.await("scheduled transactions processed")
+                    .describedAs(pending.size() + " scheduled transactions processed")
+                    .atMost(timeout)
+                    .pollInterval(pollInitial, pollMax)
+                    .until(() -> sweep(false) == 0);
+        } catch (Await.AwaitTimeoutException e) {
+            logger.warn("{} transactions still pending after {} ms", pending.size(), timeout.toMillis());
+        }
+    }
+
+    // Reads every pending transaction once; returns how many are still pending
+    private int sweep(boolean beforeDue) {
+        List<Callable<Void>> reads = new ArrayList<>();
+        pending.forEach((id, kind) -> reads.add(() -> {
+            read(id, kind, beforeDue);
+            return null;
+        }));
+        try {
+            for (Future<Void> read : connections.invokeAll(reads)) {
+                read.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.debug("Status read failed: {}", e.getCause().getMessage());
+        }
+        return pending.size();
+    }
+
+    private void read(Long id, String kind, boolean beforeDue) {
+        KindStats kindStats = stats.get(kind);
+        Response response;
+        try {
+            response = TransactionApiService.getTransactionById(RequestSpecFactory.newLoadRequestSpec(), id);
+        } catch (Exception e) {
+            kindStats.readErrors.increment();
+            return;
+        }
+        long observedNanos = System.nanoTime();
+        if (response.getStatusCode() != 200) {
+            kindStats.readErrors.increment();
+            return;
+        }
+        String status = response.jsonPath().getString("status");
+        if ("COMPLETED".equals(status)) {
+            pending.remove(id);
+            if (beforeDue) {
+                kindStats.early.increment();
+            } else {
+                kindStats.lagMicros.recordValue(Math.max(0, (observedNanos - dueNanos) / 1000));
+            }
+        } else if (status != null && TERMINAL_FAILURES.contains(status)) {
+            pending.remove(id);
+            kindStats.failed.increment();
+        }
+    }
+
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    public long getProcessedCount() {
+        return stats.values().stream().mapToLong(kindStats -> kindStats.lagMicros.getTotalCount()).sum();
+    }
+
+    public long getEarlyCount() {
+        return stats.values().stream().mapToLong(kindStats -> kindStats.early.sum()).sum();
+    }
+
+    public long getFailedCount() {
+        return stats.values().stream().mapToLong(kindStats -> kindStats.failed.sum()).sum();
+    }
+
+    // Lag from the due instant until seen COMPLETED, in microseconds, over all kinds
+    public Histogram getLagHistogram() {
+        Histogram merged = new Histogram(3);
+        stats.values().forEach(kindStats -> merged.add(kindStats.lagMicros));
+        return merged;
+    }
+
+    public String formatReport() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Lag is measured from the due instant until a read sees the transaction COMPLETED\n");
+        sb.append(String.format("%-12s %9s %7s %7s %8s %9s %9s %9s %9s %9s%n", "Kind", "Processed", "Early",
+                "Failed", "Pending", "p50(ms)", "p90(ms)", "p99(ms)", "max(ms)", "ReadErr"));
+        Map<String, Long> pendingByKind = new LinkedHashMap<>();
+        pending.values().forEach(kind -> pendingByKind.merge(kind, 1L, Long::sum));
+        stats.forEach((kind, kindStats) -> appendRow(sb, kind, kindStats.lagMicros, kindStats.early.sum(),
+                kindStats.failed.sum(), pendingByKind.getOrDefault(kind, 0L), kindStats.readErrors.sum()));
+        if (stats.size() > 1) {
+            appendRow(sb, "all", getLagHistogram(), getEarlyCount(), getFailedCount(), pending.size(),
+                    stats.values().stream().mapToLong(kindStats -> kindStats.readErrors.sum()).sum());
+        }
+        return sb.toString();
+    }
+
+    private static void appendRow(StringBuilder sb, String kind, Histogram lag, long early, long failed,
+                                  long pendingCount, long readErrors) {
+        sb.append(String.format("%-12s %9d %7d %7d %8d %9.1f %9.1f %9.1f %9.1f %9d%n", kind, lag.getTotalCount(),
+                early, failed, pendingCount, lag.getValueAtPercentile(50) / 1000.0,
+                lag.getValueAtPercentile(90) / 1000.0, lag.getValueAtPercentile(99) / 1000.0,
+                lag.getMaxValue() / 1000.0, readErrors));
+    }
+
+    @Override
+    public void close() {
+        ExecutorUtils.shutdownAndAwait(connections, 5, TimeUnit.SECONDS);
+        ServiceLogging.restore(serviceLogLevel);
+    }
+
+    private static final class KindStats {
+        private final ConcurrentHistogram lagMicros = new ConcurrentHistogram(3);
+        private final LongAdder early = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder readErrors = new LongAdder();
+    }
+}
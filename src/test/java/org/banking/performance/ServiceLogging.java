@@ -0,0 +1,30 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.performance;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.core.config.Configurator;
+
+// Per-request INFO logging in the service layer is synchronous and would cap the client's
+// request rate, so load runs lower it to WARN for their duration.
+public class ServiceLogging {
+
+    private static final String SERVICE_LOGGER = "org.banking.services";
+
+    public static Level quiet(boolean serviceLoggingEnabled) {
+        Level previous = LogManager.getLogger(SERVICE_LOGGER).getLevel();
+        if (!serviceLoggingEnabled) {
+            Configurator.setLevel(SERVICE_LOGGER, Level.WARN);
+        }
+        return previous;
+    }
+
+    public static void restore(Level previous) {
+        Configurator.setLevel(SERVICE_LOGGER, previous);
+    }
+}
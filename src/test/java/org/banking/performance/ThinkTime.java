@@ -0,0 +1,103 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.performance;
+
+import java.util.Random;
+
+/**
+ * Pause a virtual user takes between journey steps. Parsed from specs such as
+ * {@code none}, {@code constant:1000}, {@code uniform:500-1500} or {@code exponential:1000}
+ * (all values in milliseconds; exponential takes the mean).
+ */
+public class ThinkTime {
+
+    private enum Distribution { NONE, CONSTANT, UNIFORM, EXPONENTIAL }
+
+    // Exponential samples are capped to avoid a single extreme pause stalling a virtual user
+    private static final double EXPONENTIAL_CAP_FACTOR = 10.0;
+
+    private final Distribution distribution;
+    private final long minMillis;
+    private final long maxMillis;
+
+    private ThinkTime(Distribution distribution, long minMillis, long maxMillis) {
+        this.distribution = distribution;
+        this.minMillis = minMillis;
+        this.maxMillis = maxMillis;
+    }
+
+    public static ThinkTime none() {
+        return new ThinkTime(Distribution.NONE, 0, 0);
+    }
+
+    public static ThinkTime constant(long millis) {
+        return new ThinkTime(Distribution.CONSTANT, millis, millis);
+    }
+
+    public static ThinkTime uniform(long minMillis, long maxMillis) {
+        if (maxMillis < minMillis) {
+            throw new IllegalArgumentException("Uniform think time max must be >= min");
+        }
+        return new ThinkTime(Distribution.UNIFORM, minMillis, maxMillis);
+    }
+
+    public static ThinkTime exponential(long meanMillis) {
+        return new ThinkTime(Distribution.EXPONENTIAL, meanMillis, meanMillis);
+    }
+
+    public static ThinkTime parse(String spec) {
+        if (spec == null || spec.trim().isEmpty() || spec.trim().equalsIgnoreCase("none")) {
+            return none();
+        }
+        String[] parts = spec.trim().split(":", 2);
+        String type = parts[0].trim().toLowerCase();
+        String value = parts.length > 1 ? parts[1].trim() : "";
+        try {
+            switch (type) {
+                case "constant":
+                    return constant(Long.parseLong(value));
+                case "uniform":
+                    String[] range = value.split("-");
+                    return uniform(Long.parseLong(range[0].trim()), Long.parseLong(range[1].trim()));
+                case "exponential":
+                    return exponential(Long.parseLong(value));
+                default:
+                    throw new IllegalArgumentException("Unknown think time distribution: " + spec);
+            }
+        } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid think time spec: " + spec, e);
+        }
+    }
+
+    public long nextMillis(Random random) {
+        switch (distribution) {
+            case CONSTANT:
+                return minMillis;
+            case UNIFORM:
+                return minMillis + (long) (random.nextDouble() * (maxMillis - minMillis));
+            case EXPONENTIAL:
+                double sample = -minMillis * Math.log(1.0 - random.nextDouble());
+                return (long) Math.min(sample, minMillis * EXPONENTIAL_CAP_FACTOR);
+            default:
+                return 0;
+        }
+    }
+
+    @Override
+    public String toString() {
+        switch (distribution) {
+            case CONSTANT:
+                return "constant:" + minMillis;
+            case UNIFORM:
+                return "uniform:" + minMillis + "-" + maxMillis;
+            case EXPONENTIAL:
+                return "exponential:" + minMillis;
+            default:
+                return "none";
+        }
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.performance;
+
+import io.restassured.response.Response;
+import org.banking.dto.TransactionDto;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * What the client knows about a storm of concurrent transfers between a fixed set of accounts,
+ * and the reconciliation of that knowledge against the balances read back afterwards:
+ * <ul>
+ *     <li>Conservation: transfers only move money, so the sum of all balances must not change.</li>
+ *     <li>Lost updates: each account must end at its initial balance plus the accepted credits minus
+ *     the accepted debits. Accounts touched by a transfer with an unknown outcome (transport
+ *     failure, 5xx) cannot be checked this way and are reported as unverifiable.</li>
+ *     <li>balanceAfterTransaction: the balance a transfer reports for its source account must not be
+ *     negative and must be reachable from the initial balance with the accepted transfers.</li>
+ * </ul>
+ * Amounts are compared in cents, as the service may store balances as floating point numbers.
+ */
+public class TransferLedger {
+
+    public enum Outcome {
+        ACCEPTED,
+        // 4xx because the source account did not cover the amount: expected under contention
+        INSUFFICIENT_FUNDS,
+        // Any other 4xx
+        REJECTED,
+        // No response or a 5xx: the transfer may or may not have been applied
+        UNKNOWN
+    }
+
+    private final Map<Long, BigDecimal> initialBalances;
+    private final Queue<AcceptedTransfer> accepted = new ConcurrentLinkedQueue<>();
+    private final Map<Outcome, LongAdder> outcomes = new EnumMap<>(Outcome.class);
+    private final Set<Long> unknownOutcomeAccounts = ConcurrentHashMap.newKeySet();
+
+    public TransferLedger(Map<Long, BigDecimal> initialBalances) {
+        Map<Long, BigDecimal> balances = new LinkedHashMap<>();
+        initialBalances.forEach((accountId, balance) -> balances.put(accountId, cents(balance)));
+        this.initialBalances = Collections.unmodifiableMap(balances);
+        for (Outcome outcome : Outcome.values()) {
+            outcomes.put(outcome, new LongAdder());
+        }
+    }
+
+    // Records the outcome of one transfer from its response
+    public Outcome record(TransactionDto transfer, Response response) {
+        int status = response.getStatusCode();
+        Outcome outcome;
+        if (status == 201) {
+            outcome = Outcome.ACCEPTED;
+            accepted.add(new AcceptedTransfer(transfer.getFromAccountId(), transfer.getToAccountId(),
+                    cents(transfer.getAmount()), reportedBalance(response)));
+        } else if (status >= 400 && status < 500) {
+            outcome = response.getBody().asString().toLowerCase().contains("insufficient")
+                    ? Outcome.INSUFFICIENT_FUNDS : Outcome.REJECTED;
+        } else {
+            outcome = Outcome.UNKNOWN;
+            unknownOutcomeAccounts.add(transfer.getFromAccountId());
+            unknownOutcomeAccounts.add(transfer.getToAccountId());
+        }
+        outcomes.get(outcome).increment();
+        return outcome;
+    }
+
+    // The call failed without a response
+    public void recordUnknown(TransactionDto transfer) {
+        outcomes.get(Outcome.UNKNOWN).increment();
+        unknownOutcomeAccounts.add(transfer.getFromAccountId());
+        unknownOutcomeAccounts.add(transfer.getToAccountId());
+    }
+
+    public long getCount(Outcome outcome) {
+        return outcomes.get(outcome).sum();
+    }
+
+    public Map<Long, BigDecimal> getInitialBalances() {
+        return initialBalances;
+    }
+
+    public Reconciliation reconcile(Map<Long, BigDecimal> finalBalances) {
+        Map<Long, BigDecimal> expected = new LinkedHashMap<>(initialBalances);
+        Map<Long, BigDecimal> credits = new HashMap<>();
+        Map<Long, BigDecimal> debits = new HashMap<>();
+        for (AcceptedTransfer transfer : accepted) {
+            expected.merge(transfer.from, transfer.amount.negate(), BigDecimal::add);
+            expected.merge(transfer.to, transfer.amount, BigDecimal::add);
+            debits.merge(transfer.from, transfer.amount, BigDecimal::add);
+            credits.merge(transfer.to, transfer.amount, BigDecimal::add);
+        }
+
+        List<String> anomalies = new ArrayList<>();
+        BigDecimal initialTotal = BigDecimal.ZERO;
+        BigDecimal finalTotal = BigDecimal.ZERO;
+        int unverifiable = 0;
+        for (Map.Entry<Long, BigDecimal> entry : initialBalances.entrySet()) {
+            Long accountId = entry.getKey();
+            BigDecimal actual = finalBalances.get(accountId) == null ? null : cents(finalBalances.get(accountId));
+            initialTotal = initialTotal.add(entry.getValue());
+            if (actual == null) {
+                anomalies.add("MISSING account " + accountId + ": balance could not be read back");
+                continue;
+            }
+            finalTotal = finalTotal.add(actual);
+            if (unknownOutcomeAccounts.contains(accountId)) {
+                unverifiable++;
+            } else if (actual.compareTo(expected.get(accountId)) != 0) {
+                anomalies.add("LOST_UPDATE account " + accountId + ": accepted transfers give "
+                        + expected.get(accountId) + ", balance is " + actual);
+            }
+        }
+        if (initialTotal.compareTo(finalTotal) != 0) {
+            anomalies.add(0, "NOT_CONSERVED: total balance went from " + initialTotal + " to " + finalTotal);
+        }
+        anomalies.addAll(checkReportedBalances(credits, debits));
+        return new Reconciliation(initialTotal, finalTotal, unverifiable, anomalies);
+    }
+
+    private List<String> checkReportedBalances(Map<Long, BigDecimal> credits, Map<Long, BigDecimal> debits) {
+        List<String> anomalies = new ArrayList<>();
+        for (AcceptedTransfer transfer : accepted) {
+            if (transfer.balanceAfter == null) {
+                continue;
+            }
+            BigDecimal initial = initialBalances.get(transfer.from);
+            BigDecimal lowest = initial.subtract(debits.getOrDefault(transfer.from, BigDecimal.ZERO));
+            BigDecimal highest = initial.add(credits.getOrDefault(transfer.from, BigDecimal.ZERO))
+                    .subtract(transfer.amount);
+            if (transfer.balanceAfter.signum() < 0) {
+                anomalies.add("OVERDRAFT account " + transfer.from + ": a transfer of " + transfer.amount
+                        + " reported balance " + transfer.balanceAfter);
+            } else if (!unknownOutcomeAccounts.contains(transfer.from)
+                    && (transfer.balanceAfter.compareTo(lowest) < 0 || transfer.balanceAfter.compareTo(highest) > 0)) {
+                anomalies.add("IMPOSSIBLE_BALANCE account " + transfer.from + ": a transfer of " + transfer.amount
+                        + " reported balance " + transfer.balanceAfter + ", reachable range is " + lowest + ".."
+                        + highest);
+            }
+        }
+        return anomalies;
+    }
+
+    public String formatReport(Reconciliation reconciliation) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("=== Transfer reconciliation: %d accounts ===%n", initialBalances.size()));
+        sb.append(String.format("Accepted: %d, insufficient funds: %d, rejected: %d, unknown outcome: %d%n",
+                getCount(Outcome.ACCEPTED), getCount(Outcome.INSUFFICIENT_FUNDS), getCount(Outcome.REJECTED),
+                getCount(Outcome.UNKNOWN)));
+        sb.append(String.format("Total balance: %s before, %s after (%s)%n", reconciliation.getInitialTotal(),
+                reconciliation.getFinalTotal(), reconciliation.isConserved() ? "conserved" : "NOT conserved"));
+        if (reconciliation.getUnverifiableAccounts() > 0) {
+            sb.append(String.format("Accounts not checked for lost updates (unknown outcomes): %d%n",
+                    reconciliation.getUnverifiableAccounts()));
+        }
+        sb.append(String.format("Anomalies: %d%n", reconciliation.getAnomalies().size()));
+        reconciliation.getAnomalies().forEach(anomaly -> sb.append("  ").append(anomaly).append('\n'));
+        return sb.toString();
+    }
+
+    private static BigDecimal reportedBalance(Response response) {
+        String balance = response.jsonPath().getString("balanceAfterTransaction");
+        return balance == null ? null : cents(new BigDecimal(balance));
+    }
+
+    private static BigDecimal cents(BigDecimal amount) {
+        return amount.setScale(2, RoundingMode.HALF_UP);
+    }
+
+    private static final class AcceptedTransfer {
+        private final Long from;
+        private final Long to;
+        private final BigDecimal amount;
+        private final BigDecimal balanceAfter;
+
+        private AcceptedTransfer(Long from, Long to, BigDecimal amount, BigDecimal balanceAfter) {
+            this.from = from;
+            this.to = to;
+            this.amount = amount;
+            this.balanceAfter = balanceAfter;
+        }
+    }
+
+    public static class Reconciliation {
+        private final BigDecimal initialTotal;
+        private final BigDecimal finalTotal;
+        private final int unverifiableAccounts;
+        private final List<String> anomalies;
+
+        Reconciliation(BigDecimal initialTotal, BigDecimal finalTotal, int unverifiableAccounts,
+                       List<String> anomalies) {
+            this.initialTotal = initialTotal;
+            this.finalTotal = finalTotal;
+            this.unverifiableAccounts = unverifiableAccounts;
+            this.anomalies = Collections.unmodifiableList(anomalies);
+        }
+
+        public BigDecimal getInitialTotal() {
+            return initialTotal;
+        }
+
+        public BigDecimal getFinalTotal() {
+            return finalTotal;
+        }
+
+        public boolean isConserved() {
+            return initialTotal.compareTo(finalTotal) == 0;
+        }
+
+        public int getUnverifiableAccounts() {
+            return unverifiableAccounts;
+        }
+
+        // Conservation, lost-update and balanceAfterTransaction findings, one line each
+        public List<String> getAnomalies() {
+            return anomalies;
+        }
+    }
+}
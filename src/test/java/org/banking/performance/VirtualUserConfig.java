@@ -0,0 +1,62 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.performance;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.banking.utils.ConfigReader;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VirtualUserConfig {
+
+    // Number of concurrent virtual users at steady state (closed model)
+    @Builder.Default
+    private int virtualUsers = 10;
+
+    // Users are started evenly over this period
+    @Builder.Default
+    private int rampUpSeconds = 10;
+
+    // All users loop through their journeys for this period; throughput is measured here
+    @Builder.Default
+    private int steadyStateSeconds = 60;
+
+    // Users are stopped evenly over this period (each finishes its current iteration)
+    @Builder.Default
+    private int rampDownSeconds = 10;
+
+    // Pause between journey steps and iterations, see ThinkTime.parse
+    @Builder.Default
+    private String thinkTime = "exponential:1000";
+
+    @Builder.Default
+    private int reportIntervalSeconds = 5;
+
+    @Builder.Default
+    private long seed = 42L;
+
+    @Builder.Default
+    private boolean serviceLoggingEnabled = false;
+
+    public static VirtualUserConfig fromProperties() {
+        return VirtualUserConfig.builder()
+                .virtualUsers(ConfigReader.getIntProperty("perf.vu.users", 10))
+                .rampUpSeconds(ConfigReader.getIntProperty("perf.vu.rampup.seconds", 10))
+                .steadyStateSeconds(ConfigReader.getIntProperty("perf.vu.steady.seconds", 60))
+                .rampDownSeconds(ConfigReader.getIntProperty("perf.vu.rampdown.seconds", 10))
+                .thinkTime(ConfigReader.getProperty("perf.vu.think.time", "exponential:1000"))
+                .reportIntervalSeconds(ConfigReader.getIntProperty("perf.report.interval.seconds", 5))
+                .seed(ConfigReader.getLongProperty("perf.seed", 42L))
+                .serviceLoggingEnabled(ConfigReader.getBooleanProperty("perf.service.logging.enabled", false))
+                .build();
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.performance;
+
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.banking.base.RequestSpecFactory;
+import org.banking.utils.ExecutorUtils;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Closed-model load: a fixed population of virtual users, each looping through weighted
+ * journeys with think time between steps. Users are started evenly during ramp-up and
+ * stopped evenly during ramp-down; throughput is reported for the steady-state window.
+ */
+public class VirtualUserEngine {
+
+    private static final Logger logger = LogManager.getLogger(VirtualUserEngine.class);
+
+    private final VirtualUserConfig config;
+    private final Supplier<RequestSpecification> requestSpecSupplier;
+
+    public VirtualUserEngine(VirtualUserConfig config) {
+        this(config, RequestSpecFactory::newLoadRequestSpec);
+    }
+
+    public VirtualUserEngine(VirtualUserConfig config, Supplier<RequestSpecification> requestSpecSupplier) {
+        this.config = config;
+        this.requestSpecSupplier = requestSpecSupplier;
+    }
+
+    public VirtualUserResult run(String name, List<Journey> journeys) {
+        if (config.getVirtualUsers() <= 0) {
+            throw new IllegalArgumentException("At least one virtual user is required");
+        }
+        ThinkTime thinkTime = ThinkTime.parse(config.getThinkTime());
+
+        Map<String, OperationStats> journeyStats = new LinkedHashMap<>();
+        Map<String, LongAdder> steadyIterations = new LinkedHashMap<>();
+        Map<String, OperationStats> stepStats = new LinkedHashMap<>();
+        for (Journey journey : journeys) {
+            journeyStats.put(journey.getName(), new OperationStats(journey.getName()));
+            steadyIterations.put(journey.getName(), new LongAdder());
+            for (Journey.Step step : journey.getSteps()) {
+                String key = stepKey(journey, step);
+                stepStats.put(key, new OperationStats(key));
+            }
+        }
+
+        int users = config.getVirtualUsers();
+        long rampUpNanos = TimeUnit.SECONDS.toNanos(config.getRampUpSeconds());
+        long steadyStartNanos = rampUpNanos;
+        long steadyEndNanos = steadyStartNanos + TimeUnit.SECONDS.toNanos(config.getSteadyStateSeconds());
+        long rampDownNanos = TimeUnit.SECONDS.toNanos(config.getRampDownSeconds());
+
+        AtomicInteger activeUsers = new AtomicInteger();
+        ExecutorService userThreads = ExecutorUtils.newUnboundedExecutor("virtual-user");
+        ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor(
+                ExecutorUtils.daemonThreadFactory("vu-reporter"));
+        Level serviceLogLevel = ServiceLogging.quiet(config.isServiceLoggingEnabled());
+
+        logger.info("Starting closed-model run '{}' with {} virtual users, journeys {}, think time {}",
+                name, users, journeys.stream().map(j -> j.getName() + ":" + j.getWeight()).toList(), thinkTime);
+
+        long startNanos = System.nanoTime();
+        int reportInterval = Math.max(1, config.getReportIntervalSeconds());
+        reporter.scheduleAtFixedRate(() -> logProgress(name, journeyStats, activeUsers),
+                reportInterval, reportInterval, TimeUnit.SECONDS);
+
+        try {
+            for (int i = 0; i < users; i++) {
+                long userStart = startNanos + rampUpNanos * i / users;
+                // Last user started is the first one stopped
+                long userStop = startNanos + steadyEndNanos + rampDownNanos * (users - 1 - i) / users;
+                Random random = new Random(config.getSeed() + i);
+                userThreads.execute(() -> runVirtualUser(journeys, thinkTime, random, userStart, userStop,
+                        startNanos + steadyStartNanos, startNanos + steadyEndNanos,
+                        journeyStats, steadyIterations, stepStats, activeUsers));
+            }
+            userThreads.shutdown();
+            long maxRunNanos = steadyEndNanos + rampDownNanos + TimeUnit.MINUTES.toNanos(2);
+            if (!userThreads.awaitTermination(maxRunNanos, TimeUnit.NANOSECONDS)) {
+                logger.warn("Virtual users did not finish in time, interrupting");
+                userThreads.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            userThreads.shutdownNow();
+            Thread.currentThread().interrupt();
+        } finally {
+            reporter.shutdownNow();
+            ServiceLogging.restore(serviceLogLevel);
+        }
+
+        double elapsedSeconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+        journeyStats.values().forEach(OperationStats::drainInterval);
+        stepStats.values().forEach(OperationStats::drainInterval);
+
+        Map<String, Long> steadyCounts = new LinkedHashMap<>();
+        steadyIterations.forEach((journey, count) -> steadyCounts.put(journey, count.sum()));
+
+        VirtualUserResult result = new VirtualUserResult(name, config, elapsedSeconds, journeyStats,
+                steadyCounts, stepStats);
+        logger.info("\n" + result.formatSummary());
+        return result;
+    }
+
+    private void runVirtualUser(List<Journey> journeys, ThinkTime thinkTime, Random random,
+                                long userStart, long userStop, long steadyStart, long steadyEnd,
+                                Map<String, OperationStats> journeyStats, Map<String, LongAdder> steadyIterations,
+                                Map<String, OperationStats> stepStats, AtomicInteger activeUsers) {
+        WeightedSelector<Journey> selector = new WeightedSelector<>(journeys, Journey::getWeight, random);
+        OpenModelLoadEngine.sleepUntil(userStart);
+        activeUsers.incrementAndGet();
+        try {
+            while (System.nanoTime() < userStop && !Thread.currentThread().isInterrupted()) {
+                Journey journey = selector.next();
+                long iterationStart = System.nanoTime();
+                boolean succeeded = runIteration(journey, thinkTime, random, journeyStats.get(journey.getName()),
+                        stepStats);
+                if (succeeded && iterationStart >= steadyStart && iterationStart < steadyEnd) {
+                    steadyIterations.get(journey.getName()).increment();
+                }
+                think(thinkTime, random);
+            }
+        } finally {
+            activeUsers.decrementAndGet();
+        }
+    }
+
+    private boolean runIteration(Journey journey, ThinkTime thinkTime, Random random, OperationStats journeyStats,
+                                 Map<String, OperationStats> stepStats) {
+        Journey.Context context = new Journey.Context();
+        long activeMicros = 0;
+        List<Journey.Step> steps = journey.getSteps();
+
+        for (int i = 0; i < steps.size(); i++) {
+            Journey.Step step = steps.get(i);
+            OperationStats stats = stepStats.get(stepKey(journey, step));
+            long stepStart = System.nanoTime();
+            try {
+                Response response = step.getAction().execute(requestSpecSupplier.get(), context);
+                long micros = (System.nanoTime() - stepStart) / 1000;
+                if (response != null) {
+                    stats.recordSuccess(micros, micros);
+                    activeMicros += micros;
+                }
+            } catch (Exception e) {
+                long micros = (System.nanoTime() - stepStart) / 1000;
+                activeMicros += micros;
+                String cause = e instanceof Journey.StepFailedException ? e.getMessage() : e.getClass().getSimpleName();
+                stats.recordError(micros, micros, cause);
+                journeyStats.recordError(activeMicros, activeMicros, step.getName() + ": " + cause);
+                logger.debug("Journey {} failed at step {}: {}", journey.getName(), step.getName(), e.getMessage());
+                return false;
+            }
+
+            if (i < steps.size() - 1 && !think(thinkTime, random)) {
+                return false;
+            }
+        }
+
+        journeyStats.recordSuccess(activeMicros, activeMicros);
+        return true;
+    }
+
+    private boolean think(ThinkTime thinkTime, Random random) {
+        long millis = thinkTime.nextMillis(random);
+        if (millis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void logProgress(String name, Map<String, OperationStats> journeyStats, AtomicInteger activeUsers) {
+        StringBuilder sb = new StringBuilder();
+        journeyStats.values().forEach(stats -> sb.append(String.format(" %s=%d/%d",
+                stats.getName(), stats.getSuccessCount(), stats.getTotalCount())));
+        logger.info("[{}] active users: {}, iterations ok/total:{}", name, activeUsers.get(), sb);
+    }
+
+    private static String stepKey(Journey journey, Journey.Step step) {
+        return journey.getName() + "." + step.getName();
+    }
+}
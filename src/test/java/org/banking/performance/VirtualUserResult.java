@@ -0,0 +1,107 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.performance;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class VirtualUserResult {
+
+    private final String name;
+    private final VirtualUserConfig config;
+    private final double elapsedSeconds;
+    private final Map<String, OperationStats> journeys;
+    private final Map<String, Long> steadyStateIterations;
+    private final Map<String, OperationStats> steps;
+
+    public VirtualUserResult(String name, VirtualUserConfig config, double elapsedSeconds,
+                             Map<String, OperationStats> journeys, Map<String, Long> steadyStateIterations,
+                             Map<String, OperationStats> steps) {
+        this.name = name;
+        this.config = config;
+        this.elapsedSeconds = elapsedSeconds;
+        this.journeys = Collections.unmodifiableMap(new LinkedHashMap<>(journeys));
+        this.steadyStateIterations = Collections.unmodifiableMap(new LinkedHashMap<>(steadyStateIterations));
+        this.steps = Collections.unmodifiableMap(new LinkedHashMap<>(steps));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    // Per-journey iteration duration (think time excluded) and failed iterations
+    public Map<String, OperationStats> getJourneys() {
+        return journeys;
+    }
+
+    // Per-step latency keyed by "journey.step"
+    public Map<String, OperationStats> getSteps() {
+        return steps;
+    }
+
+    public long getIterationCount() {
+        return journeys.values().stream().mapToLong(OperationStats::getTotalCount).sum();
+    }
+
+    public long getFailedIterationCount() {
+        return journeys.values().stream().mapToLong(OperationStats::getErrorCount).sum();
+    }
+
+    public double getIterationFailureRate() {
+        long total = getIterationCount();
+        return total == 0 ? 0.0 : (double) getFailedIterationCount() / total;
+    }
+
+    // Successful iterations per second that started during the steady-state window
+    public double getSteadyStateThroughput(String journey) {
+        long iterations = steadyStateIterations.getOrDefault(journey, 0L);
+        return config.getSteadyStateSeconds() == 0 ? 0.0 : iterations / (double) config.getSteadyStateSeconds();
+    }
+
+    public String formatSummary() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("=== Virtual User Result: %s ===%n", name));
+        sb.append(String.format("Users: %d, ramp-up: %ds, steady: %ds, ramp-down: %ds, think time: %s, elapsed: %.1f s%n",
+                config.getVirtualUsers(), config.getRampUpSeconds(), config.getSteadyStateSeconds(),
+                config.getRampDownSeconds(), config.getThinkTime(), elapsedSeconds));
+        sb.append(String.format("Iterations: %d, failed: %d (%.3f%%)%n",
+                getIterationCount(), getFailedIterationCount(), getIterationFailureRate() * 100));
+
+        sb.append(String.format("%n%-32s %9s %8s %14s %9s %9s %9s%n",
+                "Journey", "Count", "Failed", "Steady it/s", "p50(ms)", "p99(ms)", "max(ms)"));
+        for (OperationStats stats : journeys.values()) {
+            Histogram histogram = stats.getResponseTimeHistogram();
+            sb.append(String.format("%-32s %9d %8d %14.2f %9.2f %9.2f %9.2f%n",
+                    stats.getName(), stats.getTotalCount(), stats.getErrorCount(),
+                    getSteadyStateThroughput(stats.getName()),
+                    histogram.getValueAtPercentile(50) / 1000.0,
+                    histogram.getValueAtPercentile(99) / 1000.0,
+                    histogram.getMaxValue() / 1000.0));
+        }
+
+        sb.append(String.format("%n%-60s %9s %8s %9s %9s %9s %9s%n",
+                "Step", "Count", "Errors", "p50(ms)", "p90(ms)", "p99(ms)", "max(ms)"));
+        for (OperationStats stats : steps.values()) {
+            Histogram histogram = stats.getResponseTimeHistogram();
+            sb.append(String.format("%-60s %9d %8d %9.2f %9.2f %9.2f %9.2f%n",
+                    stats.getName(), stats.getTotalCount(), stats.getErrorCount(),
+                    histogram.getValueAtPercentile(50) / 1000.0,
+                    histogram.getValueAtPercentile(90) / 1000.0,
+                    histogram.getValueAtPercentile(99) / 1000.0,
+                    histogram.getMaxValue() / 1000.0));
+        }
+
+        journeys.values().stream()
+                .filter(stats -> stats.getErrorCount() > 0)
+                .forEach(stats -> sb.append(String.format("Failures for %s: %s%n",
+                        stats.getName(), stats.getErrorsByCause())));
+        return sb.toString();
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.performance;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.banking.utils.ConfigReader;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WarmUpConfig {
+
+    @Builder.Default
+    private boolean enabled = false;
+
+    // Concurrent requests, so the server warms its request-handling threads too
+    @Builder.Default
+    private int concurrency = 4;
+
+    // Requests per measurement window; convergence compares the median of consecutive windows
+    @Builder.Default
+    private int windowRequests = 40;
+
+    // Converged when the window median moved by at most this fraction...
+    @Builder.Default
+    private double tolerance = 0.10;
+
+    // ...for this many consecutive windows
+    @Builder.Default
+    private int stableWindows = 3;
+
+    // Upper bound: the suite starts anyway (with a warning) if latency has not settled by then
+    @Builder.Default
+    private int maxSeconds = 60;
+
+    // Share of the mix that creates users; 0 keeps the warm-up read-only
+    @Builder.Default
+    private int writePercent = 0;
+
+    @Builder.Default
+    private long seed = 42L;
+
+    public static WarmUpConfig fromProperties() {
+        return WarmUpConfig.builder()
+                .enabled(ConfigReader.getBooleanProperty("warmup.enabled", false))
+                .concurrency(ConfigReader.getIntProperty("warmup.concurrency", 4))
+                .windowRequests(ConfigReader.getIntProperty("warmup.window.requests", 40))
+                .tolerance(ConfigReader.getDoubleProperty("warmup.tolerance", 0.10))
+                .stableWindows(ConfigReader.getIntProperty("warmup.stable.windows", 3))
+                .maxSeconds(ConfigReader.getIntProperty("warmup.max.seconds", 60))
+                .writePercent(ConfigReader.getIntProperty("warmup.write.percent", 0))
+                .seed(ConfigReader.getLongProperty("perf.seed", 42L))
+                .build();
+    }
+}
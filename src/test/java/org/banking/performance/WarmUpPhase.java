@@ -0,0 +1,221 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.performance;
+
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.banking.base.RequestSpecFactory;
+import org.banking.resilience.CircuitBreakerFilter;
+import org.banking.resilience.CircuitOpenException;
+import org.banking.services.AccountApiService;
+import org.banking.services.TransactionApiService;
+import org.banking.services.UserApiService;
+import org.banking.utils.ConfigReader;
+import org.banking.utils.ExecutorUtils;
+import org.banking.utils.TestDataGenerator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Drives a read-mostly request mix through the service layer until latency stops moving: the
+ * median of each window of requests is compared with the previous window's, and the phase ends
+ * once it has stayed within the tolerance for several windows in a row (or at the time limit).
+ * Requests go through the backend circuit breaker, so an unreachable backend ends the warm-up
+ * early and leaves the circuit open for the tests. One-shot: create one instance per run.
+ */
+public class WarmUpPhase {
+
+    private static final Logger logger = LogManager.getLogger(WarmUpPhase.class);
+    // Ids sampled from the list endpoints for the by-id reads
+    private static final int SAMPLED_IDS = 20;
+
+    private final WarmUpConfig config;
+    private final List<Double> windowMedians = new ArrayList<>();
+    private int requests;
+    private int errors;
+    private boolean converged;
+    private boolean backendUnreachable;
+    private long elapsedMillis;
+
+    public WarmUpPhase(WarmUpConfig config) {
+        this.config = config;
+    }
+
+    // True when latency settled before the time limit
+    public boolean run() {
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.SECONDS.toNanos(config.getMaxSeconds());
+        Level previousLevel = ServiceLogging.quiet(false);
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, config.getConcurrency()),
+                ExecutorUtils.newThreadFactory("warmup"));
+        try {
+            WeightedSelector<LoadOperation> selector = new WeightedSelector<>(operations(),
+                    LoadOperation::getWeight, new Random(config.getSeed()));
+            int stable = 0;
+            while (System.nanoTime() < deadline && stable < config.getStableWindows()) {
+                double median = runWindow(executor, selector);
+                if (!windowMedians.isEmpty()) {
+                    double previous = windowMedians.get(windowMedians.size() - 1);
+                    boolean settled = previous > 0 && Math.abs(median - previous) / previous <= config.getTolerance();
+                    stable = settled ? stable + 1 : 0;
+                }
+                windowMedians.add(median);
+                logger.debug(String.format("Warm-up window %d: median %.2f ms", windowMedians.size(), median));
+            }
+            converged = stable >= config.getStableWindows();
+        } catch (CircuitOpenException e) {
+            backendUnreachable = true;
+            logger.error("Warm-up stopped, backend unreachable: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            // Includes the I/O exceptions RestAssured rethrows undeclared
+            logger.error("Warm-up aborted: " + e);
+        } finally {
+            ExecutorUtils.shutdownAndAwait(executor, 30, TimeUnit.SECONDS);
+            ServiceLogging.restore(previousLevel);
+            elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        }
+        return converged;
+    }
+
+    public boolean isConverged() {
+        return converged;
+    }
+
+    public boolean isBackendUnreachable() {
+        return backendUnreachable;
+    }
+
+    public String formatSummary() {
+        StringBuilder medians = new StringBuilder();
+        for (Double median : windowMedians) {
+            medians.append(medians.length() == 0 ? "" : ", ").append(String.format("%.1f", median));
+        }
+        String outcome = backendUnreachable ? "backend unreachable"
+                : converged ? "converged" : "not converged within " + config.getMaxSeconds() + "s";
+        return String.format("Warm-up %s after %d requests (%d errors) in %d ms; window medians (ms): [%s]",
+                outcome, requests, errors, elapsedMillis, medians);
+    }
+
+    // Median latency of one window in milliseconds; failed requests count as errors, not samples
+    private double runWindow(ExecutorService executor, WeightedSelector<LoadOperation> selector)
+            throws InterruptedException {
+        List<Callable<Long>> calls = new ArrayList<>();
+        for (int i = 0; i < config.getWindowRequests(); i++) {
+            LoadOperation operation = selector.next();
+            calls.add(() -> {
+                long callStart = System.nanoTime();
+                Response response = operation.invoke(warmUpSpec());
+                long nanos = System.nanoTime() - callStart;
+                return response.getStatusCode() >= 500 ? -1 : nanos;
+            });
+        }
+        List<Long> samples = new ArrayList<>();
+        CircuitOpenException circuitOpen = null;
+        for (Future<Long> future : executor.invokeAll(calls)) {
+            try {
+                long nanos = future.get();
+                requests++;
+                if (nanos < 0) {
+                    errors++;
+                } else {
+                    samples.add(nanos);
+                }
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof CircuitOpenException) {
+                    // Rejected without a request
+                    circuitOpen = (CircuitOpenException) e.getCause();
+                } else {
+                    requests++;
+                    errors++;
+                }
+            }
+        }
+        if (circuitOpen != null) {
+            throw circuitOpen;
+        }
+        if (samples.isEmpty()) {
+            return 0;
+        }
+        Collections.sort(samples);
+        return samples.get(samples.size() / 2) / 1_000_000.0;
+    }
+
+    private List<LoadOperation> operations() {
+        List<Long> userIds = sampleIds(() -> UserApiService.getAllUsers(warmUpSpec()));
+        List<Long> accountIds = sampleIds(() -> AccountApiService.getAllAccounts(warmUpSpec()));
+        Random random = new Random(config.getSeed());
+        int reads = 100 - Math.max(0, Math.min(100, config.getWritePercent()));
+
+        List<LoadOperation> operations = new ArrayList<>(Arrays.asList(
+                new LoadOperation("getAllUsers", reads * 15, UserApiService::getAllUsers),
+                new LoadOperation("getAllAccounts", reads * 15, AccountApiService::getAllAccounts),
+                new LoadOperation("getAllTransactions", reads * 10, TransactionApiService::getAllTransactions),
+                new LoadOperation("createUser", config.getWritePercent() * 100,
+                        spec -> UserApiService.createUser(spec, TestDataGenerator.generateValidUser()))));
+        if (!userIds.isEmpty()) {
+            operations.add(new LoadOperation("getUserById", reads * 30,
+                    spec -> UserApiService.getUserById(spec, pick(userIds, random))));
+        }
+        if (!accountIds.isEmpty()) {
+            operations.add(new LoadOperation("getAccountById", reads * 20,
+                    spec -> AccountApiService.getAccountById(spec, pick(accountIds, random))));
+            operations.add(new LoadOperation("getTransactionsByAccountId", reads * 10,
+                    spec -> TransactionApiService.getTransactionsByAccountId(spec, pick(accountIds, random))));
+        }
+        return operations;
+    }
+
+    // Load spec (no logging or Allure) behind the circuit breaker unless it is disabled. Runs before
+    // BaseTest has configured RestAssured, so the target is set explicitly with the same defaults.
+    private static RequestSpecification warmUpSpec() {
+        RequestSpecification spec = RequestSpecFactory.newLoadRequestSpec()
+                .baseUri(ConfigReader.getProperty("base.url", "http://localhost"))
+                .port(ConfigReader.getIntProperty("base.port", 8083))
+                .basePath(ConfigReader.getProperty("base.path", "/api"));
+        if (ConfigReader.getBooleanProperty("circuit.enabled", true)) {
+            spec.filter(CircuitBreakerFilter.INSTANCE);
+        }
+        return spec;
+    }
+
+    // No ids (and no by-id reads) when the list call fails; a connection failure still counts for the circuit
+    private static List<Long> sampleIds(Supplier<Response> listCall) {
+        Response response;
+        try {
+            response = listCall.get();
+        } catch (Exception e) {
+            return Collections.emptyList();
+        }
+        if (response.getStatusCode() != 200) {
+            return Collections.emptyList();
+        }
+        List<Long> ids = response.jsonPath().getList("id", Long.class);
+        return ids == null ? Collections.emptyList() : ids.subList(0, Math.min(SAMPLED_IDS, ids.size()));
+    }
+
+    private static Long pick(List<Long> ids, Random random) {
+        synchronized (random) {
+            return ids.get(random.nextInt(ids.size()));
+        }
+    }
+}
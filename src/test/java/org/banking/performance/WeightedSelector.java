@@ -0,0 +1,58 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.performance;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.ToIntFunction;
+
+/**
+ * Picks items with probability proportional to their weight. Not thread-safe:
+ * use one instance per thread or guard it externally.
+ */
+public class WeightedSelector<T> {
+
+    private final List<T> items = new ArrayList<>();
+    private final int[] cumulativeWeights;
+    private final int totalWeight;
+    private final Random random;
+
+    public WeightedSelector(List<T> candidates, ToIntFunction<T> weightFunction, Random random) {
+        this.random = random;
+        int[] cumulative = new int[candidates.size()];
+        int total = 0;
+        for (T candidate : candidates) {
+            int weight = weightFunction.applyAsInt(candidate);
+            if (weight <= 0) {
+                continue;
+            }
+            total += weight;
+            cumulative[items.size()] = total;
+            items.add(candidate);
+        }
+        if (items.isEmpty()) {
+            throw new IllegalArgumentException("At least one item with a positive weight is required");
+        }
+        this.cumulativeWeights = Arrays.copyOf(cumulative, items.size());
+        this.totalWeight = total;
+    }
+
+    public T next() {
+        int point = random.nextInt(totalWeight);
+        int index = Arrays.binarySearch(cumulativeWeights, point + 1);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return items.get(index);
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.performance;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.banking.dto.TransactionDto;
+import org.banking.pojo.Account;
+import org.banking.services.AccountApiService;
+import org.banking.services.TransactionApiService;
+import org.banking.services.UserApiService;
+import org.banking.utils.TestDataGenerator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+/**
+ * Request ratios of a traffic profile, keyed by the same endpoint templates as the SLO file and
+ * the latency report. Profile file (classpath resource or file path), relative weights:
+ * <pre>
+ * { "GET /accounts/{id}": 60, "POST /transactions": 20, "GET /users/username/{username}": 10 }
+ * </pre>
+ * Each endpoint becomes a {@link LoadOperation} calling the matching service method with IDs
+ * picked from an {@link EntityPool}; an endpoint without a service call is rejected.
+ */
+public class WorkloadProfile {
+
+    private static final Logger logger = LogManager.getLogger(WorkloadProfile.class);
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final Map<String, BiFunction<RequestSpecification, EntityPool, Response>> CALLS =
+            new LinkedHashMap<>();
+
+    static {
+        CALLS.put("GET /users/{id}", (spec, pool) -> UserApiService.getUserById(spec, pool.user().getId()));
+        CALLS.put("GET /users/username/{username}", (spec, pool) ->
+                UserApiService.getUserByUsername(spec, pool.user().getUsername()));
+        CALLS.put("GET /accounts/{id}", (spec, pool) ->
+                AccountApiService.getAccountById(spec, pool.account().getId()));
+        CALLS.put("GET /accounts/user/{userId}", (spec, pool) ->
+                AccountApiService.getAccountsByUserId(spec, pool.account().getUserId()));
+        CALLS.put("GET /accounts/number/{accountNumber}", (spec, pool) ->
+                AccountApiService.getAccountByNumber(spec, pool.account().getAccountNumber()));
+        CALLS.put("POST /transactions", (spec, pool) -> {
+            Account account = pool.account();
+            TransactionDto deposit = TestDataGenerator.generateDepositTransaction(new BigDecimal("1.00"));
+            deposit.setFromAccountId(account.getId());
+            deposit.setToAccountId(account.getId());
+            return TransactionApiService.createTransaction(spec, deposit);
+        });
+        CALLS.put("GET /transactions/{id}", (spec, pool) ->
+                TransactionApiService.getTransactionById(spec, pool.transaction().getId()));
+        CALLS.put("GET /transactions/reference/{reference}", (spec, pool) ->
+                TransactionApiService.getTransactionByReference(spec, pool.transaction().getTransactionReference()));
+        CALLS.put("GET /transactions/account/{accountId}", (spec, pool) ->
+                TransactionApiService.getTransactionsByAccountId(spec, pool.account().getId()));
+    }
+
+    private final String name;
+    private final Map<String, Integer> weights;
+
+    public WorkloadProfile(String name, Map<String, Integer> weights) {
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("Workload " + name + " needs at least one endpoint");
+        }
+        for (Map.Entry<String, Integer> entry : weights.entrySet()) {
+            if (!CALLS.containsKey(entry.getKey())) {
+                throw new IllegalArgumentException("Unsupported endpoint '" + entry.getKey() + "' in workload "
+                        + name + ", expected one of " + CALLS.keySet());
+            }
+            // A zero weight would never run, leaving the endpoint without statistics; leave it out instead
+            if (entry.getValue() <= 0) {
+                throw new IllegalArgumentException("Weight must be positive: " + entry.getKey() + "="
+                        + entry.getValue() + " in workload " + name);
+            }
+        }
+        this.name = name;
+        this.weights = new LinkedHashMap<>(weights);
+    }
+
+    public static WorkloadProfile load(String file) {
+        try (InputStream inputStream = open(file)) {
+            JsonNode root = objectMapper.readTree(inputStream);
+            Map<String, Integer> weights = new LinkedHashMap<>();
+            Iterator<Map.Entry<String, JsonNode>> endpoints = root.fields();
+            while (endpoints.hasNext()) {
+                Map.Entry<String, JsonNode> endpoint = endpoints.next();
+                if (!endpoint.getValue().canConvertToInt()) {
+                    throw new IllegalArgumentException("Weight of " + endpoint.getKey() + " is not an integer: "
+                            + endpoint.getValue());
+                }
+                weights.put(endpoint.getKey(), endpoint.getValue().asInt());
+            }
+            WorkloadProfile profile = new WorkloadProfile(file, weights);
+            logger.info("Loaded workload profile " + file + ": " + weights);
+            return profile;
+        } catch (IOException e) {
+            logger.error("Error reading workload profile: " + e.getMessage());
+            throw new RuntimeException("Failed to read workload profile: " + file, e);
+        }
+    }
+
+    public List<LoadOperation> toOperations(EntityPool pool) {
+        List<LoadOperation> operations = new ArrayList<>();
+        weights.forEach((endpoint, weight) -> {
+            BiFunction<RequestSpecification, EntityPool, Response> call = CALLS.get(endpoint);
+            operations.add(new LoadOperation(endpoint, weight, spec -> call.apply(spec, pool)));
+        });
+        return operations;
+    }
+
+    // Share of all requests the profile gives the endpoint, 0 when it is not in the profile
+    public double shareOf(String endpoint) {
+        int total = weights.values().stream().mapToInt(Integer::intValue).sum();
+        return weights.getOrDefault(endpoint, 0) / (double) total;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Map<String, Integer> getWeights() {
+        return Collections.unmodifiableMap(weights);
+    }
+
+    private static InputStream open(String file) throws IOException {
+        InputStream resource = WorkloadProfile.class.getClassLoader().getResourceAsStream(file);
+        if (resource != null) {
+            return resource;
+        }
+        Path path = Paths.get(file);
+        if (!Files.exists(path)) {
+            throw new IOException("Workload profile not found on classpath or disk: " + file);
+        }
+        return Files.newInputStream(path);
+    }
+}
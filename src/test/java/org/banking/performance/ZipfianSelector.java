@@ -0,0 +1,81 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.performance;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Picks items by rank from a Zipfian distribution: the item at rank k (1-based, list order) is
+ * picked with probability proportional to 1 / k^skew. Skew 0 is uniform; around 1 the first few
+ * items take a large share, the way payroll and merchant accounts do in real transfer traffic.
+ * Not thread-safe: use one instance per thread or guard it externally.
+ */
+public class ZipfianSelector<T> {
+
+    private final List<T> items;
+    private final double skew;
+    private final double[] cumulativeProbabilities;
+    private final Random random;
+
+    public ZipfianSelector(List<T> items, double skew, Random random) {
+        if (items.isEmpty()) {
+            throw new IllegalArgumentException("At least one item is required");
+        }
+        if (skew < 0 || Double.isNaN(skew)) {
+            throw new IllegalArgumentException("Skew must not be negative: " + skew);
+        }
+        this.items = new ArrayList<>(items);
+        this.skew = skew;
+        this.random = random;
+
+        double[] cumulative = new double[items.size()];
+        double total = 0;
+        for (int rank = 1; rank <= items.size(); rank++) {
+            total += 1.0 / Math.pow(rank, skew);
+            cumulative[rank - 1] = total;
+        }
+        for (int i = 0; i < cumulative.length; i++) {
+            cumulative[i] /= total;
+        }
+        // Guard the last bucket against rounding, so every draw lands somewhere
+        cumulative[cumulative.length - 1] = 1.0;
+        this.cumulativeProbabilities = cumulative;
+    }
+
+    public T next() {
+        int index = Arrays.binarySearch(cumulativeProbabilities, random.nextDouble());
+        return items.get(index < 0 ? -index - 1 : index);
+    }
+
+    // Another item than the given one, for picking the other side of a transfer
+    public T nextOtherThan(T excluded) {
+        if (items.size() < 2) {
+            throw new IllegalStateException("At least two items are required to pick a distinct one");
+        }
+        T item;
+        do {
+            item = next();
+        } while (item.equals(excluded));
+        return item;
+    }
+
+    // The share of draws the first topCount items get
+    public double shareOfTop(int topCount) {
+        return topCount <= 0 ? 0 : cumulativeProbabilities[Math.min(topCount, items.size()) - 1];
+    }
+
+    public double getSkew() {
+        return skew;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+}
@@ -0,0 +1,257 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.resilience;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * AIMD limit on the calls in flight to the backend. Calls over the limit wait for a permit.
+ * Once per window the mean latency of the calls completed in it is compared with a baseline,
+ * the lowest window mean seen so far (drifting slowly upwards, see
+ * {@link ConcurrencyLimiterConfig#getBaselineDrift()}). Above baseline x tolerance, or on any
+ * overload response, the server is queueing and the limit is cut by the backoff ratio. When the
+ * window used the whole limit without queueing, the limit grows by one. At a steady load the
+ * limit settles around the server's natural concurrency: the most calls it works on at once
+ * before latency climbs.
+ *
+ * <p>The limit is a live metric: {@link #getLimit()} is always current, every change is logged
+ * and the per-window history is kept for reports.</p>
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final Logger logger = LogManager.getLogger(AdaptiveConcurrencyLimiter.class);
+    private static final int MAX_HISTORY = 10_000;
+
+    // Shared by every functional test in the JVM when limiter.enabled, see ConcurrencyLimitFilter
+    public static final AdaptiveConcurrencyLimiter BACKEND = new AdaptiveConcurrencyLimiter("backend",
+            ConcurrencyLimiterConfig.fromProperties());
+
+    // The limit decided at the end of one window
+    public static class Window {
+        private final long elapsedMillis;
+        private final int limit;
+        private final int samples;
+        private final int maxInFlight;
+        private final double meanLatencyMillis;
+        private final double baselineMillis;
+        private final int overloads;
+
+        Window(long elapsedMillis, int limit, int samples, int maxInFlight, double meanLatencyMillis,
+               double baselineMillis, int overloads) {
+            this.elapsedMillis = elapsedMillis;
+            this.limit = limit;
+            this.samples = samples;
+            this.maxInFlight = maxInFlight;
+            this.meanLatencyMillis = meanLatencyMillis;
+            this.baselineMillis = baselineMillis;
+            this.overloads = overloads;
+        }
+
+        public long getElapsedMillis() {
+            return elapsedMillis;
+        }
+
+        public int getLimit() {
+            return limit;
+        }
+
+        public int getSamples() {
+            return samples;
+        }
+
+        public int getMaxInFlight() {
+            return maxInFlight;
+        }
+
+        public double getMeanLatencyMillis() {
+            return meanLatencyMillis;
+        }
+
+        public double getBaselineMillis() {
+            return baselineMillis;
+        }
+
+        public int getOverloads() {
+            return overloads;
+        }
+    }
+
+    private final String name;
+    private final ConcurrencyLimiterConfig config;
+    private final long windowNanos;
+    private final long startNanos = System.nanoTime();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition permitReleased = lock.newCondition();
+
+    // Guarded by lock
+    private volatile int limit;
+    private int inFlight;
+    private double baselineNanos;
+    private long windowStartNanos = System.nanoTime();
+    private long windowLatencyNanos;
+    private int windowSamples;
+    private int windowMaxInFlight;
+    private int windowOverloads;
+    private long rejected;
+    private final List<Window> history = new ArrayList<>();
+
+    public AdaptiveConcurrencyLimiter(String name, ConcurrencyLimiterConfig config) {
+        if (config.getMinLimit() < 1 || config.getMaxLimit() < config.getMinLimit()) {
+            throw new IllegalArgumentException("Concurrency limits must satisfy 1 <= min <= max: "
+                    + config.getMinLimit() + ", " + config.getMaxLimit());
+        }
+        this.name = name;
+        this.config = config;
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(config.getWindowMillis());
+        this.limit = Math.max(config.getMinLimit(), Math.min(config.getMaxLimit(), config.getInitialLimit()));
+    }
+
+    /**
+     * Waits up to maxWaitMillis for a permit. Every granted permit must be given back through
+     * {@link #onComplete(long, boolean)} or {@link #release()}.
+     */
+    public void acquire() throws InterruptedException {
+        long remaining = TimeUnit.MILLISECONDS.toNanos(config.getMaxWaitMillis());
+        lock.lock();
+        try {
+            while (inFlight >= limit) {
+                if (remaining <= 0) {
+                    rejected++;
+                    throw new ConcurrencyLimitException("Concurrency limit '" + name + "' of " + limit
+                            + " calls held a call back for " + config.getMaxWaitMillis() + " ms");
+                }
+                remaining = permitReleased.awaitNanos(remaining);
+            }
+            inFlight++;
+            windowMaxInFlight = Math.max(windowMaxInFlight, inFlight);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gives the permit back with the call's latency, excluding the wait for the permit.
+     *
+     * @param overloaded the backend signalled overload (429, 503, a timeout), whatever the latency
+     */
+    public void onComplete(long latencyNanos, boolean overloaded) {
+        lock.lock();
+        try {
+            windowLatencyNanos += latencyNanos;
+            windowSamples++;
+            if (overloaded) {
+                windowOverloads++;
+            }
+            releasePermit();
+            long now = System.nanoTime();
+            if (now - windowStartNanos >= windowNanos
+                    && (windowSamples >= config.getMinWindowSamples() || windowOverloads > 0)) {
+                adjust(now);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Gives back a permit whose call did not reach the backend
+    public void release() {
+        lock.lock();
+        try {
+            releasePermit();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void releasePermit() {
+        inFlight--;
+        permitReleased.signal();
+    }
+
+    private void adjust(long now) {
+        double meanNanos = windowLatencyNanos / (double) windowSamples;
+        if (baselineNanos == 0 || meanNanos < baselineNanos) {
+            baselineNanos = meanNanos;
+        } else {
+            baselineNanos += (meanNanos - baselineNanos) * config.getBaselineDrift();
+        }
+        int previous = limit;
+        if (windowOverloads > 0 || meanNanos > baselineNanos * config.getLatencyTolerance()) {
+            limit = Math.max(config.getMinLimit(), (int) Math.floor(limit * config.getBackoffRatio()));
+        } else if (windowMaxInFlight >= limit) {
+            limit = Math.min(config.getMaxLimit(), limit + 1);
+        }
+        if (limit != previous) {
+            logger.info("Concurrency limit '{}' {} -> {} (mean latency {} ms, baseline {} ms, {} overloads)", name,
+                    previous, limit, String.format("%.1f", meanNanos / 1_000_000.0),
+                    String.format("%.1f", baselineNanos / 1_000_000.0), windowOverloads);
+            // Room for waiters when the limit grew
+            permitReleased.signalAll();
+        }
+        if (history.size() < MAX_HISTORY) {
+            history.add(new Window(TimeUnit.NANOSECONDS.toMillis(now - startNanos), limit, windowSamples,
+                    windowMaxInFlight, meanNanos / 1_000_000.0, baselineNanos / 1_000_000.0, windowOverloads));
+        }
+        windowStartNanos = now;
+        windowLatencyNanos = 0;
+        windowSamples = 0;
+        windowMaxInFlight = inFlight;
+        windowOverloads = 0;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getRejected() {
+        lock.lock();
+        try {
+            return rejected;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public double getBaselineMillis() {
+        lock.lock();
+        try {
+            return baselineNanos / 1_000_000.0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public List<Window> getHistory() {
+        lock.lock();
+        try {
+            return Collections.unmodifiableList(new ArrayList<>(history));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.resilience;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.banking.utils.ConfigReader;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Consecutive-failure circuit breaker for the backend under test. After circuit.failure.threshold
+ * connection-level failures in a row the circuit opens and calls are rejected without touching
+ * the network. Once circuit.open.ms has passed, a single call is let through as a half-open
+ * probe: a response of any status closes the circuit, another connection failure re-opens it
+ * for twice as long (up to circuit.open.max.ms).
+ */
+public class CircuitBreaker {
+
+    private static final Logger logger = LogManager.getLogger(CircuitBreaker.class);
+
+    // Shared by every functional test in the JVM, see CircuitBreakerFilter
+    public static final CircuitBreaker BACKEND = new CircuitBreaker("backend",
+            ConfigReader.getIntProperty("circuit.failure.threshold", 5),
+            ConfigReader.getLongProperty("circuit.open.ms", 10_000),
+            ConfigReader.getLongProperty("circuit.open.max.ms", 60_000));
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long baseOpenNanos;
+    private final long maxOpenNanos;
+
+    // Guarded by this
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openNanos;
+    private long openedAtNanos;
+    private boolean probeInFlight;
+    private String lastFailure;
+    private long rejected;
+
+    public CircuitBreaker(String name, int failureThreshold, long openMillis, long maxOpenMillis) {
+        this.name = name;
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.baseOpenNanos = TimeUnit.MILLISECONDS.toNanos(openMillis);
+        this.maxOpenNanos = Math.max(baseOpenNanos, TimeUnit.MILLISECONDS.toNanos(maxOpenMillis));
+        this.openNanos = baseOpenNanos;
+    }
+
+    /**
+     * Permission for one call. When the open interval has passed the caller becomes the half-open
+     * probe; it must report the outcome through {@link #onSuccess()} or {@link #onFailure(Throwable)}.
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.CLOSED) {
+            return true;
+        }
+        if (state == State.OPEN && System.nanoTime() - openedAtNanos >= openNanos) {
+            state = State.HALF_OPEN;
+            logger.info("Circuit '" + name + "' half-open, probing the backend");
+        }
+        if (state == State.HALF_OPEN && !probeInFlight) {
+            probeInFlight = true;
+            return true;
+        }
+        rejected++;
+        return false;
+    }
+
+    // The backend answered (any HTTP status): it is reachable
+    public synchronized void onSuccess() {
+        if (state != State.CLOSED) {
+            logger.info("Circuit '" + name + "' closed, backend is reachable again");
+        }
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        openNanos = baseOpenNanos;
+        probeInFlight = false;
+    }
+
+    // A connection-level failure: no HTTP response at all
+    public synchronized void onFailure(Throwable failure) {
+        lastFailure = failure.toString();
+        if (state == State.HALF_OPEN) {
+            openNanos = Math.min(maxOpenNanos, openNanos * 2);
+            open("half-open probe failed");
+            return;
+        }
+        consecutiveFailures++;
+        if (state == State.CLOSED && consecutiveFailures >= failureThreshold) {
+            open(consecutiveFailures + " consecutive connection failures");
+        }
+    }
+
+    // Releases a half-open permission whose call was never made
+    public synchronized void release() {
+        probeInFlight = false;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public synchronized long getRejected() {
+        return rejected;
+    }
+
+    public synchronized String describe() {
+        return "Circuit '" + name + "' is " + state + " after " + consecutiveFailures
+                + " consecutive connection failures (last: " + lastFailure + ")";
+    }
+
+    private void open(String reason) {
+        state = State.OPEN;
+        openedAtNanos = System.nanoTime();
+        probeInFlight = false;
+        logger.error("Circuit '" + name + "' opened: " + reason + ", last failure: " + lastFailure
+                + ". Failing fast for " + TimeUnit.NANOSECONDS.toMillis(openNanos) + " ms");
+    }
+}
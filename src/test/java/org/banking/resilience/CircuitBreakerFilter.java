@@ -0,0 +1,64 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.resilience;
+
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.io.IOException;
+
+/**
+ * Puts {@link CircuitBreaker#BACKEND} in front of every request of the functional tests. Runs
+ * first, so a rejected call is not logged, timed or reported as a request. Only connection-level
+ * failures count against the circuit; any HTTP response, 5xx included, proves the backend is up.
+ */
+public class CircuitBreakerFilter implements OrderedFilter {
+
+    public static final CircuitBreakerFilter INSTANCE = new CircuitBreakerFilter();
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        CircuitBreaker breaker = CircuitBreaker.BACKEND;
+        if (!breaker.tryAcquirePermission()) {
+            throw new CircuitOpenException(breaker.describe() + "; skipped " + requestSpec.getMethod() + " "
+                    + requestSpec.getURI());
+        }
+        Response response;
+        try {
+            response = ctx.next(requestSpec, responseSpec);
+        } catch (Exception e) {
+            // Also catches the undeclared IOExceptions; rethrown as-is
+            recordFailure(breaker, e);
+            throw e;
+        } catch (Error e) {
+            breaker.release();
+            throw e;
+        }
+        breaker.onSuccess();
+        return response;
+    }
+
+    @Override
+    public int getOrder() {
+        return HIGHEST_PRECEDENCE;
+    }
+
+    // RestAssured rethrows checked I/O exceptions undeclared, so they are found by type here
+    private static void recordFailure(CircuitBreaker breaker, Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof IOException) {
+                breaker.onFailure(cause);
+                return;
+            }
+        }
+        breaker.release();
+    }
+}
@@ -0,0 +1,19 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.resilience;
+
+import org.testng.SkipException;
+
+// A SkipException, so tests that hit an open circuit are reported as skipped with the cause, not failed
+public class CircuitOpenException extends SkipException {
+
+    private static final long serialVersionUID = 1L;
+
+    public CircuitOpenException(String message) {
+        super(message);
+    }
+}
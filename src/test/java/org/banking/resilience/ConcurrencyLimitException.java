@@ -0,0 +1,19 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.resilience;
+
+import org.testng.SkipException;
+
+// A SkipException, like CircuitOpenException: a call the limiter held back too long did not test the backend
+public class ConcurrencyLimitException extends SkipException {
+
+    private static final long serialVersionUID = 1L;
+
+    public ConcurrencyLimitException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.resilience;
+
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * Puts an {@link AdaptiveConcurrencyLimiter} in front of every request of a specification.
+ * Runs after the circuit breaker and the timeout filter, so rejected calls never wait for a
+ * permit, and before latency recording, so the wait is not reported as server latency. 429,
+ * 503 and 504 responses and I/O failures (timeouts, refused connections) count as overload.
+ */
+public class ConcurrencyLimitFilter implements OrderedFilter {
+
+    // Functional tests share the backend limiter, see RequestSpecFactory (limiter.enabled)
+    public static final ConcurrencyLimitFilter INSTANCE =
+            new ConcurrencyLimitFilter(AdaptiveConcurrencyLimiter.BACKEND);
+
+    private static final Set<Integer> OVERLOAD_STATUSES = Set.of(429, 503, 504);
+
+    private final AdaptiveConcurrencyLimiter limiter;
+
+    public ConcurrencyLimitFilter(AdaptiveConcurrencyLimiter limiter) {
+        this.limiter = limiter;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        try {
+            limiter.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConcurrencyLimitException("Interrupted while waiting for a permit for "
+                    + requestSpec.getMethod() + " " + requestSpec.getURI());
+        }
+        long start = System.nanoTime();
+        Response response;
+        try {
+            response = ctx.next(requestSpec, responseSpec);
+        } catch (Exception e) {
+            // Also catches the undeclared IOExceptions; rethrown as-is
+            if (isIoFailure(e)) {
+                limiter.onComplete(System.nanoTime() - start, true);
+            } else {
+                limiter.release();
+            }
+            throw e;
+        } catch (Error e) {
+            limiter.release();
+            throw e;
+        }
+        limiter.onComplete(System.nanoTime() - start, OVERLOAD_STATUSES.contains(response.getStatusCode()));
+        return response;
+    }
+
+    @Override
+    public int getOrder() {
+        return HIGHEST_PRECEDENCE + 2;
+    }
+
+    private static boolean isIoFailure(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof IOException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
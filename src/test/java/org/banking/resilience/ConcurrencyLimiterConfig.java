@@ -0,0 +1,68 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.resilience;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.banking.utils.ConfigReader;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConcurrencyLimiterConfig {
+
+    @Builder.Default
+    private int initialLimit = 10;
+
+    @Builder.Default
+    private int minLimit = 1;
+
+    @Builder.Default
+    private int maxLimit = 200;
+
+    // The limit is re-evaluated once per window, over the calls completed in it
+    @Builder.Default
+    private long windowMillis = 1000;
+
+    // Windows with fewer completed calls (and no overload signal) are extended
+    @Builder.Default
+    private int minWindowSamples = 10;
+
+    // Mean latency above baseline x tolerance counts as queueing at the server
+    @Builder.Default
+    private double latencyTolerance = 2.0;
+
+    // Multiplicative decrease on queueing or an overload response
+    @Builder.Default
+    private double backoffRatio = 0.9;
+
+    // Fraction of the gap by which the baseline follows a higher mean latency each window, so a
+    // backend that became slower for good is not throttled forever
+    @Builder.Default
+    private double baselineDrift = 0.01;
+
+    // How long a call may wait for a permit before it is rejected
+    @Builder.Default
+    private long maxWaitMillis = 30_000;
+
+    public static ConcurrencyLimiterConfig fromProperties() {
+        return ConcurrencyLimiterConfig.builder()
+                .initialLimit(ConfigReader.getIntProperty("limiter.initial", 10))
+                .minLimit(ConfigReader.getIntProperty("limiter.min", 1))
+                .maxLimit(ConfigReader.getIntProperty("limiter.max", 200))
+                .windowMillis(ConfigReader.getLongProperty("limiter.window.ms", 1000))
+                .minWindowSamples(ConfigReader.getIntProperty("limiter.min.window.samples", 10))
+                .latencyTolerance(ConfigReader.getDoubleProperty("limiter.latency.tolerance", 2.0))
+                .backoffRatio(ConfigReader.getDoubleProperty("limiter.backoff.ratio", 0.9))
+                .baselineDrift(ConfigReader.getDoubleProperty("limiter.baseline.drift", 0.01))
+                .maxWaitMillis(ConfigReader.getLongProperty("limiter.max.wait.ms", 30_000))
+                .build();
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.resilience;
+
+import org.apache.http.client.methods.AbortableHttpRequest;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * HTTP calls in flight on behalf of the running test, so they can be aborted when the test runs
+ * out of time. Aborting closes the connection, which fails a blocked connect or socket read at
+ * once; a thread interrupt does not. The scope is inherited by threads the test starts, so
+ * requests sent from the test's own executors are covered too. Each thread has at most one call
+ * in flight: {@link org.banking.metrics.PhaseTimingHttpClient} registers it and
+ * {@link RequestTimeoutFilter} clears it.
+ */
+@SuppressWarnings("deprecation")
+public final class InFlightRequests {
+
+    private static final InheritableThreadLocal<Scope> currentScope = new InheritableThreadLocal<>();
+
+    private InFlightRequests() {
+    }
+
+    // Opens a scope for the calling thread and the threads it starts from now on
+    public static Scope open() {
+        Scope scope = new Scope();
+        currentScope.set(scope);
+        return scope;
+    }
+
+    // Called by the HTTP client right before the request goes out
+    public static void register(AbortableHttpRequest request) {
+        Scope scope = currentScope.get();
+        if (scope != null) {
+            scope.register(request);
+        }
+    }
+
+    // Called once the response has been read (or the call failed)
+    public static void completed() {
+        Scope scope = currentScope.get();
+        if (scope != null) {
+            scope.requests.remove(Thread.currentThread());
+        }
+    }
+
+    public static final class Scope {
+        // Guarded by this
+        private boolean aborted;
+        private boolean closed;
+        private final ConcurrentMap<Thread, AbortableHttpRequest> requests = new ConcurrentHashMap<>();
+        private final AtomicInteger abortedCount = new AtomicInteger();
+
+        private Scope() {
+        }
+
+        private void register(AbortableHttpRequest request) {
+            boolean abortNow;
+            synchronized (this) {
+                if (closed) {
+                    // A pool thread created during an earlier test still carries its scope
+                    return;
+                }
+                abortNow = aborted;
+                if (!abortNow) {
+                    requests.put(Thread.currentThread(), request);
+                }
+            }
+            if (abortNow) {
+                // The test is already out of time; fail the call instead of sending it
+                request.abort();
+                abortedCount.incrementAndGet();
+            }
+        }
+
+        // Aborts every call in flight and every call made from now on
+        public void abortAll() {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                aborted = true;
+            }
+            for (AbortableHttpRequest request : requests.values()) {
+                request.abort();
+                abortedCount.incrementAndGet();
+            }
+            requests.clear();
+        }
+
+        // Calls aborted so far, including those attempted after abortAll()
+        public int getAbortedCount() {
+            return abortedCount.get();
+        }
+
+        // The test is over: later calls from threads that inherited the scope are not tracked
+        public void close() {
+            synchronized (this) {
+                closed = true;
+            }
+            requests.clear();
+            if (currentScope.get() == this) {
+                currentScope.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.resilience;
+
+import io.restassured.RestAssured;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import org.apache.http.params.CoreConnectionPNames;
+import org.banking.utils.ConfigReader;
+
+/**
+ * Applies socket connect and read timeouts to every request, so a server that never answers fails
+ * the call instead of blocking the thread. Timeouts are configured per endpoint group (the first
+ * path segment, e.g. "transactions" for "/transactions/{id}"): http.connect.timeout.ms.&lt;group&gt;
+ * and http.read.timeout.ms.&lt;group&gt;, falling back to http.connect.timeout.ms and
+ * http.read.timeout.ms. 0 means no timeout. Also ends the call's {@link InFlightRequests} entry.
+ */
+@SuppressWarnings("deprecation")
+public class RequestTimeoutFilter implements OrderedFilter {
+
+    public static final RequestTimeoutFilter INSTANCE = new RequestTimeoutFilter();
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        String group = endpointGroup(requestSpec.getUserDefinedPath());
+        RestAssuredConfig config = requestSpec.getConfig() != null ? requestSpec.getConfig() : RestAssured.config();
+        // The HTTP client is created after the filters have run, from the spec's config
+        requestSpec.config(config.httpClient(config.getHttpClientConfig()
+                .setParam(CoreConnectionPNames.CONNECTION_TIMEOUT, connectTimeoutMillis(group))
+                .setParam(CoreConnectionPNames.SO_TIMEOUT, readTimeoutMillis(group))));
+        try {
+            return ctx.next(requestSpec, responseSpec);
+        } finally {
+            InFlightRequests.completed();
+        }
+    }
+
+    // After the circuit breaker, so rejected calls are not configured at all
+    @Override
+    public int getOrder() {
+        return HIGHEST_PRECEDENCE + 1;
+    }
+
+    public static int connectTimeoutMillis(String group) {
+        return timeoutMillis("http.connect.timeout.ms", group, 5000);
+    }
+
+    public static int readTimeoutMillis(String group) {
+        return timeoutMillis("http.read.timeout.ms", group, 15000);
+    }
+
+    // "/accounts/{id}/balance" -> "accounts"; absolute URLs are reduced to their path first
+    public static String endpointGroup(String path) {
+        if (path == null) {
+            return "";
+        }
+        String remainder = path;
+        int scheme = remainder.indexOf("://");
+        if (scheme >= 0) {
+            int pathStart = remainder.indexOf('/', scheme + 3);
+            remainder = pathStart < 0 ? "" : remainder.substring(pathStart);
+        }
+        int start = 0;
+        while (start < remainder.length() && remainder.charAt(start) == '/') {
+            start++;
+        }
+        int end = start;
+        while (end < remainder.length() && "/?#".indexOf(remainder.charAt(end)) < 0) {
+            end++;
+        }
+        return remainder.substring(start, end);
+    }
+
+    private static int timeoutMillis(String key, String group, int defaultValue) {
+        int fallback = ConfigReader.getIntProperty(key, defaultValue);
+        String groupKey = key + "." + group;
+        return group.isEmpty() || !ConfigReader.hasProperty(groupKey) ? fallback
+                : ConfigReader.getIntProperty(groupKey, fallback);
+    }
+}
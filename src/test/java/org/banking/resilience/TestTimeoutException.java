@@ -0,0 +1,17 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.resilience;
+
+// A test ran past its time budget; the cause is whatever the aborted test threw, if anything
+public class TestTimeoutException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public TestTimeoutException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,287 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.scheduling;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.annotations.Test;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlPackage;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+import org.testng.xml.internal.Parser;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Splits a TestNG suite into N shard suites of roughly equal expected wall time, for running in
+ * parallel forks. Whole test classes are the unit of work (tests in a class share state and
+ * dependsOnMethods chains), weighted by the summed {@link TestDurationHistory} of the methods
+ * that would run. Classes are placed longest first, each onto the currently lightest shard
+ * (LPT scheduling, within 4/3 of the optimal makespan).
+ *
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=org.banking.scheduling.ShardPlanner \
+ *     -Dexec.args="src/test/resources/suites/regression-suite.xml 4 target/shards"
+ * </pre>
+ */
+public final class ShardPlanner {
+
+    private static final Logger logger = LogManager.getLogger(ShardPlanner.class);
+
+    private ShardPlanner() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: ShardPlanner <suite.xml> <shards> [output dir, default target/shards]");
+            System.exit(2);
+        }
+        List<Shard> shards = plan(Paths.get(args[0]), Integer.parseInt(args[1]));
+        Path outputDir = Paths.get(args.length > 2 ? args[2] : "target/shards");
+        writeShards(shards, outputDir);
+        for (Shard shard : shards) {
+            System.out.printf("%-40s %8.1fs  %s%n", shard.getName(), shard.getEstimatedMillis() / 1000.0,
+                    shard.getClassNames());
+        }
+    }
+
+    public static List<Shard> plan(Path suiteFile, int shardCount) throws IOException {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("Shard count must be at least 1: " + shardCount);
+        }
+        String suiteName = suiteFile.getFileName().toString().replaceFirst("\\.xml$", "");
+        List<WorkUnit> units = new ArrayList<>();
+        Set<XmlSuite> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (XmlSuite suite : new Parser(suiteFile.toString()).parseToList()) {
+            collectUnits(suite, units, visited);
+        }
+
+        List<Shard> shards = new ArrayList<>();
+        PriorityQueue<Shard> lightestFirst = new PriorityQueue<>(
+                Comparator.comparingDouble(Shard::getEstimatedMillis).thenComparingInt(Shard::size)
+                        .thenComparingInt(Shard::getIndex));
+        for (int i = 0; i < shardCount; i++) {
+            Shard shard = new Shard(suiteName, i, shardCount);
+            shards.add(shard);
+            lightestFirst.add(shard);
+        }
+        units.sort(Comparator.comparingDouble((WorkUnit unit) -> unit.estimatedMillis).reversed());
+        for (WorkUnit unit : units) {
+            Shard shard = lightestFirst.poll();
+            shard.add(unit);
+            lightestFirst.add(shard);
+        }
+        logger.info("Planned " + units.size() + " classes of " + suiteFile + " into " + shardCount
+                + " shards, estimated makespan " + shards.stream().mapToDouble(Shard::getEstimatedMillis).max()
+                .orElse(0) / 1000.0 + "s");
+        return shards;
+    }
+
+    // Shards without any class are not written: a fork for them would have nothing to run
+    public static List<Path> writeShards(List<Shard> shards, Path outputDir) throws IOException {
+        Files.createDirectories(outputDir);
+        List<Path> files = new ArrayList<>();
+        for (Shard shard : shards) {
+            if (shard.isEmpty()) {
+                continue;
+            }
+            Path file = outputDir.resolve(shard.getName() + ".xml");
+            Files.write(file, shard.toXmlSuite().toXml().getBytes(StandardCharsets.UTF_8));
+            files.add(file);
+        }
+        return files;
+    }
+
+    // Tests of the suite and of its <suite-files>, each class once per <test> it appears in
+    private static void collectUnits(XmlSuite suite, List<WorkUnit> units, Set<XmlSuite> visited) {
+        if (!visited.add(suite)) {
+            return;
+        }
+        for (XmlTest test : suite.getTests()) {
+            for (XmlClass xmlClass : classesOf(test)) {
+                units.add(new WorkUnit(suite, test, xmlClass, estimateMillis(test, xmlClass)));
+            }
+        }
+        for (XmlSuite child : suite.getChildSuites()) {
+            collectUnits(child, units, visited);
+        }
+    }
+
+    // Classes listed directly plus those resolved from <packages> (TestNG scans the classpath)
+    private static List<XmlClass> classesOf(XmlTest test) {
+        List<XmlClass> classes = new ArrayList<>(test.getXmlClasses());
+        for (XmlPackage xmlPackage : test.getXmlPackages()) {
+            classes.addAll(xmlPackage.getXmlClasses());
+        }
+        return classes;
+    }
+
+    private static double estimateMillis(XmlTest test, XmlClass xmlClass) {
+        Class<?> testClass;
+        try {
+            testClass = Class.forName(xmlClass.getName(), false, ShardPlanner.class.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            logger.warn("Class not on the test classpath, weighted as one average test: " + xmlClass.getName());
+            return TestDurationHistory.defaultMillis();
+        }
+        double defaultMillis = TestDurationHistory.defaultMillis();
+        double total = 0;
+        for (Method method : testMethods(testClass, test.getIncludedGroups(), test.getExcludedGroups())) {
+            total += TestDurationHistory.averageMillis(testClass.getName() + "." + method.getName())
+                    .orElse(defaultMillis);
+        }
+        return total;
+    }
+
+    // @Test methods (or public methods of a class-level @Test) that the test's group filter selects
+    private static List<Method> testMethods(Class<?> testClass, List<String> includedGroups,
+                                            List<String> excludedGroups) {
+        Test classLevel = testClass.getAnnotation(Test.class);
+        List<Method> methods = new ArrayList<>();
+        for (Method method : testClass.getMethods()) {
+            Test annotation = method.getAnnotation(Test.class);
+            boolean classLevelTest = classLevel != null && method.getDeclaringClass() == testClass
+                    && !Modifier.isStatic(method.getModifiers());
+            if (annotation == null && !classLevelTest) {
+                continue;
+            }
+            Set<String> groups = new LinkedHashSet<>();
+            if (classLevel != null) {
+                groups.addAll(Arrays.asList(classLevel.groups()));
+            }
+            if (annotation != null) {
+                if (!annotation.enabled()) {
+                    continue;
+                }
+                groups.addAll(Arrays.asList(annotation.groups()));
+            }
+            boolean included = includedGroups.isEmpty() || !Collections.disjoint(groups, includedGroups);
+            if (included && Collections.disjoint(groups, excludedGroups)) {
+                methods.add(method);
+            }
+        }
+        return methods;
+    }
+
+    private static final class WorkUnit {
+        private final XmlSuite suite;
+        private final XmlTest test;
+        private final XmlClass xmlClass;
+        private final double estimatedMillis;
+
+        private WorkUnit(XmlSuite suite, XmlTest test, XmlClass xmlClass, double estimatedMillis) {
+            this.suite = suite;
+            this.test = test;
+            this.xmlClass = xmlClass;
+            this.estimatedMillis = estimatedMillis;
+        }
+    }
+
+    // One fork's share of the suite
+    public static final class Shard {
+        private final String suiteName;
+        private final int index;
+        private final int count;
+        private final List<WorkUnit> units = new ArrayList<>();
+        private double estimatedMillis;
+
+        private Shard(String suiteName, int index, int count) {
+            this.suiteName = suiteName;
+            this.index = index;
+            this.count = count;
+        }
+
+        private void add(WorkUnit unit) {
+            units.add(unit);
+            estimatedMillis += unit.estimatedMillis;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public String getName() {
+            return suiteName + "-shard-" + (index + 1) + "-of-" + count;
+        }
+
+        public double getEstimatedMillis() {
+            return estimatedMillis;
+        }
+
+        public int size() {
+            return units.size();
+        }
+
+        public boolean isEmpty() {
+            return units.isEmpty();
+        }
+
+        public List<String> getClassNames() {
+            List<String> names = new ArrayList<>();
+            units.forEach(unit -> names.add(unit.xmlClass.getName()));
+            return names;
+        }
+
+        /**
+         * A standalone suite with the source suite's settings and listeners, and one &lt;test&gt; per
+         * source test that has classes in this shard. Suite-level parameters and parallel mode are
+         * copied onto each test, since sources may come from several child suites.
+         */
+        public XmlSuite toXmlSuite() {
+            XmlSuite shardSuite = new XmlSuite();
+            shardSuite.setName(getName());
+            Map<XmlTest, XmlTest> shardTests = new LinkedHashMap<>();
+            Set<String> listeners = new LinkedHashSet<>();
+            for (WorkUnit unit : units) {
+                listeners.addAll(unit.suite.getListeners());
+                XmlTest shardTest = shardTests.computeIfAbsent(unit.test, source -> newShardTest(shardSuite, unit));
+                List<XmlClass> classes = new ArrayList<>(shardTest.getXmlClasses());
+                classes.add(unit.xmlClass);
+                shardTest.setXmlClasses(classes);
+            }
+            shardSuite.setListeners(new ArrayList<>(listeners));
+            return shardSuite;
+        }
+
+        private static XmlTest newShardTest(XmlSuite shardSuite, WorkUnit unit) {
+            XmlSuite source = unit.suite;
+            XmlTest sourceTest = unit.test;
+            XmlTest test = new XmlTest(shardSuite);
+            test.setName(sourceTest.getName());
+            Map<String, String> parameters = new HashMap<>(source.getParameters());
+            parameters.putAll(sourceTest.getLocalParameters());
+            test.setParameters(parameters);
+            test.setParallel(sourceTest.getParallel());
+            test.setThreadCount(sourceTest.getThreadCount());
+            test.setPreserveOrder(sourceTest.getPreserveOrder());
+            test.setVerbose(sourceTest.getVerbose());
+            sourceTest.getIncludedGroups().forEach(test::addIncludedGroup);
+            sourceTest.getExcludedGroups().forEach(test::addExcludedGroup);
+            return test;
+        }
+    }
+}
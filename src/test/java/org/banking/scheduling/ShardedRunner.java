@@ -0,0 +1,295 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.scheduling;
+
+import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.markuputils.MarkupHelper;
+import com.aventstack.extentreports.reporter.ExtentSparkReporter;
+import com.aventstack.extentreports.reporter.configuration.Theme;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.banking.metrics.EndpointLatency;
+import org.banking.metrics.EndpointLatencyRecorder;
+import org.banking.metrics.HistogramArchive;
+import org.banking.utils.ConfigReader;
+import org.banking.utils.VirtualThreadExecutorFactory;
+import org.testng.TestNG;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Runs a suite as N forked JVMs on this machine and merges what they produce into one report.
+ * The suite is split with {@link ShardPlanner}; each fork gets its own output directory
+ * (target/shards/shard-N) and its own test.data.namespace, so forks never create the same user.
+ * Afterwards the forks' Allure results are copied into one results directory, their Extent JSON
+ * archives are combined into one HTML report, and their latency histograms are added up.
+ *
+ * <p>Configuration (system properties or application properties):
+ * shard.suite (default testng.xml), shard.count (0 = one per CPU), shard.output.dir,
+ * shard.jvm.args (extra fork JVM options), shard.timeout.minutes. Run with {@code mvn test -Psharded}.
+ */
+public final class ShardedRunner {
+
+    private static final Logger logger = LogManager.getLogger(ShardedRunner.class);
+    private static final Pattern RESULTS_ELEMENT = Pattern.compile("<testng-results([^>]*)>");
+    // Settings every fork inherits when they were given to the runner itself
+    private static final List<String> FORWARDED_PROPERTIES = Arrays.asList("env", "base.url", "base.port",
+            "base.path", "auth.token", "logging.enabled", "retry.count", "test.parallel.threads",
+            "test.virtual.threads", "test.duration.history.file", "slo.file", "slo.gates");
+
+    private ShardedRunner() {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        Path suite = Paths.get(ConfigReader.getProperty("shard.suite", "testng.xml"));
+        int shardCount = ConfigReader.getIntProperty("shard.count", 0);
+        if (shardCount <= 0) {
+            shardCount = Runtime.getRuntime().availableProcessors();
+        }
+        Path outputDir = Paths.get(ConfigReader.getProperty("shard.output.dir", "target/shards"));
+        int exitCode = run(suite, shardCount, outputDir);
+        System.exit(exitCode);
+    }
+
+    /**
+     * @return 0 when every fork completed (test failures are reported, like surefire's
+     * testFailureIgnore), 1 when a fork crashed or timed out without writing TestNG results
+     */
+    public static int run(Path suite, int shardCount, Path outputDir) throws IOException, InterruptedException {
+        deleteRecursively(outputDir);
+        List<ShardPlanner.Shard> plan = ShardPlanner.plan(suite, shardCount);
+        List<Path> suiteFiles = ShardPlanner.writeShards(plan, outputDir);
+
+        List<Fork> forks = new ArrayList<>();
+        for (int i = 0; i < suiteFiles.size(); i++) {
+            forks.add(Fork.start(i + 1, suiteFiles.get(i), outputDir.resolve("shard-" + (i + 1))));
+        }
+        logger.info("Started " + forks.size() + " forks for " + suite);
+
+        long timeoutMinutes = ConfigReader.getLongProperty("shard.timeout.minutes", 60);
+        long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(timeoutMinutes);
+        boolean allCompleted = true;
+        for (Fork fork : forks) {
+            allCompleted &= fork.await(deadline);
+        }
+
+        mergeAllureResults(forks);
+        mergeExtentReports(forks, outputDir);
+        mergeLatency(forks, outputDir);
+        return summarize(forks) && allCompleted ? 0 : 1;
+    }
+
+    private static void mergeAllureResults(List<Fork> forks) throws IOException {
+        // Result and attachment files are named by UUID, so forks never collide
+        Path target = Paths.get(System.getProperty("allure.results.directory", "target/allure-results"));
+        Files.createDirectories(target);
+        int copied = 0;
+        for (Fork fork : forks) {
+            if (!Files.isDirectory(fork.allureResults())) {
+                continue;
+            }
+            try (Stream<Path> files = Files.list(fork.allureResults())) {
+                for (Path file : (Iterable<Path>) files::iterator) {
+                    Files.copy(file, target.resolve(file.getFileName()), StandardCopyOption.REPLACE_EXISTING);
+                    copied++;
+                }
+            }
+        }
+        logger.info("Merged " + copied + " Allure result files into " + target);
+    }
+
+    private static void mergeExtentReports(List<Fork> forks, Path outputDir) throws IOException {
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss"));
+        String reportPath = ConfigReader.getProperty("extent.report.dir", "test-output")
+                + "/ExtentReport_" + timestamp + ".html";
+        ExtentSparkReporter sparkReporter = new ExtentSparkReporter(reportPath);
+        sparkReporter.config().setDocumentTitle("Banking API Test Report");
+        sparkReporter.config().setReportName("API Automation Test Results (" + forks.size() + " shards)");
+        sparkReporter.config().setTheme(Theme.STANDARD);
+
+        ExtentReports extentReports = new ExtentReports();
+        extentReports.attachReporter(sparkReporter);
+        extentReports.setSystemInfo("Environment", System.getProperty("env", "test"));
+        extentReports.setSystemInfo("Shards", Integer.toString(forks.size()));
+        for (Fork fork : forks) {
+            if (Files.isRegularFile(fork.extentJson())) {
+                extentReports.createDomainFromJsonArchive(fork.extentJson().toFile());
+            }
+        }
+        Map<String, EndpointLatency> latency = readLatency(forks);
+        if (!latency.isEmpty()) {
+            extentReports.createTest("Endpoint Latency Summary (all shards)")
+                    .info(MarkupHelper.createCodeBlock(EndpointLatencyRecorder.formatSummary(latency)));
+        }
+        extentReports.flush();
+        logger.info("Merged ExtentReport written to: " + reportPath + " (shard logs in " + outputDir + ")");
+    }
+
+    private static void mergeLatency(List<Fork> forks, Path outputDir) throws IOException {
+        Map<String, EndpointLatency> merged = readLatency(forks);
+        if (merged.isEmpty()) {
+            return;
+        }
+        String report = EndpointLatencyRecorder.formatSummary(merged);
+        Path reportPath = Paths.get(ConfigReader.getProperty("metrics.report.dir", "test-output/metrics"),
+                "EndpointLatency_" + outputDir.getFileName() + "_merged.txt");
+        Files.createDirectories(reportPath.toAbsolutePath().getParent());
+        Files.write(reportPath, report.getBytes(StandardCharsets.UTF_8));
+        HistogramArchive.write(merged, outputDir.resolve("latency-merged.hgrm"));
+        logger.info("Endpoint latency across all shards:\n" + report);
+    }
+
+    private static Map<String, EndpointLatency> readLatency(List<Fork> forks) throws IOException {
+        List<Map<String, EndpointLatency>> snapshots = new ArrayList<>();
+        for (Fork fork : forks) {
+            if (Files.isRegularFile(fork.latencyArchive())) {
+                snapshots.add(HistogramArchive.read(fork.latencyArchive()));
+            }
+        }
+        return HistogramArchive.merge(snapshots);
+    }
+
+    // Logs per-fork and total counts; false when a fork produced no TestNG results at all
+    private static boolean summarize(List<Fork> forks) throws IOException {
+        int[] totals = new int[4];
+        boolean allReported = true;
+        for (Fork fork : forks) {
+            Path results = fork.directory.resolve("testng/testng-results.xml");
+            Matcher matcher = Files.isRegularFile(results)
+                    ? RESULTS_ELEMENT.matcher(new String(Files.readAllBytes(results), StandardCharsets.UTF_8)) : null;
+            if (matcher == null || !matcher.find()) {
+                logger.error("Shard " + fork.index + " produced no TestNG results (exit code " + fork.exitCode
+                        + "), see " + fork.log());
+                allReported = false;
+                continue;
+            }
+            String attributes = matcher.group(1);
+            int[] counts = {count(attributes, "total"), count(attributes, "passed"), count(attributes, "failed"),
+                    count(attributes, "skipped")};
+            for (int i = 0; i < counts.length; i++) {
+                totals[i] += counts[i];
+            }
+            logger.info(String.format("Shard %d: total=%d passed=%d failed=%d skipped=%d (exit code %d)",
+                    fork.index, counts[0], counts[1], counts[2], counts[3], fork.exitCode));
+        }
+        logger.info(String.format("All shards: total=%d passed=%d failed=%d skipped=%d",
+                totals[0], totals[1], totals[2], totals[3]));
+        return allReported;
+    }
+
+    private static int count(String attributes, String name) {
+        Matcher matcher = Pattern.compile("\\b" + name + "=\"(\\d+)\"").matcher(attributes);
+        return matcher.find() ? Integer.parseInt(matcher.group(1)) : 0;
+    }
+
+    private static void deleteRecursively(Path dir) throws IOException {
+        if (!Files.exists(dir)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(dir)) {
+            for (Path path : (Iterable<Path>) paths.sorted((a, b) -> b.compareTo(a))::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    // One forked TestNG JVM running one shard suite
+    private static final class Fork {
+        private final int index;
+        private final Path directory;
+        private final Process process;
+        private int exitCode = -1;
+
+        private Fork(int index, Path directory, Process process) {
+            this.index = index;
+            this.directory = directory;
+            this.process = process;
+        }
+
+        private static Fork start(int index, Path suiteFile, Path directory) throws IOException {
+            Files.createDirectories(directory);
+            List<String> command = new ArrayList<>();
+            command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+            String jvmArgs = ConfigReader.getProperty("shard.jvm.args", "");
+            if (!jvmArgs.isBlank()) {
+                command.addAll(Arrays.asList(jvmArgs.trim().split("\\s+")));
+            }
+            for (String key : FORWARDED_PROPERTIES) {
+                String value = System.getProperty(key);
+                if (value != null) {
+                    command.add("-D" + key + "=" + value);
+                }
+            }
+            command.add("-Dtest.data.namespace=shard" + index);
+            command.add("-Dallure.results.directory=" + directory.resolve("allure-results"));
+            command.add("-Dextent.report.dir=" + directory.resolve("extent"));
+            command.add("-Dextent.json.file=" + directory.resolve("extent/extent.json"));
+            command.add("-Dmetrics.report.dir=" + directory.resolve("metrics"));
+            command.add("-Dmetrics.histogram.file=" + directory.resolve("metrics/latency.hgrm"));
+            command.add("-cp");
+            command.add(System.getProperty("java.class.path"));
+            command.add(TestNG.class.getName());
+            if (ConfigReader.getBooleanProperty("test.virtual.threads", false)) {
+                command.add("-threadpoolfactoryclass");
+                command.add(VirtualThreadExecutorFactory.class.getName());
+            }
+            command.add("-d");
+            command.add(directory.resolve("testng").toString());
+            command.add(suiteFile.toString());
+
+            Process process = new ProcessBuilder(command)
+                    .redirectErrorStream(true)
+                    .redirectOutput(directory.resolve("shard.log").toFile())
+                    .start();
+            logger.info("Shard " + index + " started (" + suiteFile + "), log: " + directory.resolve("shard.log"));
+            return new Fork(index, directory, process);
+        }
+
+        private boolean await(long deadlineNanos) throws InterruptedException {
+            long remaining = deadlineNanos - System.nanoTime();
+            if (!process.waitFor(Math.max(0, remaining), TimeUnit.NANOSECONDS)) {
+                logger.error("Shard " + index + " timed out, destroying the fork");
+                process.destroyForcibly().waitFor();
+                return false;
+            }
+            exitCode = process.exitValue();
+            return true;
+        }
+
+        private Path allureResults() {
+            return directory.resolve("allure-results");
+        }
+
+        private Path extentJson() {
+            return directory.resolve("extent/extent.json");
+        }
+
+        private Path latencyArchive() {
+            return directory.resolve("metrics/latency.hgrm");
+        }
+
+        private File log() {
+            return directory.resolve("shard.log").toFile();
+        }
+    }
+}
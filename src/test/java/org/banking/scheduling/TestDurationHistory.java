@@ -0,0 +1,130 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.scheduling;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.banking.utils.ConfigReader;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-test-method wall time persisted across runs (test.duration.history.file), keyed by
+ * "fully.qualified.Class.method". Durations of the current run are summed per method (all
+ * data-provider invocations and retries) and folded into the file as an exponentially weighted
+ * average, so one slow run does not reorder everything. Forked JVMs may flush concurrently;
+ * the read-merge-write is done under a file lock.
+ */
+public final class TestDurationHistory {
+
+    private static final Logger logger = LogManager.getLogger(TestDurationHistory.class);
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    // Weight of the latest run in the stored average
+    private static final double SMOOTHING = 0.5;
+
+    private static final ConcurrentMap<String, LongAdder> currentRun = new ConcurrentHashMap<>();
+    private static volatile Map<String, Double> history;
+
+    private TestDurationHistory() {
+    }
+
+    public static Path historyFile() {
+        return Paths.get(ConfigReader.getProperty("test.duration.history.file", ".test-history/test-durations.json"));
+    }
+
+    public static void record(String testId, long durationMillis) {
+        currentRun.computeIfAbsent(testId, key -> new LongAdder()).add(Math.max(0, durationMillis));
+    }
+
+    // Stored average in milliseconds, empty for tests that have never run
+    public static OptionalDouble averageMillis(String testId) {
+        Double average = load().get(testId);
+        return average == null ? OptionalDouble.empty() : OptionalDouble.of(average);
+    }
+
+    // Estimate used for tests without history, so new tests are neither first nor last by default
+    public static double defaultMillis() {
+        return load().values().stream().mapToDouble(Double::doubleValue).average().orElse(0.0);
+    }
+
+    public static Map<String, Double> load() {
+        Map<String, Double> loaded = history;
+        if (loaded == null) {
+            synchronized (TestDurationHistory.class) {
+                if (history == null) {
+                    history = Collections.unmodifiableMap(read(historyFile()));
+                }
+                loaded = history;
+            }
+        }
+        return loaded;
+    }
+
+    // Folds this run's durations into the history file; a no-op when nothing was recorded
+    public static synchronized void flush() {
+        if (currentRun.isEmpty()) {
+            return;
+        }
+        Map<String, Long> run = new TreeMap<>();
+        currentRun.forEach((testId, total) -> run.put(testId, total.sum()));
+        currentRun.clear();
+
+        Path file = historyFile();
+        Path lockFile = file.resolveSibling(file.getFileName() + ".lock");
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            try (FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE)) {
+                // Serialises read-merge-write across shard JVMs sharing the history file
+                FileLock lock = channel.lock();
+                try {
+                    Map<String, Double> merged = read(file);
+                    run.forEach((testId, millis) -> merged.merge(testId, (double) millis,
+                            (previous, latest) -> SMOOTHING * latest + (1 - SMOOTHING) * previous));
+                    Path temp = Files.createTempFile(file.toAbsolutePath().getParent(), "test-durations", ".tmp");
+                    objectMapper.writerWithDefaultPrettyPrinter().writeValue(temp.toFile(), merged);
+                    Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                    history = Collections.unmodifiableMap(merged);
+                } finally {
+                    lock.release();
+                }
+            }
+            logger.info("Updated duration history for " + run.size() + " tests: " + file);
+        } catch (IOException e) {
+            logger.warn("Failed to update test duration history " + file + ": " + e.getMessage());
+        }
+    }
+
+    private static Map<String, Double> read(Path file) {
+        if (!Files.isRegularFile(file)) {
+            return new TreeMap<>();
+        }
+        try {
+            return objectMapper.readValue(file.toFile(), new TypeReference<TreeMap<String, Double>>() {
+            });
+        } catch (IOException e) {
+            logger.warn("Ignoring unreadable test duration history " + file + ": " + e.getMessage());
+            return new TreeMap<>();
+        }
+    }
+}
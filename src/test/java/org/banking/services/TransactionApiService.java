@@ -12,6 +12,7 @@ import io.restassured.specification.RequestSpecification;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.banking.dto.TransactionDto;
+import org.banking.utils.Await;
 
 public class TransactionApiService {
 
@@ -93,4 +94,15 @@ public class TransactionApiService {
         logger.info("Get transaction by reference response status: " + response.getStatusCode());
         return response;
     }
-}
\ No newline at end of file
+
+    @Step("Await transaction {reference} with status {status}")
+    public static Response awaitTransactionStatus(RequestSpecification requestSpec, String reference, String status) {
+        logger.info("Awaiting status " + status + " for transaction reference: " + reference);
+
+        return Await.await("transaction " + status)
+                .describedAs("transaction " + reference + " " + status)
+                .until(() -> getTransactionByReference(requestSpec, reference),
+                        response -> response.getStatusCode() == 200
+                                && status.equals(response.jsonPath().getString("status")));
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.services;
+
+import io.qameta.allure.Step;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.banking.base.RequestSpecFactory;
+import org.banking.dto.TransactionDto;
+import org.banking.pojo.Transaction;
+import org.banking.utils.ExecutorUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Submits a list of transactions as one batch: every transaction gets the same generated batchId
+ * and is posted with {@link TransactionApiService#createTransaction}. Requests are pipelined over
+ * at most maxConcurrency connections, but a transaction is only sent once every earlier
+ * transaction of the batch on the same account (source or target) has been answered, so the
+ * service sees each account's transactions in list order. A failed transaction does not stop
+ * the ones after it; every outcome is collected per item.
+ */
+public class TransactionBatchClient implements AutoCloseable {
+
+    private static final Logger logger = LogManager.getLogger(TransactionBatchClient.class);
+
+    private final int maxConcurrency;
+    private final Supplier<RequestSpecification> requestSpecSupplier;
+    private final ExecutorService connections;
+
+    public TransactionBatchClient(int maxConcurrency) {
+        this(maxConcurrency, RequestSpecFactory::newLoadRequestSpec);
+    }
+
+    public TransactionBatchClient(int maxConcurrency, Supplier<RequestSpecification> requestSpecSupplier) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("Concurrency must be positive: " + maxConcurrency);
+        }
+        this.maxConcurrency = maxConcurrency;
+        this.requestSpecSupplier = requestSpecSupplier;
+        this.connections = Executors.newFixedThreadPool(maxConcurrency,
+                ExecutorUtils.newThreadFactory("batch-submit"));
+    }
+
+    public static String newBatchId() {
+        return "BATCH-" + UUID.randomUUID();
+    }
+
+    @Step("Submit a batch of transactions")
+    public TransactionBatchResult submit(List<TransactionDto> transactions) {
+        return submit(newBatchId(), transactions);
+    }
+
+    // Sets batchId on the given transactions and blocks until every one has been answered
+    public TransactionBatchResult submit(String batchId, List<TransactionDto> transactions) {
+        logger.info("Submitting batch {} of {} transactions over {} connections", batchId, transactions.size(),
+                maxConcurrency);
+        long start = System.nanoTime();
+        Map<Long, CompletableFuture<?>> lastByAccount = new HashMap<>();
+        List<CompletableFuture<TransactionBatchResult.Item>> pending = new ArrayList<>(transactions.size());
+        for (int i = 0; i < transactions.size(); i++) {
+            TransactionDto transaction = transactions.get(i);
+            transaction.setBatchId(batchId);
+            Set<Long> accounts = accountsOf(transaction);
+            CompletableFuture<?>[] predecessors = accounts.stream()
+                    .map(lastByAccount::get)
+                    .filter(Objects::nonNull)
+                    .toArray(CompletableFuture[]::new);
+            int index = i;
+            CompletableFuture<TransactionBatchResult.Item> item = CompletableFuture.allOf(predecessors)
+                    .thenApplyAsync(ignored -> send(index, transaction), connections);
+            accounts.forEach(accountId -> lastByAccount.put(accountId, item));
+            pending.add(item);
+        }
+
+        List<TransactionBatchResult.Item> items = new ArrayList<>(pending.size());
+        pending.forEach(item -> items.add(item.join()));
+        TransactionBatchResult result = new TransactionBatchResult(batchId, items, System.nanoTime() - start);
+        logger.info("Batch {} done: {} succeeded, {} failed in {} ms", batchId, result.getSucceededCount(),
+                result.getFailedCount(), Math.round(result.getElapsedSeconds() * 1000));
+        return result;
+    }
+
+    // Never throws, so a failure does not cancel the transactions queued behind it
+    private TransactionBatchResult.Item send(int index, TransactionDto transaction) {
+        long start = System.nanoTime();
+        try {
+            Response response = TransactionApiService.createTransaction(requestSpecSupplier.get(), transaction);
+            long latencyMicros = (System.nanoTime() - start) / 1000;
+            if (response.getStatusCode() == 201) {
+                return TransactionBatchResult.Item.succeeded(index, transaction, response.getStatusCode(),
+                        response.as(Transaction.class), latencyMicros);
+            }
+            return TransactionBatchResult.Item.failed(index, transaction, response.getStatusCode(),
+                    response.getBody().asString(), latencyMicros);
+        } catch (Exception e) {
+            return TransactionBatchResult.Item.failed(index, transaction, -1,
+                    e.getClass().getSimpleName() + ": " + e.getMessage(), (System.nanoTime() - start) / 1000);
+        }
+    }
+
+    private static Set<Long> accountsOf(TransactionDto transaction) {
+        Set<Long> accounts = new LinkedHashSet<>();
+        if (transaction.getFromAccountId() != null) {
+            accounts.add(transaction.getFromAccountId());
+        }
+        if (transaction.getToAccountId() != null) {
+            accounts.add(transaction.getToAccountId());
+        }
+        return accounts;
+    }
+
+    @Override
+    public void close() {
+        ExecutorUtils.shutdownAndAwait(connections, 30, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.services;
+
+import org.HdrHistogram.Histogram;
+import org.banking.dto.TransactionDto;
+import org.banking.pojo.Transaction;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Per-item outcomes of a {@link TransactionBatchClient} submission, in the order the
+ * transactions were given.
+ */
+public class TransactionBatchResult {
+
+    private final String batchId;
+    private final List<Item> items;
+    private final long elapsedNanos;
+
+    TransactionBatchResult(String batchId, List<Item> items, long elapsedNanos) {
+        this.batchId = batchId;
+        this.items = Collections.unmodifiableList(items);
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public String getBatchId() {
+        return batchId;
+    }
+
+    public List<Item> getItems() {
+        return items;
+    }
+
+    public long getSucceededCount() {
+        return items.stream().filter(Item::isSucceeded).count();
+    }
+
+    public long getFailedCount() {
+        return items.size() - getSucceededCount();
+    }
+
+    public double getElapsedSeconds() {
+        return elapsedNanos / 1_000_000_000.0;
+    }
+
+    // Transactions answered per second, from submission until the last answer
+    public double getThroughput() {
+        double seconds = getElapsedSeconds();
+        return seconds == 0 ? 0.0 : items.size() / seconds;
+    }
+
+    // Response time of each item in microseconds, excluding the time it waited for its account
+    public Histogram getLatencyHistogram() {
+        Histogram latency = new Histogram(3);
+        items.forEach(item -> latency.recordValue(item.getLatencyMicros()));
+        return latency;
+    }
+
+    public String formatSummary() {
+        Histogram latency = getLatencyHistogram();
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("=== Transaction batch %s ===%n", batchId));
+        sb.append(String.format("Items: %d, succeeded: %d, failed: %d in %.2f s (%.1f transactions/s)%n",
+                items.size(), getSucceededCount(), getFailedCount(), getElapsedSeconds(), getThroughput()));
+        sb.append(String.format("Item latency p50: %.2f ms, p99: %.2f ms, max: %.2f ms%n",
+                latency.getValueAtPercentile(50) / 1000.0, latency.getValueAtPercentile(99) / 1000.0,
+                latency.getMaxValue() / 1000.0));
+        items.stream().filter(item -> !item.isSucceeded()).limit(10).forEach(item -> sb.append(String.format(
+                "  item %d: HTTP %d %s%n", item.getIndex(), item.getStatusCode(), item.getError())));
+        return sb.toString();
+    }
+
+    public static class Item {
+        private final int index;
+        private final TransactionDto request;
+        private final int statusCode;
+        private final Transaction transaction;
+        private final String error;
+        private final long latencyMicros;
+
+        private Item(int index, TransactionDto request, int statusCode, Transaction transaction, String error,
+                     long latencyMicros) {
+            this.index = index;
+            this.request = request;
+            this.statusCode = statusCode;
+            this.transaction = transaction;
+            this.error = error;
+            this.latencyMicros = latencyMicros;
+        }
+
+        static Item succeeded(int index, TransactionDto request, int statusCode, Transaction transaction,
+                              long latencyMicros) {
+            return new Item(index, request, statusCode, transaction, null, latencyMicros);
+        }
+
+        static Item failed(int index, TransactionDto request, int statusCode, String error, long latencyMicros) {
+            return new Item(index, request, statusCode, null, error, latencyMicros);
+        }
+
+        // Position in the submitted list
+        public int getIndex() {
+            return index;
+        }
+
+        public TransactionDto getRequest() {
+            return request;
+        }
+
+        // -1 when no response was received
+        public int getStatusCode() {
+            return statusCode;
+        }
+
+        public boolean isSucceeded() {
+            return transaction != null;
+        }
+
+        // The created transaction; null when the item failed
+        public Transaction getTransaction() {
+            return transaction;
+        }
+
+        // Response body or exception of a failed item
+        public String getError() {
+            return error;
+        }
+
+        public long getLatencyMicros() {
+            return latencyMicros;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.tests;
+
+import io.qameta.allure.*;
+import org.HdrHistogram.Histogram;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.banking.base.PerformanceBaseTest;
+import org.banking.performance.AccessLogReplay;
+import org.banking.performance.EntityPool;
+import org.banking.performance.LoadConfig;
+import org.banking.performance.LoadResult;
+import org.banking.performance.OpenModelLoadEngine;
+import org.banking.performance.OperationStats;
+import org.testng.Assert;
+import org.testng.ITestContext;
+import org.testng.annotations.Test;
+
+@Epic("Banking API")
+@Feature("Performance")
+public class AccessLogReplayTests extends PerformanceBaseTest {
+
+    private static final Logger logger = LogManager.getLogger(AccessLogReplayTests.class);
+
+    @Test(groups = {"performance"})
+    @Story("Access Log Replay")
+    @Description("Gateway access log replayed with its original inter-arrival times, compressed by a speed-up factor")
+    @Severity(SeverityLevel.CRITICAL)
+    public void testAccessLogReplay(ITestContext context) {
+        AccessLogReplay replay = AccessLogReplay.parse(
+                parameter(context, "perf.replay.log", "accesslogs/gateway-sample.log"),
+                parameter(context, "perf.replay.path.prefix", "/api"));
+        double speedUp = doubleParameter(context, "perf.replay.speedup", 1.0);
+        int maxEntities = intParameter(context, "perf.replay.max.entities", 200);
+        int transactionsPerAccount = intParameter(context, "perf.replay.transactions.per.account", 2);
+        double maxErrorRate = doubleParameter(context, "perf.max.error.rate", 0.01);
+        LoadConfig config = loadConfig(context);
+        Assert.assertTrue(replay.getRequestCount() > 0, "Access log has no replayable requests: " + replay.getFile());
+
+        // One synthetic entity per production key, up to the cap; beyond it keys share entities
+        int users = Math.max(replay.distinctKeys(AccessLogReplay.USER), replay.distinctKeys(AccessLogReplay.ACCOUNT));
+        users = Math.max(1, Math.min(maxEntities, users));
+        int transactions = replay.distinctKeys(AccessLogReplay.TRANSACTION);
+        EntityPool pool = EntityPool.seed(users,
+                Math.max(1, Math.min(transactionsPerAccount, (int) Math.ceil(transactions / (double) users))), 0,
+                config.getSeed());
+
+        double replayRps = replay.getOriginalRps() * speedUp;
+        LoadResult result = new OpenModelLoadEngine(config).run("access-log-replay", replayRps, replay.operations(),
+                replay.arrivals(pool, speedUp, config.getSeed()));
+        attachResult(result);
+
+        String report = formatReport(replay, pool, speedUp, result);
+        logger.info("Access log replay:\n" + report);
+        Allure.addAttachment("Access Log Replay", "text/plain", report);
+
+        double schedulerLagP99Ms = result.getSchedulerLag().getValueAtPercentile(99) / 1000.0;
+        if (schedulerLagP99Ms > 10) {
+            logger.warn("Load generator fell behind the log's schedule (p99 dispatch lag {} ms); "
+                    + "the replay understates its spikes", schedulerLagP99Ms);
+        }
+        Assert.assertEquals(result.getCompletedCount(), replay.getRequestCount(),
+                "Every replayable request should be sent and complete:\n" + report);
+        Assert.assertTrue(result.getErrorRate() <= maxErrorRate,
+                String.format("Error rate %.3f%% exceeds allowed %.3f%%:%n%s", result.getErrorRate() * 100,
+                        maxErrorRate * 100, report));
+    }
+
+    private String formatReport(AccessLogReplay replay, EntityPool pool, double speedUp, LoadResult result) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("=== Replay of %s at %.1fx ===%n", replay.getFile(), speedUp));
+        sb.append(String.format("Log: %d requests over %.1f s, mean %.1f rps, peak %d rps; %d lines skipped%n",
+                replay.getRequestCount(), replay.getOriginalSpanMillis() / 1000.0, replay.getOriginalRps(),
+                replay.getOriginalPeakRps(), replay.getSkippedCount()));
+        replay.getSkipped().forEach((reason, count) -> sb.append(String.format("  %6d  %s%n", count, reason)));
+        sb.append(String.format("Replay: %.1f s, mean %.1f rps, peak ~%.0f rps, max in flight %d, "
+                        + "p99 dispatch lag %.2f ms%n", result.getElapsedSeconds(), result.getAchievedRps(),
+                replay.getOriginalPeakRps() * speedUp, result.getMaxInFlight(),
+                result.getSchedulerLag().getValueAtPercentile(99) / 1000.0));
+        sb.append(String.format("Synthetic entities: %d users, %d accounts, %d transactions%n", pool.getUserCount(),
+                pool.getAccountCount(), pool.getTransactionCount()));
+        sb.append(String.format("%-40s %8s %7s %9s %9s %9s%n", "Endpoint", "Count", "Errors", "p50(ms)",
+                "p99(ms)", "max(ms)"));
+        for (OperationStats stats : result.getOperations().values()) {
+            Histogram latency = stats.getResponseTimeHistogram();
+            sb.append(String.format("%-40s %8d %7d %9.2f %9.2f %9.2f%n", stats.getName(), stats.getTotalCount(),
+                    stats.getErrorCount(), latency.getValueAtPercentile(50) / 1000.0,
+                    latency.getValueAtPercentile(99) / 1000.0, latency.getMaxValue() / 1000.0));
+        }
+        return sb.toString();
+    }
+}
@@ -14,6 +14,8 @@ import org.banking.base.BaseTest;
 import org.banking.dataproviders.DataProviders;
 import org.banking.dto.AccountDto;
 import org.banking.dto.UserDto;
+import org.banking.metrics.EndpointLatency;
+import org.banking.metrics.EndpointLatencyRecorder;
 import org.banking.pojo.Account;
 import org.banking.pojo.User;
 import org.banking.services.AccountApiService;
@@ -42,13 +44,13 @@ public class AccountApiTests extends BaseTest {
 
         // First create a user for the account
         UserDto userDto = DataProviders.createValidUserDto();
-        Response userResponse = UserApiService.createUser(requestSpec, userDto);
+        Response userResponse = UserApiService.createUser(requestSpec(), userDto);
         User createdUser = userResponse.as(User.class);
 
         // Set the user ID in account DTO
         accountDto.setUserId(createdUser.getId());
 
-        Response response = AccountApiService.createAccount(requestSpec, accountDto);
+        Response response = AccountApiService.createAccount(requestSpec(), accountDto);
 
         // Assert status code
         Assert.assertEquals(response.getStatusCode(), 201, "Account creation should return 201");
@@ -74,7 +76,7 @@ public class AccountApiTests extends BaseTest {
     public void testCreateAccountWithInvalidData(AccountDto accountDto) {
         logger.info("Testing account creation with invalid data");
 
-        Response response = AccountApiService.createAccount(requestSpec, accountDto);
+        Response response = AccountApiService.createAccount(requestSpec(), accountDto);
 
         // Assert error status code
         Assert.assertTrue(response.getStatusCode() >= 400 && response.getStatusCode() < 500,
@@ -93,15 +95,15 @@ public class AccountApiTests extends BaseTest {
 
         // Setup - create user and account
         UserDto userDto = DataProviders.createValidUserDto();
-        Response userResponse = UserApiService.createUser(requestSpec, userDto);
+        Response userResponse = UserApiService.createUser(requestSpec(), userDto);
         User createdUser = userResponse.as(User.class);
 
         accountDto.setUserId(createdUser.getId());
-        Response createResponse = AccountApiService.createAccount(requestSpec, accountDto);
+        Response createResponse = AccountApiService.createAccount(requestSpec(), accountDto);
         Account createdAccount = createResponse.as(Account.class);
 
         // Test - retrieve account
-        Response getResponse = AccountApiService.getAccountById(requestSpec, createdAccount.getId());
+        Response getResponse = AccountApiService.getAccountById(requestSpec(), createdAccount.getId());
 
         // Assert status code
         Assert.assertEquals(getResponse.getStatusCode(), 200, "Get account should return 200");
@@ -125,7 +127,7 @@ public class AccountApiTests extends BaseTest {
     public void testGetNonExistentAccount() {
         logger.info("Testing get non-existent account");
 
-        Response response = AccountApiService.getAccountById(requestSpec, 99999L);
+        Response response = AccountApiService.getAccountById(requestSpec(), 99999L);
 
         // Assert error status code
         Assert.assertEquals(response.getStatusCode(), 404, "Non-existent account should return 404");
@@ -140,7 +142,7 @@ public class AccountApiTests extends BaseTest {
     public void testGetAllAccounts() {
         logger.info("Testing get all accounts");
 
-        Response response = AccountApiService.getAllAccounts(requestSpec);
+        Response response = AccountApiService.getAllAccounts(requestSpec());
 
         // Assert status code
         Assert.assertEquals(response.getStatusCode(), 200, "Get all accounts should return 200");
@@ -165,14 +167,14 @@ public class AccountApiTests extends BaseTest {
 
         // Setup - create user and account
         UserDto userDto = DataProviders.createValidUserDto();
-        Response userResponse = UserApiService.createUser(requestSpec, userDto);
+        Response userResponse = UserApiService.createUser(requestSpec(), userDto);
         User createdUser = userResponse.as(User.class);
 
         accountDto.setUserId(createdUser.getId());
-        AccountApiService.createAccount(requestSpec, accountDto);
+        AccountApiService.createAccount(requestSpec(), accountDto);
 
         // Test - get accounts by user ID
-        Response response = AccountApiService.getAccountsByUserId(requestSpec, createdUser.getId());
+        Response response = AccountApiService.getAccountsByUserId(requestSpec(), createdUser.getId());
 
         // Assert status code
         Assert.assertEquals(response.getStatusCode(), 200, "Get accounts by user ID should return 200");
@@ -204,11 +206,11 @@ public class AccountApiTests extends BaseTest {
 
         // Setup - create user and account
         UserDto userDto = DataProviders.createValidUserDto();
-        Response userResponse = UserApiService.createUser(requestSpec, userDto);
+        Response userResponse = UserApiService.createUser(requestSpec(), userDto);
         User createdUser = userResponse.as(User.class);
 
         accountDto.setUserId(createdUser.getId());
-        Response createResponse = AccountApiService.createAccount(requestSpec, accountDto);
+        Response createResponse = AccountApiService.createAccount(requestSpec(), accountDto);
         Account createdAccount = createResponse.as(Account.class);
 
         // Update account data
@@ -221,7 +223,7 @@ public class AccountApiTests extends BaseTest {
                 .build();
 
         // Update the account
-        Response updateResponse = AccountApiService.updateAccount(requestSpec, createdAccount.getId(), updateDto);
+        Response updateResponse = AccountApiService.updateAccount(requestSpec(), createdAccount.getId(), updateDto);
 
         // Assert status code
         Assert.assertEquals(updateResponse.getStatusCode(), 200, "Update account should return 200");
@@ -248,21 +250,21 @@ public class AccountApiTests extends BaseTest {
 
         // Setup - create user and account
         UserDto userDto = DataProviders.createValidUserDto();
-        Response userResponse = UserApiService.createUser(requestSpec, userDto);
+        Response userResponse = UserApiService.createUser(requestSpec(), userDto);
         User createdUser = userResponse.as(User.class);
 
         accountDto.setUserId(createdUser.getId());
-        Response createResponse = AccountApiService.createAccount(requestSpec, accountDto);
+        Response createResponse = AccountApiService.createAccount(requestSpec(), accountDto);
         Account createdAccount = createResponse.as(Account.class);
 
         // Delete the account
-        Response deleteResponse = AccountApiService.deleteAccount(requestSpec, createdAccount.getId());
+        Response deleteResponse = AccountApiService.deleteAccount(requestSpec(), createdAccount.getId());
 
         // Assert status code
         Assert.assertEquals(deleteResponse.getStatusCode(), 204, "Delete account should return 204");
 
         // Verify account is deleted by trying to retrieve it
-        Response getResponse = AccountApiService.getAccountById(requestSpec, createdAccount.getId());
+        Response getResponse = AccountApiService.getAccountById(requestSpec(), createdAccount.getId());
         Assert.assertEquals(getResponse.getStatusCode(), 404, "Deleted account should return 404");
 
         logger.info("Account deleted successfully: " + createdAccount.getId());
@@ -278,15 +280,15 @@ public class AccountApiTests extends BaseTest {
 
         // Setup - create user and account
         UserDto userDto = DataProviders.createValidUserDto();
-        Response userResponse = UserApiService.createUser(requestSpec, userDto);
+        Response userResponse = UserApiService.createUser(requestSpec(), userDto);
         User createdUser = userResponse.as(User.class);
 
         accountDto.setUserId(createdUser.getId());
-        Response createResponse = AccountApiService.createAccount(requestSpec, accountDto);
+        Response createResponse = AccountApiService.createAccount(requestSpec(), accountDto);
         Account createdAccount = createResponse.as(Account.class);
 
         // Test - retrieve by account number
-        Response getResponse = AccountApiService.getAccountByNumber(requestSpec, createdAccount.getAccountNumber());
+        Response getResponse = AccountApiService.getAccountByNumber(requestSpec(), createdAccount.getAccountNumber());
 
         // Assert status code
         Assert.assertEquals(getResponse.getStatusCode(), 200, "Get account by number should return 200");
@@ -313,7 +315,7 @@ public class AccountApiTests extends BaseTest {
 
         // First create a user
         UserDto userDto = DataProviders.createValidUserDto();
-        Response userResponse = UserApiService.createUser(requestSpec, userDto);
+        Response userResponse = UserApiService.createUser(requestSpec(), userDto);
         User createdUser = userResponse.as(User.class);
 
         AccountDto accountDto = AccountDto.builder()
@@ -324,7 +326,7 @@ public class AccountApiTests extends BaseTest {
                 .balance(new java.math.BigDecimal(accountData.get("overdraftLimit")))
                 .build();
 
-        Response response = AccountApiService.createAccount(requestSpec, accountDto);
+        Response response = AccountApiService.createAccount(requestSpec(), accountDto);
 
         // Assert status code
         Assert.assertEquals(response.getStatusCode(), 201, "Account creation should return 201");
@@ -338,4 +340,43 @@ public class AccountApiTests extends BaseTest {
 
         logger.info("Account created from Excel data successfully: " + createdAccount.getId());
     }
-}
\ No newline at end of file
+
+    @Test(dataProvider = "validAccountData", dataProviderClass = DataProviders.class,
+            retryAnalyzer = RetryAnalyzer.class)
+    @Story("Get Account")
+    @Description("Test repeated lookups by ID on one request specification")
+    @Severity(SeverityLevel.NORMAL)
+    public void testRepeatedLookupsOnOneSpec(AccountDto accountDto) {
+        logger.info("Testing repeated lookups by ID on one request specification");
+
+        // Setup - create user and two accounts
+        UserDto userDto = DataProviders.createValidUserDto();
+        Response userResponse = UserApiService.createUser(requestSpec(), userDto);
+        User createdUser = userResponse.as(User.class);
+
+        accountDto.setUserId(createdUser.getId());
+        Account firstAccount = AccountApiService.createAccount(requestSpec(), accountDto).as(Account.class);
+        Account secondAccount = AccountApiService.createAccount(requestSpec(), accountDto).as(Account.class);
+
+        // Test - consecutive by-ID calls reuse the spec; path parameters of one call must not leak into the next
+        Response firstResponse = AccountApiService.getAccountById(requestSpec(), firstAccount.getId());
+        Response secondResponse = AccountApiService.getAccountById(requestSpec(), secondAccount.getId());
+        Response userAccountsResponse = AccountApiService.getAccountsByUserId(requestSpec(), createdUser.getId());
+
+        Assert.assertEquals(firstResponse.getStatusCode(), 200, "First lookup should return 200");
+        Assert.assertEquals(secondResponse.getStatusCode(), 200, "Second lookup should return 200");
+        Assert.assertEquals(userAccountsResponse.getStatusCode(), 200, "Lookup by user should return 200");
+        Assert.assertEquals(secondResponse.as(Account.class).getId(), secondAccount.getId(),
+                "Second lookup should return the second account");
+
+        // Latency is still reported per endpoint template, not per account
+        Map<String, EndpointLatency> latency = EndpointLatencyRecorder.snapshot();
+        Assert.assertTrue(latency.containsKey("GET /accounts/{id}"),
+                "Lookups should be recorded as GET /accounts/{id}");
+        Assert.assertFalse(latency.containsKey("GET /accounts/" + firstAccount.getId()),
+                "Lookups should not be recorded per account");
+
+        logger.info("Repeated lookups succeeded for accounts " + firstAccount.getId() + " and "
+                + secondAccount.getId());
+    }
+}
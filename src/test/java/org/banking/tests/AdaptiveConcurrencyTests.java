@@ -0,0 +1,126 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.tests;
+
+import io.qameta.allure.*;
+import org.HdrHistogram.Histogram;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.banking.base.PerformanceBaseTest;
+import org.banking.base.RequestSpecFactory;
+import org.banking.performance.EntityPool;
+import org.banking.performance.LoadConfig;
+import org.banking.performance.LoadResult;
+import org.banking.performance.OpenModelLoadEngine;
+import org.banking.performance.OperationStats;
+import org.banking.performance.WorkloadProfile;
+import org.banking.resilience.AdaptiveConcurrencyLimiter;
+import org.banking.resilience.ConcurrencyLimitException;
+import org.banking.resilience.ConcurrencyLimitFilter;
+import org.banking.resilience.ConcurrencyLimiterConfig;
+import org.testng.Assert;
+import org.testng.ITestContext;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+@Epic("Banking API")
+@Feature("Performance")
+public class AdaptiveConcurrencyTests extends PerformanceBaseTest {
+
+    private static final Logger logger = LogManager.getLogger(AdaptiveConcurrencyTests.class);
+
+    @Test(groups = {"performance"})
+    @Story("Adaptive Concurrency")
+    @Description("Open-model overload through an AIMD concurrency limiter: where the limit settles")
+    @Severity(SeverityLevel.NORMAL)
+    public void testAdaptiveConcurrencyLimit(ITestContext context) {
+        WorkloadProfile profile = WorkloadProfile.load(
+                parameter(context, "perf.limiter.profile", "workloads/production-mix.json"));
+        int reportEverySeconds = intParameter(context, "perf.limiter.report.every.seconds", 5);
+        double maxErrorRate = doubleParameter(context, "perf.max.error.rate", 0.01);
+        LoadConfig config = loadConfig(context);
+        config.setTargetRps(doubleParameter(context, "perf.limiter.rps", config.getTargetRps()));
+        config.setDurationSeconds(intParameter(context, "perf.limiter.duration.seconds", config.getDurationSeconds()));
+        ConcurrencyLimiterConfig limiterConfig = ConcurrencyLimiterConfig.fromProperties();
+        limiterConfig.setInitialLimit(intParameter(context, "perf.limiter.initial", limiterConfig.getInitialLimit()));
+        limiterConfig.setMaxWaitMillis(Long.parseLong(parameter(context, "perf.limiter.max.wait.ms",
+                String.valueOf(limiterConfig.getMaxWaitMillis()))));
+
+        EntityPool pool = EntityPool.seed(intParameter(context, "perf.mix.users", 50),
+                intParameter(context, "perf.mix.transactions.per.account", 3),
+                doubleParameter(context, "perf.mix.skew", 0.8), config.getSeed());
+        // A limiter of its own, so the run starts from the initial limit whatever ran before
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("load", limiterConfig);
+        ConcurrencyLimitFilter limitFilter = new ConcurrencyLimitFilter(limiter);
+        LoadResult result = new OpenModelLoadEngine(config,
+                () -> RequestSpecFactory.newLoadRequestSpec().filter(limitFilter))
+                .runConstantRate("adaptive-concurrency", profile.toOperations(pool));
+        attachResult(result);
+
+        long rejected = result.getOperations().values().stream()
+                .mapToLong(stats -> stats.getErrorsByCause()
+                        .getOrDefault(ConcurrencyLimitException.class.getSimpleName(), 0L))
+                .sum();
+        String report = formatReport(result, limiter, reportEverySeconds, rejected);
+        logger.info("Adaptive concurrency:\n" + report);
+        Allure.addAttachment("Adaptive Concurrency", "text/plain", report);
+
+        Assert.assertFalse(limiter.getHistory().isEmpty(), "The limiter should have evaluated at least one window");
+        Assert.assertTrue(result.getCompletedCount() > rejected, "Some calls should get through the limiter");
+        double serverErrorRate = (result.getErrorCount() - rejected) / (double) (result.getCompletedCount() - rejected);
+        Assert.assertTrue(serverErrorRate <= maxErrorRate,
+                String.format("Error rate of calls that reached the server %.3f%% exceeds %.3f%%:%n%s",
+                        serverErrorRate * 100, maxErrorRate * 100, report));
+    }
+
+    private String formatReport(LoadResult result, AdaptiveConcurrencyLimiter limiter, int reportEverySeconds,
+                                long rejected) {
+        List<AdaptiveConcurrencyLimiter.Window> history = limiter.getHistory();
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("=== Adaptive concurrency at %.1f rps offered, %.1f rps achieved ===%n",
+                result.getTargetRps(), result.getAchievedRps()));
+        sb.append(String.format("%8s %7s %9s %11s %12s %9s%n", "Time(s)", "Limit", "Peak", "Mean(ms)",
+                "Baseline(ms)", "Overload"));
+        long nextReportMillis = 0;
+        for (AdaptiveConcurrencyLimiter.Window window : history) {
+            if (window.getElapsedMillis() < nextReportMillis) {
+                continue;
+            }
+            nextReportMillis = window.getElapsedMillis() + reportEverySeconds * 1000L;
+            sb.append(String.format("%8.1f %7d %9d %11.2f %12.2f %9d%n", window.getElapsedMillis() / 1000.0,
+                    window.getLimit(), window.getMaxInFlight(), window.getMeanLatencyMillis(),
+                    window.getBaselineMillis(), window.getOverloads()));
+        }
+
+        // The second half of the run, once the limit has had time to settle
+        int[] settled = history.subList(history.size() / 2, history.size()).stream()
+                .mapToInt(AdaptiveConcurrencyLimiter.Window::getLimit).sorted().toArray();
+        if (settled.length > 0) {
+            sb.append(String.format("Settled limit (second half): median %d, range %d-%d%n",
+                    settled[settled.length / 2], settled[0], settled[settled.length - 1]));
+        }
+        // Little's law: concurrency = throughput x latency; at the baseline latency nothing queues
+        double servedRps = (result.getCompletedCount() - rejected) / result.getElapsedSeconds();
+        sb.append(String.format("Served %.1f rps; at the %.2f ms baseline that needs ~%.1f calls in flight%n",
+                servedRps, limiter.getBaselineMillis(), servedRps * limiter.getBaselineMillis() / 1000.0));
+        Histogram latency = result.getResponseTimeHistogram();
+        sb.append(String.format("Response time incl. limiter wait: p50 %.2f ms, p99 %.2f ms; %d calls rejected "
+                        + "after waiting too long%n", latency.getValueAtPercentile(50) / 1000.0,
+                latency.getValueAtPercentile(99) / 1000.0, rejected));
+        long limitChanges = IntStream.range(1, history.size())
+                .filter(i -> history.get(i).getLimit() != history.get(i - 1).getLimit()).count();
+        sb.append(String.format("%d windows, %d limit changes%n", history.size(), limitChanges));
+        for (OperationStats stats : result.getOperations().values()) {
+            if (!stats.getErrorsByCause().isEmpty()) {
+                sb.append(String.format("  %s errors: %s%n", stats.getName(), stats.getErrorsByCause()));
+            }
+        }
+        return sb.toString();
+    }
+}
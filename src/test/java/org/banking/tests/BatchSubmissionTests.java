@@ -0,0 +1,152 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.tests;
+
+import io.qameta.allure.*;
+import org.HdrHistogram.Histogram;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.banking.base.PerformanceBaseTest;
+import org.banking.dto.TransactionDto;
+import org.banking.performance.LoadConfig;
+import org.banking.performance.PerformanceDataSeeder;
+import org.banking.performance.ServiceLogging;
+import org.banking.pojo.User;
+import org.banking.services.TransactionBatchClient;
+import org.banking.services.TransactionBatchResult;
+import org.banking.utils.TestDataGenerator;
+import org.testng.Assert;
+import org.testng.ITestContext;
+import org.testng.annotations.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+@Epic("Banking API")
+@Feature("Performance")
+public class BatchSubmissionTests extends PerformanceBaseTest {
+
+    private static final Logger logger = LogManager.getLogger(BatchSubmissionTests.class);
+
+    @Test(groups = {"performance"})
+    @Story("Batch Submission")
+    @Description("Payroll-style deposits submitted in batches of growing size: throughput, ordering and batchId")
+    @Severity(SeverityLevel.CRITICAL)
+    public void testBatchThroughputBySize(ITestContext context) {
+        int accountCount = intParameter(context, "perf.batch.accounts", 20);
+        int itemsPerSize = intParameter(context, "perf.batch.items", 200);
+        int concurrency = intParameter(context, "perf.batch.concurrency", 8);
+        double maxErrorRate = doubleParameter(context, "perf.max.error.rate", 0.01);
+        LoadConfig config = loadConfig(context);
+
+        User employer = PerformanceDataSeeder.createUser();
+        List<Long> employees = new ArrayList<>();
+        for (int i = 0; i < accountCount; i++) {
+            employees.add(PerformanceDataSeeder.createAccount(employer.getId(), "CHECKING", BigDecimal.ZERO).getId());
+        }
+
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("=== Batch submission: %d payroll deposits per size into %d accounts, "
+                + "%d connections ===%n", itemsPerSize, accountCount, concurrency));
+        report.append(String.format("%10s %8s %9s %12s %9s %9s %9s %8s%n", "Batch size", "Batches", "Failed",
+                "Txn/s", "Speedup", "p50(ms)", "p99(ms)", "Order"));
+        List<String> failures = new ArrayList<>();
+        double baseline = 0;
+        Level serviceLogLevel = ServiceLogging.quiet(config.isServiceLoggingEnabled());
+        try (TransactionBatchClient client = new TransactionBatchClient(concurrency)) {
+            for (String sizeValue : parameter(context, "perf.batch.sizes", "1,10,50,200").split(",")) {
+                int batchSize = Integer.parseInt(sizeValue.trim());
+                List<TransactionDto> payroll = planPayroll(employees, itemsPerSize, new Random(config.getSeed()));
+
+                // Batches go one after another, as a payroll run would submit them
+                List<TransactionBatchResult> batches = new ArrayList<>();
+                long start = System.nanoTime();
+                for (int from = 0; from < payroll.size(); from += batchSize) {
+                    batches.add(client.submit(payroll.subList(from, Math.min(from + batchSize, payroll.size()))));
+                }
+                double throughput = payroll.size() / ((System.nanoTime() - start) / 1_000_000_000.0);
+                baseline = baseline == 0 ? throughput : baseline;
+
+                Histogram latency = new Histogram(3);
+                long failed = 0;
+                long outOfOrder = 0;
+                for (TransactionBatchResult batch : batches) {
+                    latency.add(batch.getLatencyHistogram());
+                    failed += batch.getFailedCount();
+                    outOfOrder += countOutOfOrder(batch);
+                    failures.addAll(checkBatchIds(batch));
+                }
+                report.append(String.format("%10d %8d %9d %12.1f %8.2fx %9.2f %9.2f %8s%n", batchSize, batches.size(),
+                        failed, throughput, throughput / baseline, latency.getValueAtPercentile(50) / 1000.0,
+                        latency.getValueAtPercentile(99) / 1000.0, outOfOrder == 0 ? "ok" : outOfOrder + " bad"));
+                if (failed > maxErrorRate * payroll.size()) {
+                    failures.add(String.format("batch size %d: %d of %d transactions failed", batchSize, failed,
+                            payroll.size()));
+                }
+                if (outOfOrder > 0) {
+                    failures.add(String.format("batch size %d: %d transactions applied out of account order",
+                            batchSize, outOfOrder));
+                }
+            }
+        } finally {
+            ServiceLogging.restore(serviceLogLevel);
+        }
+        logger.info("Batch submission:\n" + report);
+        Allure.addAttachment("Batch Submission", "text/plain", report.toString());
+
+        Assert.assertTrue(failures.isEmpty(), "Batch submission problems: " + failures);
+    }
+
+    // Salary deposits, several per account, so per-account ordering is exercised
+    private List<TransactionDto> planPayroll(List<Long> employees, int count, Random random) {
+        List<TransactionDto> payroll = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Long employee = employees.get(random.nextInt(employees.size()));
+            TransactionDto salary = TestDataGenerator.generateDepositTransaction(
+                    BigDecimal.valueOf(100_000 + random.nextInt(400_000), 2));
+            salary.setDescription("Payroll " + (i + 1));
+            salary.setFromAccountId(employee);
+            salary.setToAccountId(employee);
+            payroll.add(salary);
+        }
+        return payroll;
+    }
+
+    // Transaction IDs must increase in list order for every account of the batch
+    private long countOutOfOrder(TransactionBatchResult batch) {
+        Map<Long, Long> lastIdByAccount = new HashMap<>();
+        long outOfOrder = 0;
+        for (TransactionBatchResult.Item item : batch.getItems()) {
+            if (!item.isSucceeded() || item.getTransaction().getId() == null) {
+                continue;
+            }
+            Long id = item.getTransaction().getId();
+            Long previous = lastIdByAccount.put(item.getRequest().getToAccountId(), id);
+            if (previous != null && previous > id) {
+                outOfOrder++;
+            }
+        }
+        return outOfOrder;
+    }
+
+    // Services that echo batchId must echo the batch's own
+    private List<String> checkBatchIds(TransactionBatchResult batch) {
+        List<String> failures = new ArrayList<>();
+        for (TransactionBatchResult.Item item : batch.getItems()) {
+            String batchId = item.isSucceeded() ? item.getTransaction().getBatchId() : null;
+            if (batchId != null && !batchId.equals(batch.getBatchId())) {
+                failures.add("item " + item.getIndex() + " of " + batch.getBatchId() + " has batchId " + batchId);
+            }
+        }
+        return failures;
+    }
+}
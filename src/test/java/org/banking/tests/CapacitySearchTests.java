@@ -0,0 +1,60 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.tests;
+
+import io.qameta.allure.*;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.banking.base.PerformanceBaseTest;
+import org.banking.metrics.EndpointSlo;
+import org.banking.metrics.SloGate;
+import org.banking.performance.CapacitySearch;
+import org.banking.performance.CapacitySearchConfig;
+import org.banking.performance.CapacitySearchResult;
+import org.banking.performance.EntityPool;
+import org.banking.performance.LoadConfig;
+import org.banking.performance.WorkloadProfile;
+import org.testng.Assert;
+import org.testng.ITestContext;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+@Epic("Banking API")
+@Feature("Performance")
+public class CapacitySearchTests extends PerformanceBaseTest {
+
+    private static final Logger logger = LogManager.getLogger(CapacitySearchTests.class);
+
+    @Test(groups = {"performance"})
+    @Story("Capacity Search")
+    @Description("Steps the arrival rate of a workload mix until its SLO breaks and reports the sustainable maximum")
+    @Severity(SeverityLevel.CRITICAL)
+    public void testCapacityKneePoint(ITestContext context) {
+        WorkloadProfile profile = WorkloadProfile.load(
+                parameter(context, "perf.capacity.profile", "workloads/production-mix.json"));
+        double requiredRps = doubleParameter(context, "perf.capacity.required.rps", 0);
+        CapacitySearchConfig searchConfig = capacitySearchConfig(context);
+        LoadConfig config = loadConfig(context);
+        List<EndpointSlo> endpointSlos = SloGate.load(parameter(context, "perf.capacity.slo.file", ""), "");
+
+        EntityPool pool = EntityPool.seed(intParameter(context, "perf.mix.users", 50),
+                intParameter(context, "perf.mix.transactions.per.account", 3),
+                doubleParameter(context, "perf.mix.skew", 0.8), config.getSeed());
+        CapacitySearchResult result = new CapacitySearch(config, searchConfig, profile.toOperations(pool),
+                endpointSlos).run("capacity");
+        result.getSteps().forEach(step -> attachResult(step.getResult()));
+        attachResult(result);
+        logger.info("Capacity search over {}:\n{}", profile.getName(), result.formatSummary());
+
+        Assert.assertTrue(result.getMaxSustainableRps() > 0,
+                "No load step met the SLO:\n" + result.formatSummary());
+        Assert.assertTrue(result.getMaxSustainableRps() >= requiredRps,
+                String.format("Sustainable rate %.1f rps is below the required %.1f rps:%n%s",
+                        result.getMaxSustainableRps(), requiredRps, result.formatSummary()));
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.tests;
+
+import io.qameta.allure.*;
+import io.restassured.response.Response;
+import org.HdrHistogram.Histogram;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.banking.base.PerformanceBaseTest;
+import org.banking.dto.TransactionDto;
+import org.banking.performance.CurrencyConversionCheck;
+import org.banking.performance.LoadConfig;
+import org.banking.performance.LoadOperation;
+import org.banking.performance.LoadResult;
+import org.banking.performance.OpenModelLoadEngine;
+import org.banking.performance.OperationStats;
+import org.banking.performance.PerformanceDataSeeder;
+import org.banking.pojo.User;
+import org.banking.services.TransactionApiService;
+import org.banking.utils.TestDataGenerator;
+import org.testng.Assert;
+import org.testng.ITestContext;
+import org.testng.annotations.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+@Epic("Banking API")
+@Feature("Performance")
+public class CrossCurrencyLoadTests extends PerformanceBaseTest {
+
+    private static final Logger logger = LogManager.getLogger(CrossCurrencyLoadTests.class);
+    private static final String SAME_CURRENCY = "sameCurrencyTransfer";
+    private static final String CROSS_CURRENCY = "crossCurrencyTransfer";
+
+    @Test(groups = {"performance"})
+    @Story("Cross-Currency Transfers")
+    @Description("Cross-currency transfer latency next to same-currency transfers, with the conversion checked")
+    @Severity(SeverityLevel.CRITICAL)
+    public void testCrossCurrencyTransferLatency(ITestContext context) {
+        String[] currencies = parameter(context, "perf.fx.currencies", "USD,EUR,GBP").split(",");
+        int accountsPerCurrency = intParameter(context, "perf.fx.accounts.per.currency", 3);
+        int crossPercent = intParameter(context, "perf.fx.cross.percent", 50);
+        if (crossPercent < 1 || crossPercent > 99) {
+            throw new IllegalArgumentException("perf.fx.cross.percent must be between 1 and 99 so both kinds of "
+                    + "transfer run: " + crossPercent);
+        }
+        BigDecimal tolerance = new BigDecimal(parameter(context, "perf.fx.tolerance", "0.01"));
+        boolean requireConversion = Boolean.parseBoolean(parameter(context, "perf.fx.require.conversion", "false"));
+        double maxErrorRate = doubleParameter(context, "perf.max.error.rate", 0.01);
+        LoadConfig config = loadConfig(context);
+        config.setTargetRps(doubleParameter(context, "perf.fx.rps", config.getTargetRps()));
+        config.setDurationSeconds(intParameter(context, "perf.fx.duration.seconds", config.getDurationSeconds()));
+
+        User owner = PerformanceDataSeeder.createUser();
+        Map<String, List<Long>> accountsByCurrency = new LinkedHashMap<>();
+        for (String currency : currencies) {
+            List<Long> accounts = new ArrayList<>();
+            for (int i = 0; i < Math.max(2, accountsPerCurrency); i++) {
+                accounts.add(PerformanceDataSeeder.createAccount(owner.getId(), "CHECKING",
+                        new BigDecimal("1000000.00"), currency.trim()).getId());
+            }
+            accountsByCurrency.put(currency.trim(), accounts);
+        }
+        List<String> currencyCodes = new ArrayList<>(accountsByCurrency.keySet());
+        Assert.assertTrue(currencyCodes.size() > 1, "Cross-currency transfers need at least two currencies");
+
+        // Both operations run in one mix, so they are compared under the same server load
+        Random random = new Random(config.getSeed());
+        CurrencyConversionCheck conversion = new CurrencyConversionCheck(tolerance);
+        LoadOperation sameCurrency = new LoadOperation(SAME_CURRENCY, 100 - crossPercent, spec -> {
+            TransactionDto transfer;
+            synchronized (random) {
+                String currency = currencyCodes.get(random.nextInt(currencyCodes.size()));
+                transfer = transfer(random, currency, accountsByCurrency.get(currency),
+                        accountsByCurrency.get(currency));
+            }
+            return TransactionApiService.createTransaction(spec, transfer);
+        });
+        LoadOperation crossCurrency = new LoadOperation(CROSS_CURRENCY, crossPercent, spec -> {
+            TransactionDto transfer;
+            synchronized (random) {
+                int from = random.nextInt(currencyCodes.size());
+                int to = (from + 1 + random.nextInt(currencyCodes.size() - 1)) % currencyCodes.size();
+                transfer = transfer(random, currencyCodes.get(from), accountsByCurrency.get(currencyCodes.get(from)),
+                        accountsByCurrency.get(currencyCodes.get(to)));
+            }
+            Response response = TransactionApiService.createTransaction(spec, transfer);
+            // Checked after the run: parsing here would only slow down the cross-currency side
+            conversion.record(transfer, response);
+            return response;
+        });
+        LoadResult result = new OpenModelLoadEngine(config)
+                .runConstantRate("cross-currency-transfers", List.of(sameCurrency, crossCurrency));
+        attachResult(result);
+        conversion.verify();
+
+        String report = formatComparison(result) + conversion.formatReport();
+        logger.info("Cross-currency transfers:\n" + report);
+        Allure.addAttachment("Cross-Currency Transfers", "text/plain", report);
+
+        Assert.assertTrue(result.getErrorRate() <= maxErrorRate,
+                String.format("Transfer error rate %.2f%% over %.2f%%:%n%s", result.getErrorRate() * 100,
+                        maxErrorRate * 100, report));
+        Assert.assertEquals(conversion.getMismatchCount(), 0, "Cross-currency conversions off:\n" + report);
+        if (requireConversion) {
+            Assert.assertEquals(conversion.getUnconvertedCount(), 0,
+                    "Cross-currency transfers accepted without conversion:\n" + report);
+        }
+    }
+
+    // The amount is in the source account's currency, as a customer would enter it
+    private TransactionDto transfer(Random random, String currency, List<Long> sources, List<Long> targets) {
+        Long from = sources.get(random.nextInt(sources.size()));
+        Long to;
+        do {
+            to = targets.get(random.nextInt(targets.size()));
+        } while (to.equals(from));
+        TransactionDto transfer = TestDataGenerator.generateTransferTransaction(
+                BigDecimal.valueOf(100 + random.nextInt(1901), 2), from, to);
+        transfer.setCurrency(currency);
+        return transfer;
+    }
+
+    private String formatComparison(LoadResult result) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("=== Cross- vs same-currency transfers at %.1f rps (achieved %.1f) ===%n",
+                result.getTargetRps(), result.getAchievedRps()));
+        sb.append(String.format("%-22s %9s %7s %9s %9s %9s %9s%n", "Operation", "Count", "Errors", "p50(ms)",
+                "p90(ms)", "p99(ms)", "max(ms)"));
+        Map<String, Histogram> latencies = new LinkedHashMap<>();
+        for (String name : List.of(SAME_CURRENCY, CROSS_CURRENCY)) {
+            OperationStats stats = result.getOperations().get(name);
+            Histogram latency = stats.getResponseTimeHistogram();
+            latencies.put(name, latency);
+            sb.append(String.format("%-22s %9d %7d %9.2f %9.2f %9.2f %9.2f%n", name, stats.getTotalCount(),
+                    stats.getErrorCount(), latency.getValueAtPercentile(50) / 1000.0,
+                    latency.getValueAtPercentile(90) / 1000.0, latency.getValueAtPercentile(99) / 1000.0,
+                    latency.getMaxValue() / 1000.0));
+        }
+        Histogram same = latencies.get(SAME_CURRENCY);
+        Histogram cross = latencies.get(CROSS_CURRENCY);
+        if (same.getTotalCount() > 0 && cross.getTotalCount() > 0) {
+            sb.append(String.format("Cross/same ratio: p50 %.2fx, p99 %.2fx%n",
+                    (double) cross.getValueAtPercentile(50) / Math.max(1, same.getValueAtPercentile(50)),
+                    (double) cross.getValueAtPercentile(99) / Math.max(1, same.getValueAtPercentile(99))));
+        }
+        return sb.toString();
+    }
+}
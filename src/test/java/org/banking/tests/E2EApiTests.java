@@ -45,7 +45,7 @@ public class E2EApiTests extends BaseTest {
 
         // Step 1: Create User
         Allure.step("Step 1: Create User", () -> {
-            Response userResponse = UserApiService.createUser(requestSpec, userDto);
+            Response userResponse = UserApiService.createUser(requestSpec(), userDto);
             Assert.assertEquals(userResponse.getStatusCode(), 201, "User creation should succeed");
 
             User createdUser = userResponse.as(User.class);
@@ -58,7 +58,7 @@ public class E2EApiTests extends BaseTest {
 
         // Step 2: Create Account for User
         Account createdAccount = Allure.step("Step 2: Create Account for User", () -> {
-            Response accountResponse = AccountApiService.createAccount(requestSpec, accountDto);
+            Response accountResponse = AccountApiService.createAccount(requestSpec(), accountDto);
             Assert.assertEquals(accountResponse.getStatusCode(), 201, "Account creation should succeed");
 
             Account account = accountResponse.as(Account.class);
@@ -77,7 +77,7 @@ public class E2EApiTests extends BaseTest {
             secondAccount = Allure.step("Step 3: Create Second Account for Transfer", () -> {
                 // Create another user for second account
                 UserDto secondUserDto = DataProviders.createValidUserDto();
-                Response secondUserResponse = UserApiService.createUser(requestSpec, secondUserDto);
+                Response secondUserResponse = UserApiService.createUser(requestSpec(), secondUserDto);
                 User secondUser = secondUserResponse.as(User.class);
 
                 AccountDto secondAccountDto = AccountDto.builder()
@@ -87,7 +87,7 @@ public class E2EApiTests extends BaseTest {
                         .creditLimit(new BigDecimal("100.00"))
                         .build();
 
-                Response secondAccountResponse = AccountApiService.createAccount(requestSpec, secondAccountDto);
+                Response secondAccountResponse = AccountApiService.createAccount(requestSpec(), secondAccountDto);
                 Account account = secondAccountResponse.as(Account.class);
                 logger.info("Second account created with ID: " + account.getId());
 
@@ -107,7 +107,7 @@ public class E2EApiTests extends BaseTest {
                 transactionDto.setToAccountId(createdAccount.getId());
             }
 
-            Response transactionResponse = TransactionApiService.createTransaction(requestSpec, transactionDto);
+            Response transactionResponse = TransactionApiService.createTransaction(requestSpec(), transactionDto);
             Assert.assertEquals(transactionResponse.getStatusCode(), 201, "Transaction creation should succeed");
 
             Transaction transaction = transactionResponse.as(Transaction.class);
@@ -125,7 +125,7 @@ public class E2EApiTests extends BaseTest {
         // Step 5: Verify Transaction in Account History
         Allure.step("Step 5: Verify Transaction in Account History", () -> {
             Response accountTransactionsResponse = TransactionApiService.getTransactionsByAccountId(
-                    requestSpec, createdAccount.getId());
+                    requestSpec(), createdAccount.getId());
             Assert.assertEquals(accountTransactionsResponse.getStatusCode(), 200,
                     "Get account transactions should succeed");
 
@@ -145,7 +145,7 @@ public class E2EApiTests extends BaseTest {
         // Step 6: Verify Transaction by Reference
         Allure.step("Step 6: Verify Transaction by Reference", () -> {
             Response transactionByRefResponse = TransactionApiService.getTransactionByReference(
-                    requestSpec, createdTransaction.getTransactionReference());
+                    requestSpec(), createdTransaction.getTransactionReference());
             Assert.assertEquals(transactionByRefResponse.getStatusCode(), 200,
                     "Get transaction by reference should succeed");
 
@@ -168,7 +168,7 @@ public class E2EApiTests extends BaseTest {
 
         // Step 1: Create User
         UserDto userDto = DataProviders.createValidUserDto();
-        Response userResponse = UserApiService.createUser(requestSpec, userDto);
+        Response userResponse = UserApiService.createUser(requestSpec(), userDto);
         User createdUser = userResponse.as(User.class);
         logger.info("User created: " + createdUser.getId());
 
@@ -187,17 +187,17 @@ public class E2EApiTests extends BaseTest {
                 .creditLimit(new BigDecimal("500.00"))
                 .build();
 
-        Response savingsResponse = AccountApiService.createAccount(requestSpec, savingsAccountDto);
+        Response savingsResponse = AccountApiService.createAccount(requestSpec(), savingsAccountDto);
         Account savingsAccount = savingsResponse.as(Account.class);
 
-        Response checkingResponse = AccountApiService.createAccount(requestSpec, checkingAccountDto);
+        Response checkingResponse = AccountApiService.createAccount(requestSpec(), checkingAccountDto);
         Account checkingAccount = checkingResponse.as(Account.class);
 
         logger.info("Created savings account: " + savingsAccount.getId() +
                 " and checking account: " + checkingAccount.getId());
 
         // Step 3: Verify User Has Multiple Accounts
-        Response userAccountsResponse = AccountApiService.getAccountsByUserId(requestSpec, createdUser.getId());
+        Response userAccountsResponse = AccountApiService.getAccountsByUserId(requestSpec(), createdUser.getId());
         List<Account> userAccounts = userAccountsResponse.jsonPath().getList("$", Account.class);
         Assert.assertTrue(userAccounts.size() >= 2, "User should have at least 2 accounts");
 
@@ -211,16 +211,16 @@ public class E2EApiTests extends BaseTest {
                 .toAccountId(checkingAccount.getId())
                 .build();
 
-        Response transferResponse = TransactionApiService.createTransaction(requestSpec, transferDto);
+        Response transferResponse = TransactionApiService.createTransaction(requestSpec(), transferDto);
         Transaction transfer = transferResponse.as(Transaction.class);
         Assert.assertEquals(transferResponse.getStatusCode(), 201, "Transfer should succeed");
         logger.info("Transfer completed: " + transfer.getId());
 
         // Step 5: Verify Both Accounts Show the Transaction
         Response savingsTransactionsResponse = TransactionApiService.getTransactionsByAccountId(
-                requestSpec, savingsAccount.getId());
+                requestSpec(), savingsAccount.getId());
         Response checkingTransactionsResponse = TransactionApiService.getTransactionsByAccountId(
-                requestSpec, checkingAccount.getId());
+                requestSpec(), checkingAccount.getId());
 
         List<Transaction> savingsTransactions = savingsTransactionsResponse.jsonPath()
                 .getList("$", Transaction.class);
@@ -242,12 +242,12 @@ public class E2EApiTests extends BaseTest {
 
         // Step 1: Create User and Account
         UserDto userDto = DataProviders.createValidUserDto();
-        Response userResponse = UserApiService.createUser(requestSpec, userDto);
+        Response userResponse = UserApiService.createUser(requestSpec(), userDto);
         User user = userResponse.as(User.class);
 
         AccountDto accountDto = DataProviders.createValidAccountDto();
         accountDto.setUserId(user.getId());
-        Response accountResponse = AccountApiService.createAccount(requestSpec, accountDto);
+        Response accountResponse = AccountApiService.createAccount(requestSpec(), accountDto);
         Account account = accountResponse.as(Account.class);
 
         // Step 2: Perform Several Transactions
@@ -261,12 +261,12 @@ public class E2EApiTests extends BaseTest {
                     .toAccountId(account.getId())
                     .build();
 
-            TransactionApiService.createTransaction(requestSpec, transactionDto);
+            TransactionApiService.createTransaction(requestSpec(), transactionDto);
         }
 
         // Step 3: Verify Transaction History
         Response transactionsResponse = TransactionApiService.getTransactionsByAccountId(
-                requestSpec, account.getId());
+                requestSpec(), account.getId());
         List<Transaction> transactions = transactionsResponse.jsonPath()
                 .getList("$", Transaction.class);
         Assert.assertTrue(transactions.size() >= 3, "Account should have at least 3 transactions");
@@ -279,13 +279,13 @@ public class E2EApiTests extends BaseTest {
                 .creditLimit(new BigDecimal("1000.00"))
                 .build();
 
-        Response updateResponse = AccountApiService.updateAccount(requestSpec, account.getId(), updateDto);
+        Response updateResponse = AccountApiService.updateAccount(requestSpec(), account.getId(), updateDto);
         Account updatedAccount = updateResponse.as(Account.class);
         Assert.assertEquals(updatedAccount.getAccountType(), "CHECKING",
                 "Account type should be updated");
 
         // Step 5: Verify Account Still Accessible After Update
-        Response getAccountResponse = AccountApiService.getAccountById(requestSpec, account.getId());
+        Response getAccountResponse = AccountApiService.getAccountById(requestSpec(), account.getId());
         Assert.assertEquals(getAccountResponse.getStatusCode(), 200,
                 "Account should be accessible after update");
 
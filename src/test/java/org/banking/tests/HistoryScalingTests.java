@@ -0,0 +1,166 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.tests;
+
+import io.qameta.allure.*;
+import io.restassured.response.Response;
+import org.HdrHistogram.Histogram;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.banking.base.PerformanceBaseTest;
+import org.banking.base.RequestSpecFactory;
+import org.banking.dto.TransactionDto;
+import org.banking.performance.LoadConfig;
+import org.banking.performance.LoadOperation;
+import org.banking.performance.LoadResult;
+import org.banking.performance.OpenModelLoadEngine;
+import org.banking.performance.PerformanceDataSeeder;
+import org.banking.pojo.Account;
+import org.banking.pojo.Transaction;
+import org.banking.services.TransactionApiService;
+import org.banking.utils.TestDataGenerator;
+import org.testng.Assert;
+import org.testng.ITestContext;
+import org.testng.annotations.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+@Epic("Banking API")
+@Feature("Performance")
+public class HistoryScalingTests extends PerformanceBaseTest {
+
+    private static final Logger logger = LogManager.getLogger(HistoryScalingTests.class);
+
+    @Test(groups = {"performance"})
+    @Story("Account History Scaling")
+    @Description("Latency, payload size and deserialization time of an account's history as it grows")
+    @Severity(SeverityLevel.NORMAL)
+    public void testAccountHistoryScaling(ITestContext context) {
+        int samples = intParameter(context, "perf.history.samples", 20);
+        double seedRps = doubleParameter(context, "perf.history.seed.rps", 200);
+        double superlinearExponent = doubleParameter(context, "perf.history.superlinear.exponent", 1.2);
+        long[] sizes = Arrays.stream(parameter(context, "perf.history.sizes", "10,1000,10000,100000").split(","))
+                .mapToLong(size -> Long.parseLong(size.trim()))
+                .sorted()
+                .toArray();
+
+        // One account grows through every size, so each step only seeds the difference
+        Account account = PerformanceDataSeeder.createFundedAccount(new BigDecimal("0.00"));
+        List<HistoryPoint> curve = new ArrayList<>();
+        long seeded = 0;
+        for (long size : sizes) {
+            LoadResult seeding = seedDeposits(context, account, size - seeded, seedRps);
+            seeded = size;
+            HistoryPoint point = measure(account, samples);
+            logger.info("History of {} transactions: p50 {} ms, {} bytes, deserialized in {} ms (seeding {} errors)",
+                    point.transactions, point.latencyMicros.getValueAtPercentile(50) / 1000.0, point.bytes,
+                    point.deserializeMicros.getValueAtPercentile(50) / 1000.0, seeding.getErrorCount());
+            Assert.assertTrue(point.transactions >= size - seeding.getErrorCount(),
+                    "History of account " + account.getId() + " should hold the seeded transactions, got "
+                            + point.transactions);
+            curve.add(point);
+        }
+
+        String report = formatCurve(account, samples, superlinearExponent, curve);
+        logger.info("Account history scaling:\n" + report);
+        Allure.addAttachment("Account History Scaling", "text/plain", report);
+    }
+
+    private LoadResult seedDeposits(ITestContext context, Account account, long count, double rps) {
+        LoadConfig config = loadConfig(context);
+        LoadOperation deposit = new LoadOperation("seedDeposit", 1, spec -> {
+            TransactionDto transaction = TestDataGenerator.generateDepositTransaction(new BigDecimal("1.00"));
+            transaction.setFromAccountId(account.getId());
+            transaction.setToAccountId(account.getId());
+            return TransactionApiService.createTransaction(spec, transaction);
+        });
+        double intervalNanos = 1_000_000_000.0 / rps;
+        List<OpenModelLoadEngine.Arrival> arrivals = new ArrayList<>();
+        for (long i = 0; i < count; i++) {
+            arrivals.add(new OpenModelLoadEngine.Arrival(Math.round(i * intervalNanos), deposit));
+        }
+        return new OpenModelLoadEngine(config)
+                .run("history-seed-" + account.getId(), rps, List.of(deposit), arrivals.iterator());
+    }
+
+    // Sequential reads, so the latency is that of the history size alone and not of queueing
+    private HistoryPoint measure(Account account, int samples) {
+        HistoryPoint point = new HistoryPoint();
+        for (int i = 0; i < samples; i++) {
+            long start = System.nanoTime();
+            Response response = TransactionApiService.getTransactionsByAccountId(
+                    RequestSpecFactory.newLoadRequestSpec(), account.getId());
+            long received = System.nanoTime();
+            Assert.assertEquals(response.getStatusCode(), 200, "History of account " + account.getId());
+            Transaction[] transactions = response.as(Transaction[].class);
+            long deserialized = System.nanoTime();
+
+            point.latencyMicros.recordValue((received - start) / 1000);
+            point.deserializeMicros.recordValue((deserialized - received) / 1000);
+            point.bytes = response.asByteArray().length;
+            point.transactions = transactions.length;
+        }
+        return point;
+    }
+
+    // Each row's exponents compare it with the previous size: 1 is linear, above 1 grows faster than the history
+    private String formatCurve(Account account, int samples, double superlinearExponent, List<HistoryPoint> curve) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("=== History scaling: GET /transactions/account/%d, %d sequential reads per size ===%n",
+                account.getId(), samples));
+        sb.append(String.format("%12s %9s %9s %9s %12s %9s %12s %9s %9s%n", "Transactions", "p50(ms)", "p99(ms)",
+                "max(ms)", "Bytes", "B/txn", "Deser(ms)", "Exp(lat)", "Exp(des)"));
+        HistoryPoint previous = null;
+        List<String> superlinear = new ArrayList<>();
+        for (HistoryPoint point : curve) {
+            double latencyExponent = exponent(previous, point, previous == null ? 0
+                    : previous.latencyMicros.getValueAtPercentile(50), point.latencyMicros.getValueAtPercentile(50));
+            double deserializeExponent = exponent(previous, point, previous == null ? 0
+                    : previous.deserializeMicros.getValueAtPercentile(50),
+                    point.deserializeMicros.getValueAtPercentile(50));
+            sb.append(String.format("%12d %9.2f %9.2f %9.2f %12d %9.1f %12.2f %9s %9s%n", point.transactions,
+                    point.latencyMicros.getValueAtPercentile(50) / 1000.0,
+                    point.latencyMicros.getValueAtPercentile(99) / 1000.0, point.latencyMicros.getMaxValue() / 1000.0,
+                    point.bytes, point.transactions == 0 ? 0.0 : (double) point.bytes / point.transactions,
+                    point.deserializeMicros.getValueAtPercentile(50) / 1000.0,
+                    formatExponent(latencyExponent), formatExponent(deserializeExponent)));
+            if (latencyExponent > superlinearExponent) {
+                superlinear.add(previous.transactions + " -> " + point.transactions);
+            }
+            previous = point;
+        }
+        sb.append(superlinear.isEmpty()
+                ? String.format("Latency grows at most with exponent %.2f over the measured range%n",
+                superlinearExponent)
+                : String.format("Latency grows superlinearly (exponent above %.2f) between %s: consider paging%n",
+                superlinearExponent, String.join(", ", superlinear)));
+        return sb.toString();
+    }
+
+    // Local scaling exponent log(t2/t1) / log(n2/n1); NaN for the first point or when it is undefined
+    private static double exponent(HistoryPoint previous, HistoryPoint point, double previousValue, double value) {
+        if (previous == null || previous.transactions <= 0 || point.transactions <= previous.transactions
+                || previousValue <= 0 || value <= 0) {
+            return Double.NaN;
+        }
+        return Math.log(value / previousValue) / Math.log((double) point.transactions / previous.transactions);
+    }
+
+    private static String formatExponent(double exponent) {
+        return Double.isNaN(exponent) ? "-" : String.format("%.2f", exponent);
+    }
+
+    private static final class HistoryPoint {
+        private final Histogram latencyMicros = new Histogram(3);
+        private final Histogram deserializeMicros = new Histogram(3);
+        private long bytes;
+        private long transactions;
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.tests;
+
+import io.qameta.allure.*;
+import org.HdrHistogram.Histogram;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.banking.base.PerformanceBaseTest;
+import org.banking.dto.TransactionDto;
+import org.banking.performance.LoadConfig;
+import org.banking.performance.LoadOperation;
+import org.banking.performance.LoadResult;
+import org.banking.performance.OpenModelLoadEngine;
+import org.banking.performance.OperationStats;
+import org.banking.performance.PerformanceDataSeeder;
+import org.banking.performance.ZipfianSelector;
+import org.banking.pojo.User;
+import org.banking.services.TransactionApiService;
+import org.banking.utils.TestDataGenerator;
+import org.testng.Assert;
+import org.testng.ITestContext;
+import org.testng.annotations.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+@Epic("Banking API")
+@Feature("Performance")
+public class HotAccountContentionTests extends PerformanceBaseTest {
+
+    private static final Logger logger = LogManager.getLogger(HotAccountContentionTests.class);
+
+    @Test(groups = {"performance"})
+    @Story("Hot Account Contention")
+    @Description("Transfer latency and errors as the account pairs skew from uniform towards a few hot accounts")
+    @Severity(SeverityLevel.CRITICAL)
+    public void testTransferLatencyUnderAccountSkew(ITestContext context) {
+        int accountCount = intParameter(context, "perf.hotspot.accounts", 50);
+        int durationSeconds = intParameter(context, "perf.hotspot.duration.seconds", 20);
+        double targetRps = doubleParameter(context, "perf.hotspot.rps", 50);
+        BigDecimal initialBalance = new BigDecimal(parameter(context, "perf.hotspot.initial.balance", "100000.00"));
+        double maxErrorRate = doubleParameter(context, "perf.max.error.rate", 0.01);
+
+        // The same accounts for every skew, so only the distribution over them changes
+        User owner = PerformanceDataSeeder.createUser();
+        List<Long> accountIds = new ArrayList<>();
+        for (int i = 0; i < accountCount; i++) {
+            accountIds.add(PerformanceDataSeeder.createAccount(owner.getId(), "CHECKING", initialBalance).getId());
+        }
+
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("=== Hot-account contention: %d accounts, %.1f rps for %d s per skew ===%n",
+                accountCount, targetRps, durationSeconds));
+        report.append(String.format("%-6s %9s %9s %9s %9s %8s %9s %9s %9s %9s  %s%n", "Skew", "Top-1", "Top-10%",
+                "Achieved", "Completed", "Errors", "p50(ms)", "p90(ms)", "p99(ms)", "max(ms)", "Errors by cause"));
+        List<String> failures = new ArrayList<>();
+        for (String skewValue : parameter(context, "perf.hotspot.skews", "0,0.8,1.2,2.0").split(",")) {
+            double skew = Double.parseDouble(skewValue.trim());
+            LoadConfig config = loadConfig(context);
+            config.setTargetRps(targetRps);
+            config.setDurationSeconds(durationSeconds);
+            ZipfianSelector<Long> accounts = new ZipfianSelector<>(accountIds, skew, new Random(config.getSeed()));
+
+            // Planned up front: the selector is not thread-safe and the same seed gives the same pairs
+            Queue<TransactionDto> plan = planTransfers(accounts, (int) Math.ceil(targetRps * durationSeconds),
+                    new Random(config.getSeed() + 1));
+            LoadOperation transfer = new LoadOperation("transfer", 1,
+                    spec -> TransactionApiService.createTransaction(spec, plan.poll()));
+            LoadResult result = new OpenModelLoadEngine(config)
+                    .runConstantRate("hot-accounts-skew-" + skewValue.trim(), List.of(transfer));
+            attachResult(result);
+
+            Histogram latency = result.getResponseTimeHistogram();
+            OperationStats stats = result.getOperations().get("transfer");
+            report.append(String.format("%-6.2f %8.1f%% %8.1f%% %9.1f %9d %8d %9.2f %9.2f %9.2f %9.2f  %s%n",
+                    skew, accounts.shareOfTop(1) * 100, accounts.shareOfTop(Math.max(1, accountCount / 10)) * 100,
+                    result.getAchievedRps(), result.getCompletedCount(), result.getErrorCount(),
+                    latency.getValueAtPercentile(50) / 1000.0, latency.getValueAtPercentile(90) / 1000.0,
+                    latency.getValueAtPercentile(99) / 1000.0, latency.getMaxValue() / 1000.0,
+                    formatCauses(stats.getErrorsByCause())));
+            if (result.getErrorRate() > maxErrorRate) {
+                failures.add(String.format("skew %s: error rate %.2f%% over %.2f%%", skewValue.trim(),
+                        result.getErrorRate() * 100, maxErrorRate * 100));
+            }
+        }
+        logger.info("Hot-account contention:\n" + report);
+        Allure.addAttachment("Hot-Account Contention", "text/plain", report.toString());
+
+        Assert.assertTrue(failures.isEmpty(), "Transfer error rate too high under skew: " + failures);
+    }
+
+    // Both sides of a transfer come from the same ranking, so the hottest accounts send and receive
+    private Queue<TransactionDto> planTransfers(ZipfianSelector<Long> accounts, int count, Random random) {
+        Queue<TransactionDto> plan = new ConcurrentLinkedQueue<>();
+        for (int i = 0; i < count; i++) {
+            Long from = accounts.next();
+            Long to = accounts.nextOtherThan(from);
+            BigDecimal amount = BigDecimal.valueOf(100 + random.nextInt(4901), 2);
+            plan.add(TestDataGenerator.generateTransferTransaction(amount, from, to));
+        }
+        return plan;
+    }
+
+    private static String formatCauses(Map<String, Long> errorsByCause) {
+        return errorsByCause.isEmpty() ? "-" : errorsByCause.toString();
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.tests;
+
+import io.qameta.allure.*;
+import io.restassured.response.Response;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.banking.base.PerformanceBaseTest;
+import org.banking.base.RequestSpecFactory;
+import org.banking.dto.TransactionDto;
+import org.banking.performance.LedgerReconciler;
+import org.banking.performance.PerformanceDataSeeder;
+import org.banking.performance.ReconciliationResult;
+import org.banking.pojo.Account;
+import org.banking.pojo.User;
+import org.banking.services.TransactionApiService;
+import org.banking.utils.TestDataGenerator;
+import org.testng.Assert;
+import org.testng.ITestContext;
+import org.testng.annotations.Test;
+
+import java.math.BigDecimal;
+
+@Epic("Banking API")
+@Feature("Performance")
+public class LedgerReconciliationTests extends PerformanceBaseTest {
+
+    private static final Logger logger = LogManager.getLogger(LedgerReconciliationTests.class);
+
+    @Test(groups = {"performance"})
+    @Story("Ledger Reconciliation")
+    @Description("Every account balance matches the balance rebuilt from its transaction history")
+    @Severity(SeverityLevel.BLOCKER)
+    public void testBalancesMatchTransactionHistory(ITestContext context) {
+        // Make sure the ledger holds every transaction type, whatever ran before
+        User owner = PerformanceDataSeeder.createUser();
+        Account source = PerformanceDataSeeder.createAccount(owner.getId(), "CHECKING", new BigDecimal("500.00"));
+        Account target = PerformanceDataSeeder.createAccount(owner.getId(), "SAVINGS", new BigDecimal("100.00"));
+        PerformanceDataSeeder.createDeposit(source.getId(), new BigDecimal("75.25"));
+        TransactionDto withdrawal = TestDataGenerator.generateWithdrawalTransaction(new BigDecimal("20.10"));
+        withdrawal.setFromAccountId(source.getId());
+        requireCreated(TransactionApiService.createTransaction(RequestSpecFactory.newLoadRequestSpec(), withdrawal));
+        requireCreated(TransactionApiService.createTransaction(RequestSpecFactory.newLoadRequestSpec(),
+                TestDataGenerator.generateTransferTransaction(new BigDecimal("130.40"), source.getId(),
+                        target.getId())));
+
+        ReconciliationResult result = new LedgerReconciler(reconciliationConfig(context)).reconcile();
+        logger.info("Ledger reconciliation:\n" + result.formatSummary());
+        attachResult(result);
+
+        Assert.assertTrue(result.getCheckedCount() > 0, "At least one account should have been reconciled");
+        Assert.assertEquals(result.getFailedCount(), 0, "Unreadable account histories:\n" + result.formatSummary());
+        Assert.assertEquals(result.getMismatchCount(), 0,
+                "Balances that do not match their history:\n" + result.formatSummary());
+    }
+
+    private void requireCreated(Response response) {
+        Assert.assertEquals(response.getStatusCode(), 201, "Seed transaction failed: " + response.asString());
+    }
+}
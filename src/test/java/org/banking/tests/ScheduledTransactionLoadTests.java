@@ -0,0 +1,161 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.tests;
+
+import io.qameta.allure.*;
+import io.restassured.response.Response;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.banking.base.PerformanceBaseTest;
+import org.banking.base.RequestSpecFactory;
+import org.banking.dto.TransactionDto;
+import org.banking.performance.LoadConfig;
+import org.banking.performance.LoadOperation;
+import org.banking.performance.LoadResult;
+import org.banking.performance.OpenModelLoadEngine;
+import org.banking.performance.PerformanceDataSeeder;
+import org.banking.performance.ScheduledProcessingTracker;
+import org.banking.pojo.Account;
+import org.banking.pojo.User;
+import org.banking.services.TransactionApiService;
+import org.banking.utils.TestDataGenerator;
+import org.testng.Assert;
+import org.testng.ITestContext;
+import org.testng.annotations.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+@Epic("Banking API")
+@Feature("Performance")
+public class ScheduledTransactionLoadTests extends PerformanceBaseTest {
+
+    private static final Logger logger = LogManager.getLogger(ScheduledTransactionLoadTests.class);
+    private static final String SCHEDULED = "scheduled";
+    private static final String RECURRING = "recurring";
+
+    @Test(groups = {"performance"})
+    @Story("Scheduled Transaction Processing")
+    @Description("Scheduled and recurring transactions all due at one instant: how fast the backend completes them")
+    @Severity(SeverityLevel.CRITICAL)
+    public void testScheduledTransactionsDueAtOnce(ITestContext context) {
+        int count = intParameter(context, "perf.scheduled.count", 1000);
+        int recurringPercent = intParameter(context, "perf.scheduled.recurring.percent", 30);
+        int seriesCount = intParameter(context, "perf.scheduled.recurring.series", 10);
+        int accountCount = intParameter(context, "perf.scheduled.accounts", 5);
+        double seedRps = doubleParameter(context, "perf.scheduled.seed.rps", 100);
+        int leadSeconds = intParameter(context, "perf.scheduled.lead.seconds", 15);
+        Duration timeout = Duration.ofSeconds(intParameter(context, "perf.scheduled.timeout.seconds", 300));
+        Duration pollInitial = Duration.ofMillis(intParameter(context, "perf.scheduled.poll.initial.ms", 50));
+        Duration pollMax = Duration.ofMillis(intParameter(context, "perf.scheduled.poll.max.ms", 1000));
+        int pollConcurrency = intParameter(context, "perf.scheduled.poll.concurrency", 16);
+        LoadConfig config = loadConfig(context);
+
+        User owner = PerformanceDataSeeder.createUser();
+        List<Long> accounts = new ArrayList<>();
+        for (int i = 0; i < accountCount; i++) {
+            accounts.add(PerformanceDataSeeder.createAccount(owner.getId(), "CHECKING", BigDecimal.ZERO).getId());
+        }
+
+        // One due instant, far enough out that seeding finishes first; whole seconds, like a midnight run
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime dueAt = now.plusSeconds((long) Math.ceil(count / seedRps) + leadSeconds)
+                .truncatedTo(ChronoUnit.SECONDS);
+        long dueNanos = System.nanoTime() + Duration.between(now, dueAt).toNanos();
+        String scheduledDate = dueAt.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+
+        // Recurring series: the first occurrence is created up front and identifies its series
+        Map<Long, String> kinds = new ConcurrentHashMap<>();
+        Random random = new Random(config.getSeed());
+        int recurringCount = count * recurringPercent / 100;
+        int series = recurringCount == 0 ? 0 : Math.max(1, Math.min(seriesCount, recurringCount));
+        List<Long> seriesIds = new ArrayList<>();
+        for (int i = 0; i < series; i++) {
+            TransactionDto first = occurrence(accounts, random, scheduledDate, null);
+            Response response = TransactionApiService.createTransaction(RequestSpecFactory.newLoadRequestSpec(), first);
+            Assert.assertEquals(response.getStatusCode(), 201, "Recurring series should be created");
+            Long id = response.jsonPath().getLong("id");
+            seriesIds.add(id);
+            kinds.put(id, RECURRING);
+        }
+
+        Queue<TransactionDto> plan = new ConcurrentLinkedQueue<>();
+        for (int i = series; i < count; i++) {
+            boolean recurring = i < recurringCount;
+            plan.add(occurrence(accounts, random, scheduledDate,
+                    recurring ? seriesIds.get(i % seriesIds.size()) : null));
+        }
+        LoadOperation create = new LoadOperation("createScheduled", 1, spec -> {
+            TransactionDto transaction = plan.poll();
+            Response response = TransactionApiService.createTransaction(spec, transaction);
+            if (response.getStatusCode() == 201) {
+                kinds.put(response.jsonPath().getLong("id"),
+                        transaction.getRecurringTransactionId() == null ? SCHEDULED : RECURRING);
+            }
+            return response;
+        });
+        int planned = plan.size();
+        double intervalNanos = 1_000_000_000.0 / seedRps;
+        List<OpenModelLoadEngine.Arrival> arrivals = new ArrayList<>(planned);
+        for (int i = 0; i < planned; i++) {
+            arrivals.add(new OpenModelLoadEngine.Arrival(Math.round(i * intervalNanos), create));
+        }
+        LoadResult seeding = new OpenModelLoadEngine(config)
+                .run("scheduled-seed", seedRps, List.of(create), arrivals.iterator());
+        attachResult(seeding);
+        logger.info("Seeded {} transactions due at {}", kinds.size(), scheduledDate);
+
+        String report;
+        long pending;
+        long failed;
+        long processed;
+        try (ScheduledProcessingTracker tracker = new ScheduledProcessingTracker(kinds, dueNanos, pollConcurrency,
+                config.isServiceLoggingEnabled())) {
+            tracker.checkBeforeDue();
+            tracker.awaitProcessed(timeout, pollInitial, pollMax);
+            report = String.format("=== Scheduled processing: %d transactions (%d recurring in %d series) due at %s"
+                            + " ===%nSeeding: %.1f rps achieved, %d errors%n", kinds.size(),
+                    kinds.values().stream().filter(RECURRING::equals).count(), series, scheduledDate,
+                    seeding.getAchievedRps(), seeding.getErrorCount()) + tracker.formatReport();
+            pending = tracker.getPendingCount();
+            failed = tracker.getFailedCount();
+            processed = tracker.getProcessedCount() + tracker.getEarlyCount();
+            if (tracker.getEarlyCount() > 0) {
+                logger.warn("{} transactions were already COMPLETED before they were due", tracker.getEarlyCount());
+            }
+        }
+        logger.info("Scheduled transaction processing:\n" + report);
+        Allure.addAttachment("Scheduled Transaction Processing", "text/plain", report);
+
+        Assert.assertTrue(processed > 0, "At least one scheduled transaction should be processed");
+        Assert.assertEquals(pending, 0, "Scheduled transactions not processed within " + timeout + ":\n" + report);
+        Assert.assertEquals(failed, 0, "Scheduled transactions that failed:\n" + report);
+    }
+
+    private TransactionDto occurrence(List<Long> accounts, Random random, String scheduledDate,
+                                      Long recurringTransactionId) {
+        Long account = accounts.get(random.nextInt(accounts.size()));
+        TransactionDto transaction = TestDataGenerator.generateDepositTransaction(
+                BigDecimal.valueOf(100 + random.nextInt(9901), 2));
+        transaction.setDescription(recurringTransactionId == null ? "Scheduled deposit" : "Recurring deposit");
+        transaction.setFromAccountId(account);
+        transaction.setToAccountId(account);
+        transaction.setScheduledDate(scheduledDate);
+        transaction.setRecurringTransactionId(recurringTransactionId);
+        return transaction;
+    }
+}
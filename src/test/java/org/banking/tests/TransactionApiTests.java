@@ -52,7 +52,7 @@ public class TransactionApiTests extends BaseTest {
         transactionDto.setFromAccountId(fromAccount.getId());
         transactionDto.setToAccountId(toAccount.getId());
 
-        Response response = TransactionApiService.createTransaction(requestSpec, transactionDto);
+        Response response = TransactionApiService.createTransaction(requestSpec(), transactionDto);
 
         // Assert status code
         Assert.assertEquals(response.getStatusCode(), 201, "Transaction creation should return 201");
@@ -85,7 +85,7 @@ public class TransactionApiTests extends BaseTest {
     public void testCreateTransactionWithInvalidData(TransactionDto transactionDto) {
         logger.info("Testing transaction creation with invalid data");
 
-        Response response = TransactionApiService.createTransaction(requestSpec, transactionDto);
+        Response response = TransactionApiService.createTransaction(requestSpec(), transactionDto);
 
         // Assert error status code
         Assert.assertTrue(response.getStatusCode() >= 400 && response.getStatusCode() < 500,
@@ -109,12 +109,12 @@ public class TransactionApiTests extends BaseTest {
         transactionDto.setFromAccountId(fromAccount.getId());
         transactionDto.setToAccountId(toAccount.getId());
 
-        Response createResponse = TransactionApiService.createTransaction(requestSpec, transactionDto);
+        Response createResponse = TransactionApiService.createTransaction(requestSpec(), transactionDto);
         Transaction createdTransaction = createResponse.as(Transaction.class);
 
         // Test - retrieve by id
         Response getResponse = TransactionApiService.getTransactionById(
-                requestSpec, createdTransaction.getId());
+                requestSpec(), createdTransaction.getId());
 
         // Assert status code
         Assert.assertEquals(getResponse.getStatusCode(), 200, "Get transaction by reference should return 200");
@@ -154,7 +154,7 @@ public class TransactionApiTests extends BaseTest {
                 .toAccountId(toAccount.getId())
                 .build();
 
-        Response response = TransactionApiService.createTransaction(requestSpec, transactionDto);
+        Response response = TransactionApiService.createTransaction(requestSpec(), transactionDto);
 
         // Assert status code
         Assert.assertEquals(response.getStatusCode(), 201, "Transaction creation should return 201");
@@ -190,7 +190,7 @@ public class TransactionApiTests extends BaseTest {
                 .toAccountId(toAccount.getId())
                 .build();
 
-        Response response = TransactionApiService.createTransaction(requestSpec, transactionDto);
+        Response response = TransactionApiService.createTransaction(requestSpec(), transactionDto);
 
         // Assert error status code for insufficient funds
         Assert.assertTrue(response.getStatusCode() >= 400 && response.getStatusCode() < 500,
@@ -206,7 +206,7 @@ public class TransactionApiTests extends BaseTest {
     public void testGetAllTransactions() {
         logger.info("Testing get all transactions");
 
-        Response response = TransactionApiService.getAllTransactions(requestSpec);
+        Response response = TransactionApiService.getAllTransactions(requestSpec());
 
         // Assert status code
         Assert.assertEquals(response.getStatusCode(), 200, "Get all transactions should return 200");
@@ -237,12 +237,12 @@ public class TransactionApiTests extends BaseTest {
         transactionDto.setFromAccountId(fromAccount.getId());
         transactionDto.setToAccountId(toAccount.getId());
 
-        Response createResponse = TransactionApiService.createTransaction(requestSpec, transactionDto);
+        Response createResponse = TransactionApiService.createTransaction(requestSpec(), transactionDto);
         Transaction createdTransaction = createResponse.as(Transaction.class);
 
         // Test - retrieve by reference
         Response getResponse = TransactionApiService.getTransactionsByAccountId(
-                requestSpec, fromAccount.getId());
+                requestSpec(), fromAccount.getId());
 
         // Assert status code
         Assert.assertEquals(getResponse.getStatusCode(), 200, "Get transaction by reference should return 200");
@@ -281,12 +281,12 @@ public class TransactionApiTests extends BaseTest {
         transactionDto.setFromAccountId(fromAccount.getId());
         transactionDto.setToAccountId(toAccount.getId());
 
-        Response createResponse = TransactionApiService.createTransaction(requestSpec, transactionDto);
+        Response createResponse = TransactionApiService.createTransaction(requestSpec(), transactionDto);
         Transaction createdTransaction = createResponse.as(Transaction.class);
 
         // Test - retrieve by Reference
         Response getResponse = TransactionApiService.getTransactionByReference(
-                requestSpec, createdTransaction.getTransactionReference());
+                requestSpec(), createdTransaction.getTransactionReference());
 
         // Assert status code
         Assert.assertEquals(getResponse.getStatusCode(), 200, "Get transaction by reference should return 200");
@@ -312,7 +312,7 @@ public class TransactionApiTests extends BaseTest {
     public void testGetNonExistentTransaction() {
         logger.info("Testing get non-existent transaction");
 
-        Response response = TransactionApiService.getTransactionById(requestSpec, 99999L);
+        Response response = TransactionApiService.getTransactionById(requestSpec(), 99999L);
 
         // Assert error status code
         Assert.assertEquals(response.getStatusCode(), 404, "Non-existent transaction should return 404");
@@ -328,7 +328,7 @@ public class TransactionApiTests extends BaseTest {
     private Account createTestAccountWithBalance(BigDecimal balance) {
         // Create user first
         UserDto userDto = createValidUserDtoForHelper();
-        Response userResponse = UserApiService.createUser(requestSpec, userDto);
+        Response userResponse = UserApiService.createUser(requestSpec(), userDto);
         User createdUser = userResponse.as(User.class);
 
         // Create account
@@ -339,7 +339,7 @@ public class TransactionApiTests extends BaseTest {
                 .creditLimit(new BigDecimal("0.00"))
                 .build();
 
-        Response accountResponse = AccountApiService.createAccount(requestSpec, accountDto);
+        Response accountResponse = AccountApiService.createAccount(requestSpec(), accountDto);
         return accountResponse.as(Account.class);
     }
 
@@ -0,0 +1,188 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.tests;
+
+import io.qameta.allure.*;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.banking.base.PerformanceBaseTest;
+import org.banking.dto.TransactionDto;
+import org.banking.performance.LoadConfig;
+import org.banking.performance.LoadOperation;
+import org.banking.performance.LoadResult;
+import org.banking.performance.OpenModelLoadEngine;
+import org.banking.performance.PerformanceDataSeeder;
+import org.banking.performance.ReadAfterWriteProbe;
+import org.banking.pojo.Account;
+import org.banking.pojo.Transaction;
+import org.banking.services.AccountApiService;
+import org.banking.services.TransactionApiService;
+import org.banking.utils.TestDataGenerator;
+import org.testng.Assert;
+import org.testng.ITestContext;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+@Epic("Banking API")
+@Feature("Performance")
+public class TransactionLoadTests extends PerformanceBaseTest {
+
+    private static final Logger logger = LogManager.getLogger(TransactionLoadTests.class);
+    private static final String DEFAULT_OPERATION_MIX =
+            "createTransaction:30,getTransactionByReference:25,getTransactionById:15,"
+                    + "getAccountById:20,getTransactionsByAccountId:10";
+
+    private Account seedAccount;
+    private Transaction seedTransaction;
+
+    @BeforeClass(alwaysRun = true)
+    public void seedLoadData() {
+        seedAccount = PerformanceDataSeeder.createFundedAccount(new BigDecimal("1000000.00"));
+        seedTransaction = PerformanceDataSeeder.createDeposit(seedAccount.getId(), new BigDecimal("10.00"));
+        logger.info("Seeded account {} and transaction {} for load run",
+                seedAccount.getId(), seedTransaction.getTransactionReference());
+    }
+
+    @Test(groups = {"performance"})
+    @Story("Transaction Service Capacity")
+    @Description("Open-model constant-arrival-rate load against the transaction and account services")
+    @Severity(SeverityLevel.CRITICAL)
+    public void testTransactionServiceConstantArrivalRate(ITestContext context) {
+        LoadConfig config = loadConfig(context);
+        List<LoadOperation> operations = buildOperations(
+                parameter(context, "perf.operation.mix", DEFAULT_OPERATION_MIX));
+        double maxErrorRate = doubleParameter(context, "perf.max.error.rate", 0.01);
+
+        LoadResult result = new OpenModelLoadEngine(config).runConstantRate("transaction-service", operations);
+        attachResult(result);
+
+        double schedulerLagP99Ms = result.getSchedulerLag().getValueAtPercentile(99) / 1000.0;
+        if (schedulerLagP99Ms > 10) {
+            logger.warn("Load generator fell behind schedule (p99 dispatch lag {} ms); "
+                    + "results understate the achievable rate", schedulerLagP99Ms);
+        }
+
+        Assert.assertTrue(result.getCompletedCount() > 0, "Load run should complete at least one request");
+        Assert.assertTrue(result.getErrorRate() <= maxErrorRate,
+                String.format("Error rate %.3f%% exceeds allowed %.3f%%",
+                        result.getErrorRate() * 100, maxErrorRate * 100));
+    }
+
+    @Test(groups = {"performance"})
+    @Story("Read-After-Write Consistency")
+    @Description("How long a new transaction takes to become visible on each read path, at several write rates")
+    @Severity(SeverityLevel.NORMAL)
+    public void testReadAfterWriteConsistency(ITestContext context) {
+        int durationSeconds = intParameter(context, "perf.consistency.duration.seconds", 20);
+        Duration timeout = Duration.ofMillis(intParameter(context, "perf.consistency.timeout.ms", 10000));
+        Duration pollInitial = Duration.ofMillis(intParameter(context, "perf.consistency.poll.initial.ms", 5));
+        Duration pollMax = Duration.ofMillis(intParameter(context, "perf.consistency.poll.max.ms", 200));
+        double maxInvisibleRate = doubleParameter(context, "perf.consistency.max.invisible.rate", 0.0);
+
+        StringBuilder report = new StringBuilder();
+        long probes = 0;
+        long invisible = 0;
+        for (String rate : parameter(context, "perf.consistency.write.rates", "5,20").split(",")) {
+            LoadConfig config = loadConfig(context);
+            config.setTargetRps(Double.parseDouble(rate.trim()));
+            config.setDurationSeconds(durationSeconds);
+            // A fresh account per rate, so the account history read does not carry earlier runs
+            Account account = PerformanceDataSeeder.createFundedAccount(new BigDecimal("1000.00"));
+
+            try (ReadAfterWriteProbe<Transaction> probe = new ReadAfterWriteProbe<>(readPaths(account), timeout,
+                    pollInitial, pollMax, config.isServiceLoggingEnabled())) {
+                LoadOperation write = new LoadOperation("createTransaction", 1, spec -> {
+                    TransactionDto deposit = TestDataGenerator.generateDepositTransaction(new BigDecimal("1.00"));
+                    deposit.setFromAccountId(account.getId());
+                    deposit.setToAccountId(account.getId());
+                    Response response = TransactionApiService.createTransaction(spec, deposit);
+                    if (response.getStatusCode() == 201) {
+                        probe.written(response.as(Transaction.class));
+                    }
+                    return response;
+                });
+                LoadResult result = new OpenModelLoadEngine(config)
+                        .runConstantRate("read-after-write-" + rate.trim() + "rps", List.of(write));
+                probe.awaitProbes();
+                attachResult(result);
+
+                report.append(probe.formatReport(result)).append(System.lineSeparator());
+                for (String path : probe.getReadPaths()) {
+                    probes += probe.getProbeCount(path);
+                    invisible += probe.getInvisibleCount(path);
+                }
+            }
+        }
+        logger.info("Read-after-write consistency:\n" + report);
+        Allure.addAttachment("Read-After-Write Consistency", "text/plain", report.toString());
+
+        Assert.assertTrue(probes > 0, "At least one write should have been probed");
+        Assert.assertTrue(invisible <= maxInvisibleRate * probes,
+                String.format("%d of %d probes did not see their write within %d ms", invisible, probes,
+                        timeout.toMillis()));
+    }
+
+    // The read paths E2EApiTests checks a new transaction on, as visibility checks
+    private Map<String, BiPredicate<RequestSpecification, Transaction>> readPaths(Account account) {
+        Map<String, BiPredicate<RequestSpecification, Transaction>> readPaths = new LinkedHashMap<>();
+        readPaths.put("getTransactionByReference", (spec, written) -> {
+            Response response = TransactionApiService.getTransactionByReference(
+                    spec, written.getTransactionReference());
+            return response.getStatusCode() == 200 && written.getId().equals(response.jsonPath().getLong("id"));
+        });
+        readPaths.put("getTransactionsByAccountId", (spec, written) -> {
+            Response response = TransactionApiService.getTransactionsByAccountId(spec, account.getId());
+            return response.getStatusCode() == 200
+                    && response.jsonPath().getList("id", Long.class).contains(written.getId());
+        });
+        return readPaths;
+    }
+
+    private List<LoadOperation> buildOperations(String operationMix) {
+        Map<String, Function<RequestSpecification, Response>> calls = new LinkedHashMap<>();
+        calls.put("createTransaction", spec -> {
+            TransactionDto deposit = TestDataGenerator.generateDepositTransaction(new BigDecimal("1.00"));
+            deposit.setFromAccountId(seedAccount.getId());
+            deposit.setToAccountId(seedAccount.getId());
+            return TransactionApiService.createTransaction(spec, deposit);
+        });
+        calls.put("getTransactionByReference", spec ->
+                TransactionApiService.getTransactionByReference(spec, seedTransaction.getTransactionReference()));
+        calls.put("getTransactionById", spec ->
+                TransactionApiService.getTransactionById(spec, seedTransaction.getId()));
+        calls.put("getAccountById", spec ->
+                AccountApiService.getAccountById(spec, seedAccount.getId()));
+        calls.put("getTransactionsByAccountId", spec ->
+                TransactionApiService.getTransactionsByAccountId(spec, seedAccount.getId()));
+
+        // Mix format: "operation:weight,operation:weight,..."
+        List<LoadOperation> operations = new ArrayList<>();
+        for (String entry : operationMix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            String name = parts[0].trim();
+            Function<RequestSpecification, Response> call = calls.get(name);
+            if (call == null) {
+                throw new IllegalArgumentException("Unknown load operation '" + name + "', expected one of "
+                        + calls.keySet());
+            }
+            int weight = parts.length > 1 ? Integer.parseInt(parts[1].trim()) : 1;
+            operations.add(new LoadOperation(name, weight, call));
+        }
+        return operations;
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.tests;
+
+import io.qameta.allure.*;
+import io.restassured.response.Response;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.banking.base.PerformanceBaseTest;
+import org.banking.base.RequestSpecFactory;
+import org.banking.dto.TransactionDto;
+import org.banking.performance.LoadConfig;
+import org.banking.performance.LoadOperation;
+import org.banking.performance.LoadResult;
+import org.banking.performance.OpenModelLoadEngine;
+import org.banking.performance.PerformanceDataSeeder;
+import org.banking.performance.TransferLedger;
+import org.banking.pojo.Account;
+import org.banking.pojo.User;
+import org.banking.services.AccountApiService;
+import org.banking.services.TransactionApiService;
+import org.testng.Assert;
+import org.testng.ITestContext;
+import org.testng.annotations.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+@Epic("Banking API")
+@Feature("Performance")
+public class TransferStormTests extends PerformanceBaseTest {
+
+    private static final Logger logger = LogManager.getLogger(TransferStormTests.class);
+
+    @Test(groups = {"performance"})
+    @Story("Concurrent Transfers")
+    @Description("Random concurrent transfers between a few accounts: throughput, rejections and balance conservation")
+    @Severity(SeverityLevel.BLOCKER)
+    public void testConcurrentTransferStormConservesBalances(ITestContext context) {
+        int accountCount = intParameter(context, "perf.storm.accounts", 5);
+        int transferCount = intParameter(context, "perf.storm.transfers", 500);
+        BigDecimal initialBalance = new BigDecimal(parameter(context, "perf.storm.initial.balance", "1000.00"));
+        BigDecimal maxAmount = new BigDecimal(parameter(context, "perf.storm.max.amount", "250.00"));
+        LoadConfig config = loadConfig(context);
+        config.setTargetRps(doubleParameter(context, "perf.storm.rps", 100));
+
+        // Step 1: Accounts with known balances
+        User owner = PerformanceDataSeeder.createUser();
+        Map<Long, BigDecimal> initialBalances = new LinkedHashMap<>();
+        for (int i = 0; i < accountCount; i++) {
+            Account account = PerformanceDataSeeder.createAccount(owner.getId(), "CHECKING", initialBalance);
+            initialBalances.put(account.getId(), readBalance(account.getId()));
+        }
+        TransferLedger ledger = new TransferLedger(initialBalances);
+
+        // Step 2: Fire the transfers, planned up front from the run's seed so a failure can be replayed
+        Queue<TransactionDto> plan = planTransfers(new ArrayList<>(initialBalances.keySet()), transferCount,
+                maxAmount, new Random(config.getSeed()));
+        LoadOperation transfer = new LoadOperation("transfer", 1, spec -> {
+            TransactionDto transferDto = plan.poll();
+            try {
+                Response response = TransactionApiService.createTransaction(spec, transferDto);
+                ledger.record(transferDto, response);
+                return response;
+            } catch (Exception e) {
+                // RestAssured rethrows I/O failures undeclared; the transfer may still have been applied
+                ledger.recordUnknown(transferDto);
+                throw e;
+            }
+        });
+        double intervalNanos = 1_000_000_000.0 / config.getTargetRps();
+        List<OpenModelLoadEngine.Arrival> arrivals = new ArrayList<>(transferCount);
+        for (int i = 0; i < transferCount; i++) {
+            arrivals.add(new OpenModelLoadEngine.Arrival(Math.round(i * intervalNanos), transfer));
+        }
+        LoadResult result = new OpenModelLoadEngine(config)
+                .run("transfer-storm", config.getTargetRps(), List.of(transfer), arrivals.iterator());
+        attachResult(result);
+
+        // Step 3: Read the balances back and reconcile
+        Map<Long, BigDecimal> finalBalances = new LinkedHashMap<>();
+        for (Long accountId : initialBalances.keySet()) {
+            finalBalances.put(accountId, readBalance(accountId));
+        }
+        TransferLedger.Reconciliation reconciliation = ledger.reconcile(finalBalances);
+        String report = ledger.formatReport(reconciliation);
+        logger.info("Transfer storm:\n" + report);
+        Allure.addAttachment("Transfer Storm Reconciliation", "text/plain",
+                String.format("Throughput: %.1f transfers/s (target %.1f)%n", result.getAchievedRps(),
+                        result.getTargetRps()) + report);
+
+        Assert.assertTrue(ledger.getCount(TransferLedger.Outcome.ACCEPTED) > 0,
+                "At least one transfer should be accepted");
+        Assert.assertTrue(reconciliation.isConserved(), "Total balance must be conserved:\n" + report);
+        Assert.assertTrue(reconciliation.getAnomalies().isEmpty(), "Transfer anomalies found:\n" + report);
+    }
+
+    // Random pairs of distinct accounts and random amounts in cents
+    private Queue<TransactionDto> planTransfers(List<Long> accountIds, int count, BigDecimal maxAmount,
+                                                Random random) {
+        long maxCents = maxAmount.movePointRight(2).longValueExact();
+        Queue<TransactionDto> plan = new ConcurrentLinkedQueue<>();
+        for (int i = 0; i < count; i++) {
+            int from = random.nextInt(accountIds.size());
+            int to = (from + 1 + random.nextInt(accountIds.size() - 1)) % accountIds.size();
+            plan.add(TransactionDto.builder()
+                    .transactionType("TRANSFER")
+                    .amount(BigDecimal.valueOf(1 + (long) (random.nextDouble() * maxCents), 2))
+                    .currency("USD")
+                    .description("Transfer storm " + (i + 1))
+                    .fromAccountId(accountIds.get(from))
+                    .toAccountId(accountIds.get(to))
+                    .build());
+        }
+        return plan;
+    }
+
+    private BigDecimal readBalance(Long accountId) {
+        Response response = AccountApiService.getAccountById(RequestSpecFactory.newLoadRequestSpec(), accountId);
+        Assert.assertEquals(response.getStatusCode(), 200, "Account " + accountId + " should be readable");
+        return response.as(Account.class).getBalance();
+    }
+}
@@ -37,7 +37,7 @@ public class UserApiTests extends BaseTest {
     public void testCreateUserWithValidData(UserDto userDto) {
         logger.info("Testing user creation with valid data");
 
-        Response response = UserApiService.createUser(requestSpec, userDto);
+        Response response = UserApiService.createUser(requestSpec(), userDto);
 
         // Assert status code
         Assert.assertEquals(response.getStatusCode(), 201, "User creation should return 201");
@@ -62,7 +62,7 @@ public class UserApiTests extends BaseTest {
     public void testCreateUserWithInvalidData(UserDto userDto) {
         logger.info("Testing user creation with invalid data");
 
-        Response response = UserApiService.createUser(requestSpec, userDto);
+        Response response = UserApiService.createUser(requestSpec(), userDto);
 
         // Assert error status code
         Assert.assertTrue(response.getStatusCode() >= 400 && response.getStatusCode() < 500,
@@ -81,11 +81,11 @@ public class UserApiTests extends BaseTest {
         logger.info("Testing get user by ID");
 
         // First create a user
-        Response createResponse = UserApiService.createUser(requestSpec, userDto);
+        Response createResponse = UserApiService.createUser(requestSpec(), userDto);
         User createdUser = createResponse.as(User.class);
 
         // Then retrieve it
-        Response getResponse = UserApiService.getUserById(requestSpec, createdUser.getId());
+        Response getResponse = UserApiService.getUserById(requestSpec(), createdUser.getId());
 
         // Assert status code
         Assert.assertEquals(getResponse.getStatusCode(), 200, "Get user should return 200");
@@ -108,7 +108,7 @@ public class UserApiTests extends BaseTest {
     public void testGetNonExistentUser() {
         logger.info("Testing get non-existent user");
 
-        Response response = UserApiService.getUserById(requestSpec, 99999L);
+        Response response = UserApiService.getUserById(requestSpec(), 99999L);
 
         // Assert error status code
         Assert.assertEquals(response.getStatusCode(), 404, "Non-existent user should return 404");
@@ -123,7 +123,7 @@ public class UserApiTests extends BaseTest {
     public void testGetAllUsers() {
         logger.info("Testing get all users");
 
-        Response response = UserApiService.getAllUsers(requestSpec);
+        Response response = UserApiService.getAllUsers(requestSpec());
 
         // Assert status code
         Assert.assertEquals(response.getStatusCode(), 200, "Get all users should return 200");
@@ -147,7 +147,7 @@ public class UserApiTests extends BaseTest {
         logger.info("Testing user update");
 
         // First create a user
-        Response createResponse = UserApiService.createUser(requestSpec, userDto);
+        Response createResponse = UserApiService.createUser(requestSpec(), userDto);
         User createdUser = createResponse.as(User.class);
 
         // Update user data
@@ -160,7 +160,7 @@ public class UserApiTests extends BaseTest {
                 .build();
 
         // Update the user
-        Response updateResponse = UserApiService.updateUser(requestSpec, createdUser.getId(), updateDto);
+        Response updateResponse = UserApiService.updateUser(requestSpec(), createdUser.getId(), updateDto);
 
         // Assert status code
         Assert.assertEquals(updateResponse.getStatusCode(), 200, "Update user should return 200");
@@ -185,17 +185,17 @@ public class UserApiTests extends BaseTest {
         logger.info("Testing user deletion");
 
         // First create a user
-        Response createResponse = UserApiService.createUser(requestSpec, userDto);
+        Response createResponse = UserApiService.createUser(requestSpec(), userDto);
         User createdUser = createResponse.as(User.class);
 
         // Delete the user
-        Response deleteResponse = UserApiService.deleteUser(requestSpec, createdUser.getId());
+        Response deleteResponse = UserApiService.deleteUser(requestSpec(), createdUser.getId());
 
         // Assert status code
         Assert.assertEquals(deleteResponse.getStatusCode(), 204, "Delete user should return 204");
 
         // Verify user is deleted by trying to retrieve it
-        Response getResponse = UserApiService.getUserById(requestSpec, createdUser.getId());
+        Response getResponse = UserApiService.getUserById(requestSpec(), createdUser.getId());
         Assert.assertEquals(getResponse.getStatusCode(), 404, "Deleted user should return 404");
 
         logger.info("User deleted successfully: " + createdUser.getId());
@@ -210,11 +210,11 @@ public class UserApiTests extends BaseTest {
         logger.info("Testing get user by username");
 
         // First create a user
-        Response createResponse = UserApiService.createUser(requestSpec, userDto);
+        Response createResponse = UserApiService.createUser(requestSpec(), userDto);
         User createdUser = createResponse.as(User.class);
 
         // Then retrieve by username
-        Response getResponse = UserApiService.getUserByUsername(requestSpec, createdUser.getUsername());
+        Response getResponse = UserApiService.getUserByUsername(requestSpec(), createdUser.getUsername());
 
         // Assert status code
         Assert.assertEquals(getResponse.getStatusCode(), 200, "Get user by username should return 200");
@@ -246,7 +246,7 @@ public class UserApiTests extends BaseTest {
                 .phoneNumber(userData.get("phoneNumber"))
                 .build();
 
-        Response response = UserApiService.createUser(requestSpec, userDto);
+        Response response = UserApiService.createUser(requestSpec(), userDto);
 
         // Assert status code
         Assert.assertEquals(response.getStatusCode(), 201, "User creation should return 201");
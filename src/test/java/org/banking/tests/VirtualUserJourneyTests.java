@@ -0,0 +1,62 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.tests;
+
+import io.qameta.allure.*;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.banking.base.PerformanceBaseTest;
+import org.banking.performance.BankingJourneys;
+import org.banking.performance.Journey;
+import org.banking.performance.VirtualUserConfig;
+import org.banking.performance.VirtualUserEngine;
+import org.banking.performance.VirtualUserResult;
+import org.testng.Assert;
+import org.testng.ITestContext;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Epic("Banking API")
+@Feature("Performance")
+public class VirtualUserJourneyTests extends PerformanceBaseTest {
+
+    private static final Logger logger = LogManager.getLogger(VirtualUserJourneyTests.class);
+    private static final String DEFAULT_JOURNEY_MIX = "userAccountTransactionWorkflow:3,accountLifecycle:1";
+
+    @Test(groups = {"performance"})
+    @Story("Mobile App Traffic")
+    @Description("Closed-model virtual users looping through the E2E journeys with think time")
+    @Severity(SeverityLevel.CRITICAL)
+    public void testE2EJourneysWithVirtualUsers(ITestContext context) {
+        VirtualUserConfig config = virtualUserConfig(context);
+        List<Journey> journeys = buildJourneys(parameter(context, "perf.vu.journey.mix", DEFAULT_JOURNEY_MIX));
+        double maxErrorRate = doubleParameter(context, "perf.max.error.rate", 0.01);
+
+        VirtualUserResult result = new VirtualUserEngine(config).run("e2e-journeys", journeys);
+        attachResult(result);
+
+        logger.info("Virtual user run completed: {} iterations, {} failed",
+                result.getIterationCount(), result.getFailedIterationCount());
+        Assert.assertTrue(result.getIterationCount() > 0, "Virtual users should complete at least one iteration");
+        Assert.assertTrue(result.getIterationFailureRate() <= maxErrorRate,
+                String.format("Journey failure rate %.3f%% exceeds allowed %.3f%%",
+                        result.getIterationFailureRate() * 100, maxErrorRate * 100));
+    }
+
+    // Mix format: "journey:weight,journey:weight,..."
+    private List<Journey> buildJourneys(String journeyMix) {
+        List<Journey> journeys = new ArrayList<>();
+        for (String entry : journeyMix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            int weight = parts.length > 1 ? Integer.parseInt(parts[1].trim()) : 1;
+            journeys.add(BankingJourneys.byName(parts[0].trim(), weight));
+        }
+        return journeys;
+    }
+}
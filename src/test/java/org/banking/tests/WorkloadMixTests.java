@@ -0,0 +1,85 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.tests;
+
+import io.qameta.allure.*;
+import org.HdrHistogram.Histogram;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.banking.base.PerformanceBaseTest;
+import org.banking.performance.EntityPool;
+import org.banking.performance.LoadConfig;
+import org.banking.performance.LoadResult;
+import org.banking.performance.OpenModelLoadEngine;
+import org.banking.performance.OperationStats;
+import org.banking.performance.WorkloadProfile;
+import org.testng.Assert;
+import org.testng.ITestContext;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Epic("Banking API")
+@Feature("Performance")
+public class WorkloadMixTests extends PerformanceBaseTest {
+
+    private static final Logger logger = LogManager.getLogger(WorkloadMixTests.class);
+
+    @Test(groups = {"performance"})
+    @Story("Production Workload Mix")
+    @Description("Open-model load in the request ratios of a traffic profile file, over a pool of seeded entities")
+    @Severity(SeverityLevel.CRITICAL)
+    public void testProductionWorkloadMix(ITestContext context) {
+        WorkloadProfile profile = WorkloadProfile.load(
+                parameter(context, "perf.mix.profile", "workloads/production-mix.json"));
+        int users = intParameter(context, "perf.mix.users", 50);
+        int transactionsPerAccount = intParameter(context, "perf.mix.transactions.per.account", 3);
+        double skew = doubleParameter(context, "perf.mix.skew", 0.8);
+        double shareTolerance = doubleParameter(context, "perf.mix.share.tolerance", 0.05);
+        double maxErrorRate = doubleParameter(context, "perf.max.error.rate", 0.01);
+        LoadConfig config = loadConfig(context);
+        config.setTargetRps(doubleParameter(context, "perf.mix.rps", config.getTargetRps()));
+        config.setDurationSeconds(intParameter(context, "perf.mix.duration.seconds", config.getDurationSeconds()));
+
+        EntityPool pool = EntityPool.seed(Math.max(1, users), Math.max(1, transactionsPerAccount), skew,
+                config.getSeed());
+        LoadResult result = new OpenModelLoadEngine(config)
+                .runConstantRate("workload-mix", profile.toOperations(pool));
+        attachResult(result);
+
+        // The achieved mix is checked too: a slow endpoint must not quietly get a smaller share
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("=== Workload mix %s at %.1f rps (achieved %.1f), %d users, skew %.2f ===%n",
+                profile.getName(), result.getTargetRps(), result.getAchievedRps(), pool.getUserCount(), skew));
+        report.append(String.format("%-40s %8s %8s %8s %7s %9s %9s %9s%n", "Endpoint", "Target", "Actual",
+                "Count", "Errors", "p50(ms)", "p90(ms)", "p99(ms)"));
+        List<String> failures = new ArrayList<>();
+        for (String endpoint : profile.getWeights().keySet()) {
+            OperationStats stats = result.getOperations().get(endpoint);
+            Histogram latency = stats.getResponseTimeHistogram();
+            double actualShare = result.getCompletedCount() == 0 ? 0
+                    : stats.getTotalCount() / (double) result.getCompletedCount();
+            report.append(String.format("%-40s %7.1f%% %7.1f%% %8d %7d %9.2f %9.2f %9.2f%n", endpoint,
+                    profile.shareOf(endpoint) * 100, actualShare * 100, stats.getTotalCount(),
+                    stats.getErrorCount(), latency.getValueAtPercentile(50) / 1000.0,
+                    latency.getValueAtPercentile(90) / 1000.0, latency.getValueAtPercentile(99) / 1000.0));
+            if (Math.abs(actualShare - profile.shareOf(endpoint)) > shareTolerance) {
+                failures.add(String.format("%s got %.1f%% of requests, profile says %.1f%%", endpoint,
+                        actualShare * 100, profile.shareOf(endpoint) * 100));
+            }
+        }
+        logger.info("Workload mix:\n" + report);
+        Allure.addAttachment("Workload Mix", "text/plain", report.toString());
+
+        Assert.assertTrue(result.getCompletedCount() > 0, "Load run should complete at least one request");
+        Assert.assertTrue(result.getErrorRate() <= maxErrorRate,
+                String.format("Error rate %.3f%% exceeds allowed %.3f%%:%n%s", result.getErrorRate() * 100,
+                        maxErrorRate * 100, report));
+        Assert.assertTrue(failures.isEmpty(), "Achieved mix differs from the profile: " + failures);
+    }
+}
@@ -141,6 +141,10 @@ public class ApiTestUtils {
     }
 
     // Wait utilities
+    /**
+     * @deprecated a blind sleep; poll for the expected state with {@link Await} instead
+     */
+    @Deprecated
     public static void waitForSeconds(int seconds) {
         try {
             Thread.sleep(seconds * 1000L);
@@ -0,0 +1,137 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.utils;
+
+import io.restassured.response.Response;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.banking.metrics.ConsistencyRecorder;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Polls until a condition holds, for eventually consistent reads, instead of sleeping a fixed time:
+ * <pre>
+ * Await.await("transaction COMPLETED")
+ *         .until(() -&gt; TransactionApiService.getTransactionByReference(spec, reference),
+ *                 response -&gt; response.getStatusCode() == 200
+ *                         &amp;&amp; "COMPLETED".equals(response.jsonPath().getString("status")));
+ * </pre>
+ * The first poll is immediate; after that the interval starts at await.poll.initial.ms and grows by
+ * await.poll.multiplier up to await.poll.max.ms, never sleeping past the deadline (await.timeout.ms).
+ * Waiting is a plain sleep, which unmounts a virtual thread, and an interrupt (e.g. from
+ * TestTimeoutListener) ends the wait. The time until the condition held is recorded per name in
+ * {@link ConsistencyRecorder}, so the name should identify the kind of condition, not the instance.
+ */
+public final class Await {
+
+    private static final Logger logger = LogManager.getLogger(Await.class);
+    private static final int MAX_VALUE_LENGTH = 300;
+
+    private final String name;
+    private String description;
+    private long timeoutNanos = millisProperty("await.timeout.ms", 10000);
+    private long initialIntervalNanos = millisProperty("await.poll.initial.ms", 25);
+    private long maxIntervalNanos = millisProperty("await.poll.max.ms", 1000);
+    private double multiplier = ConfigReader.getDoubleProperty("await.poll.multiplier", 2.0);
+
+    private Await(String name) {
+        this.name = name;
+        this.description = name;
+    }
+
+    public static Await await(String name) {
+        return new Await(name);
+    }
+
+    // Used in log and failure messages only, e.g. with the transaction reference
+    public Await describedAs(String description) {
+        this.description = description;
+        return this;
+    }
+
+    public Await atMost(Duration timeout) {
+        this.timeoutNanos = timeout.toNanos();
+        return this;
+    }
+
+    public Await pollInterval(Duration initial, Duration max) {
+        this.initialIntervalNanos = initial.toNanos();
+        this.maxIntervalNanos = Math.max(initial.toNanos(), max.toNanos());
+        return this;
+    }
+
+    public void until(BooleanSupplier condition) {
+        until(condition::getAsBoolean, Boolean.TRUE::equals);
+    }
+
+    /**
+     * Polls the supplier until its value satisfies the condition and returns that value. Exceptions
+     * thrown by the supplier are not swallowed: a failing call fails the wait at once.
+     *
+     * @throws AwaitTimeoutException if the condition does not hold before the deadline
+     */
+    public <T> T until(Supplier<T> supplier, Predicate<? super T> condition) {
+        long start = System.nanoTime();
+        long deadline = start + timeoutNanos;
+        long interval = initialIntervalNanos;
+        int polls = 0;
+        T value;
+        while (true) {
+            value = supplier.get();
+            polls++;
+            if (condition.test(value)) {
+                long elapsed = System.nanoTime() - start;
+                ConsistencyRecorder.record(name, elapsed, polls);
+                logger.debug("'" + description + "' met after " + TimeUnit.NANOSECONDS.toMillis(elapsed)
+                        + " ms (" + polls + " polls)");
+                return value;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                break;
+            }
+            try {
+                TimeUnit.NANOSECONDS.sleep(Math.min(interval, remaining));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AwaitTimeoutException("Interrupted while waiting for '" + description + "' after "
+                        + polls + " polls; last value: " + describe(value));
+            }
+            interval = Math.min(maxIntervalNanos, (long) (interval * multiplier));
+        }
+        ConsistencyRecorder.recordTimeout(name, polls);
+        throw new AwaitTimeoutException("'" + description + "' not met within "
+                + TimeUnit.NANOSECONDS.toMillis(timeoutNanos) + " ms (" + polls + " polls); last value: "
+                + describe(value));
+    }
+
+    private static long millisProperty(String key, long defaultMillis) {
+        return TimeUnit.MILLISECONDS.toNanos(ConfigReader.getLongProperty(key, defaultMillis));
+    }
+
+    private static String describe(Object value) {
+        String text = value instanceof Response
+                ? "HTTP " + ((Response) value).getStatusCode() + " " + ((Response) value).getBody().asString()
+                : String.valueOf(value);
+        return text.length() > MAX_VALUE_LENGTH ? text.substring(0, MAX_VALUE_LENGTH) + "..." : text;
+    }
+
+    // An assertion failure: the system did not become consistent in time
+    public static class AwaitTimeoutException extends AssertionError {
+
+        private static final long serialVersionUID = 1L;
+
+        public AwaitTimeoutException(String message) {
+            super(message);
+        }
+    }
+}
@@ -67,6 +67,11 @@ public class ConfigReader {
         return value;
     }
 
+    // For optional overrides, which would otherwise log "Property not found" on every lookup
+    public static boolean hasProperty(String key) {
+        return System.getProperty(key) != null || properties.getProperty(key) != null;
+    }
+
     public static String getProperty(String key, String defaultValue) {
         String value = getProperty(key);
         return value != null ? value : defaultValue;
@@ -98,6 +103,32 @@ public class ConfigReader {
         return defaultValue;
     }
 
+    public static long getLongProperty(String key, long defaultValue) {
+        String value = getProperty(key);
+        if (value != null) {
+            try {
+                return Long.parseLong(value.trim());
+            } catch (NumberFormatException e) {
+                logger.warn("Invalid long property value for key: " + key + ", using default: " + defaultValue);
+                return defaultValue;
+            }
+        }
+        return defaultValue;
+    }
+
+    public static double getDoubleProperty(String key, double defaultValue) {
+        String value = getProperty(key);
+        if (value != null) {
+            try {
+                return Double.parseDouble(value.trim());
+            } catch (NumberFormatException e) {
+                logger.warn("Invalid double property value for key: " + key + ", using default: " + defaultValue);
+                return defaultValue;
+            }
+        }
+        return defaultValue;
+    }
+
     public static boolean getBooleanProperty(String key) {
         String value = getProperty(key);
         if (value != null) {
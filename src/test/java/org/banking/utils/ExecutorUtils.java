@@ -0,0 +1,102 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ExecutorUtils {
+
+    private static final Logger logger = LogManager.getLogger(ExecutorUtils.class);
+    private static final Method VIRTUAL_EXECUTOR_FACTORY = findVirtualExecutorFactory();
+    private static final Method VIRTUAL_THREAD_BUILDER = findVirtualThreadBuilder();
+
+    // The project compiles against Java 17, so virtual threads are looked up reflectively
+    // and used only when the tests run on a JVM that provides them (Java 21+).
+    private static Method findVirtualExecutorFactory() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private static Method findVirtualThreadBuilder() {
+        try {
+            return Thread.class.getMethod("ofVirtual");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    public static boolean isVirtualThreadSupported() {
+        return VIRTUAL_EXECUTOR_FACTORY != null;
+    }
+
+    // Unbounded executor for I/O-bound work: one virtual thread per task when available,
+    // otherwise a cached pool of daemon platform threads.
+    public static ExecutorService newUnboundedExecutor(String threadNamePrefix) {
+        if (VIRTUAL_EXECUTOR_FACTORY != null) {
+            try {
+                return (ExecutorService) VIRTUAL_EXECUTOR_FACTORY.invoke(null);
+            } catch (ReflectiveOperationException e) {
+                logger.warn("Virtual thread executor unavailable, falling back to platform threads: {}",
+                        e.getMessage());
+            }
+        }
+        return Executors.newCachedThreadPool(daemonThreadFactory(threadNamePrefix));
+    }
+
+    // Thread factory for pools that bound concurrency themselves: named virtual threads when
+    // available (Thread.ofVirtual().name(prefix-, 1).factory()), otherwise daemon platform threads.
+    public static ThreadFactory newThreadFactory(String threadNamePrefix) {
+        if (VIRTUAL_THREAD_BUILDER != null) {
+            try {
+                Object builder = VIRTUAL_THREAD_BUILDER.invoke(null);
+                Method name = builder.getClass().getMethod("name", String.class, long.class);
+                name.setAccessible(true);
+                builder = name.invoke(builder, threadNamePrefix + "-", 1L);
+                Method factory = builder.getClass().getMethod("factory");
+                factory.setAccessible(true);
+                return (ThreadFactory) factory.invoke(builder);
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                logger.warn("Virtual thread factory unavailable, falling back to platform threads: {}",
+                        e.getMessage());
+            }
+        }
+        return daemonThreadFactory(threadNamePrefix);
+    }
+
+    public static ThreadFactory daemonThreadFactory(String threadNamePrefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, threadNamePrefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    public static void shutdownAndAwait(ExecutorService executor, long timeout, TimeUnit unit) {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(timeout, unit)) {
+                logger.warn("Executor did not terminate within {} {}, forcing shutdown", timeout, unit);
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
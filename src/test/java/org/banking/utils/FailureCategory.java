@@ -0,0 +1,86 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.utils;
+
+import org.banking.resilience.TestTimeoutException;
+import org.testng.internal.thread.ThreadTimeoutException;
+
+import java.io.IOException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Why a test attempt failed, as far as retrying is concerned. Only transient categories are worth
+ * another attempt: the same request may well succeed once the server or network has recovered.
+ * A failed assertion on a healthy response is a real bug and is reported on the first attempt.
+ */
+public enum FailureCategory {
+
+    // Connection refused/reset, socket or pool timeout, no response at all
+    TRANSPORT(true),
+    // 429, 502, 503, 504: the server asked us to back off or was not reachable behind a proxy
+    SERVER_UNAVAILABLE(true),
+    // Any other 5xx, usually a server-side bug that a retry only hides
+    SERVER_ERROR(false),
+    // The test ran out of its time budget (test.timeout) and its in-flight calls were aborted;
+    // a retry would most likely hang the same way and double the cost
+    TIMEOUT(false),
+    ASSERTION(false),
+    OTHER(false);
+
+    // RestAssured: "Expected status code <201> but was <503>."
+    private static final Pattern STATUS_IN_MESSAGE = Pattern.compile("status code <\\d{3}> but was <(\\d{3})>");
+
+    private final boolean transientFailure;
+
+    FailureCategory(boolean transientFailure) {
+        this.transientFailure = transientFailure;
+    }
+
+    public boolean isTransient() {
+        return transientFailure;
+    }
+
+    /**
+     * @param lastStatus status of the last HTTP call the failed attempt made, -1 if it made none
+     *                   or the call got no response
+     */
+    public static FailureCategory classify(Throwable failure, int lastStatus) {
+        if (failure == null) {
+            return OTHER;
+        }
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            // Checked first: aborting the test's calls surfaces as I/O errors in the cause chain
+            if (cause instanceof TestTimeoutException || cause instanceof ThreadTimeoutException) {
+                return TIMEOUT;
+            }
+        }
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof IOException) {
+                return TRANSPORT;
+            }
+        }
+        int status = statusFromMessage(failure.getMessage(), lastStatus);
+        if (status == 429 || status == 502 || status == 503 || status == 504) {
+            return SERVER_UNAVAILABLE;
+        }
+        if (status >= 500) {
+            return SERVER_ERROR;
+        }
+        return failure instanceof AssertionError ? ASSERTION : OTHER;
+    }
+
+    private static int statusFromMessage(String message, int fallback) {
+        if (message != null) {
+            Matcher matcher = STATUS_IN_MESSAGE.matcher(message);
+            if (matcher.find()) {
+                return Integer.parseInt(matcher.group(1));
+            }
+        }
+        return fallback;
+    }
+}
@@ -8,29 +8,86 @@ package org.banking.utils;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.banking.metrics.RequestTiming;
+import org.banking.resilience.CircuitBreaker;
 import org.testng.IRetryAnalyzer;
 import org.testng.ITestResult;
 
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Retries a failed test only when the failure is transient ({@link FailureCategory}), after an
+ * exponential backoff with full jitter so retries do not hammer a struggling server in lockstep,
+ * and only while the suite-wide {@link RetryBudget} allows it. Settings: retry.count,
+ * retry.backoff.base.ms, retry.backoff.max.ms, retry.budget.percent, retry.budget.min.
+ */
 public class RetryAnalyzer implements IRetryAnalyzer {
 
     private static final Logger logger = LogManager.getLogger(RetryAnalyzer.class);
+    // Result attribute holding RequestTiming.callCount() when the attempt started (RetryReportListener)
+    public static final String REQUESTS_AT_START = "retry.requestsAtStart";
+
     private int retryCount = 0;
-    private static final int MAX_RETRY_COUNT = Integer.parseInt(
-            System.getProperty("retry.count", "1")
-    );
 
     @Override
     public boolean retry(ITestResult result) {
-        if (retryCount < MAX_RETRY_COUNT) {
-            retryCount++;
-            logger.warn("Retrying test: " + result.getMethod().getMethodName() +
-                    " - Attempt: " + retryCount + "/" + MAX_RETRY_COUNT);
-            return true;
+        String testName = result.getMethod().getMethodName();
+        long requests = requestsMadeBy(result);
+        RequestTiming lastCall = RequestTiming.last();
+        // Only trust the last status if this attempt made the call (worker threads are reused)
+        int lastStatus = requests > 0 && lastCall != null ? lastCall.getStatusCode() : -1;
+        FailureCategory category = FailureCategory.classify(result.getThrowable(), lastStatus);
+        RetryBudget.recordFailure(category);
+
+        int maxRetryCount = getMaxRetryCount();
+        if (retryCount >= maxRetryCount) {
+            return false;
         }
-        return false;
+        if (!category.isTransient()) {
+            logger.info("Not retrying test: " + testName + " - " + category + " failure is not transient");
+            return false;
+        }
+        if (CircuitBreaker.BACKEND.getState() != CircuitBreaker.State.CLOSED) {
+            logger.info("Not retrying test: " + testName + " - " + CircuitBreaker.BACKEND.describe());
+            return false;
+        }
+        if (!RetryBudget.tryAcquire()) {
+            logger.warn("Not retrying test: " + testName + " - suite retry budget exhausted ("
+                    + RetryBudget.getRetries() + " retries so far)");
+            return false;
+        }
+
+        retryCount++;
+        long backoff = backoffMillis(retryCount);
+        logger.warn("Retrying test: " + testName + " - Attempt: " + retryCount + "/" + maxRetryCount
+                + " after " + category + " failure, backing off " + backoff + " ms");
+        RetryBudget.recordRetryCost(result.getEndMillis() - result.getStartMillis(), requests, backoff);
+        sleep(backoff);
+        return true;
     }
 
     public static int getMaxRetryCount() {
-        return MAX_RETRY_COUNT;
+        return ConfigReader.getRetryCount();
+    }
+
+    // Full jitter: uniform in [0, min(max, base * 2^(attempt - 1))]
+    static long backoffMillis(int attempt) {
+        long base = ConfigReader.getLongProperty("retry.backoff.base.ms", 500);
+        long max = ConfigReader.getLongProperty("retry.backoff.max.ms", 8000);
+        long ceiling = Math.min(max, base << Math.min(attempt - 1, 30));
+        return ceiling <= 0 ? 0 : ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private static long requestsMadeBy(ITestResult result) {
+        Object atStart = result.getAttribute(REQUESTS_AT_START);
+        return atStart instanceof Long ? RequestTiming.callCount() - (Long) atStart : 0;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,108 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.utils;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Suite-wide cap on retries and the accounting of what retries cost. At most
+ * retry.budget.min + retry.budget.percent of the test executions started so far may be retries,
+ * so a broken environment fails fast instead of every test being run retry.count + 1 times.
+ * Reset at suite start by {@link org.banking.listeners.RetryReportListener}.
+ */
+public final class RetryBudget {
+
+    private static final LongAdder executions = new LongAdder();
+    private static final AtomicLong retriesGranted = new AtomicLong();
+    private static final LongAdder deniedByBudget = new LongAdder();
+    private static final LongAdder recovered = new LongAdder();
+    // Cost of retrying: the discarded attempts and the backoff before each retry
+    private static final LongAdder discardedMillis = new LongAdder();
+    private static final LongAdder discardedRequests = new LongAdder();
+    private static final LongAdder backoffMillis = new LongAdder();
+    private static final Map<FailureCategory, LongAdder> failures = new EnumMap<>(FailureCategory.class);
+
+    static {
+        for (FailureCategory category : FailureCategory.values()) {
+            failures.put(category, new LongAdder());
+        }
+    }
+
+    private RetryBudget() {
+    }
+
+    public static void recordExecution() {
+        executions.increment();
+    }
+
+    public static void recordFailure(FailureCategory category) {
+        failures.get(category).increment();
+    }
+
+    public static void recordRecovered() {
+        recovered.increment();
+    }
+
+    // Takes one retry from the budget; false (and counted as denied) when the budget is spent
+    public static boolean tryAcquire() {
+        double percent = ConfigReader.getDoubleProperty("retry.budget.percent", 10.0);
+        long allowed = ConfigReader.getIntProperty("retry.budget.min", 3)
+                + (long) Math.floor(executions.sum() * percent / 100.0);
+        while (true) {
+            long granted = retriesGranted.get();
+            if (granted >= allowed) {
+                deniedByBudget.increment();
+                return false;
+            }
+            if (retriesGranted.compareAndSet(granted, granted + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public static void recordRetryCost(long attemptMillis, long attemptRequests, long waitMillis) {
+        discardedMillis.add(Math.max(0, attemptMillis));
+        discardedRequests.add(Math.max(0, attemptRequests));
+        backoffMillis.add(Math.max(0, waitMillis));
+    }
+
+    public static long getRetries() {
+        return retriesGranted.get();
+    }
+
+    public static long getDeniedByBudget() {
+        return deniedByBudget.sum();
+    }
+
+    public static void reset() {
+        executions.reset();
+        retriesGranted.set(0);
+        deniedByBudget.reset();
+        recovered.reset();
+        discardedMillis.reset();
+        discardedRequests.reset();
+        backoffMillis.reset();
+        failures.values().forEach(LongAdder::reset);
+    }
+
+    public static String formatReport() {
+        long executed = executions.sum();
+        long retries = retriesGranted.get();
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Executions: %d, retries: %d (%.1f%%), recovered by retry: %d, denied by budget: %d%n",
+                executed, retries, executed == 0 ? 0.0 : retries * 100.0 / executed, recovered.sum(),
+                deniedByBudget.sum()));
+        sb.append(String.format("Retry cost: %d ms in discarded attempts, %d requests, %d ms backoff%n",
+                discardedMillis.sum(), discardedRequests.sum(), backoffMillis.sum()));
+        sb.append("Failed attempts by cause:");
+        failures.forEach((category, count) -> sb.append(String.format(" %s=%d", category, count.sum())));
+        return sb.append(System.lineSeparator()).toString();
+    }
+}
@@ -24,11 +24,17 @@ public class TestDataGenerator {
     private static final Faker faker = new Faker(Locale.US);
     private static final DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
 
+    // Prefix for generated unique fields (test.data.namespace), so parallel forks never create the same user
+    public static String namespaced(String value) {
+        String namespace = ConfigReader.getProperty("test.data.namespace", "");
+        return namespace.isBlank() ? value : namespace + "." + value;
+    }
+
     // User data generators
     public static UserDto generateValidUser() {
         return UserDto.builder()
-                .username(faker.name().username())
-                .email(faker.internet().emailAddress())
+                .username(namespaced(faker.name().username()))
+                .email(namespaced(faker.internet().emailAddress()))
                 .password(generateSecurePassword())
                 .fullName(faker.name().fullName())
                 .phoneNumber(faker.phoneNumber().phoneNumber())
@@ -124,6 +130,14 @@ public class TestDataGenerator {
                 .build();
     }
 
+    public static TransactionDto generateTransferTransaction(BigDecimal amount, Long fromAccountId,
+                                                             Long toAccountId) {
+        TransactionDto transfer = generateTransferTransaction(amount);
+        transfer.setFromAccountId(fromAccountId);
+        transfer.setToAccountId(toAccountId);
+        return transfer;
+    }
+
     // Helper methods
     private static String generateSecurePassword() {
         return faker.internet().password(8, 16, true, true, true);
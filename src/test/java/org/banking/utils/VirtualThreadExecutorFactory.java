@@ -0,0 +1,92 @@
+/*
+ * Author: Shady Ahmed
+ * Date: 2025-09-27
+ * Project: Mobile Banking API Testing using RestAssured (E2E)
+ * My Linked-in: https://www.linkedin.com/in/shady-ahmed97/.
+ */
+package org.banking.utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.IDynamicGraph;
+import org.testng.ISuite;
+import org.testng.ITestNGMethod;
+import org.testng.internal.thread.DefaultThreadPoolExecutorFactory;
+import org.testng.thread.IExecutorFactory;
+import org.testng.thread.ITestNGThreadPoolExecutor;
+import org.testng.thread.IThreadWorkerFactory;
+
+import java.util.Comparator;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TestNG executor factory that runs parallel test methods on virtual threads (platform daemon
+ * threads on JVMs without them). The API tests spend nearly all their time waiting on HTTP, so
+ * {@code test.parallel.threads}, when set, replaces the suite's {@code thread-count} as the
+ * concurrency limit. TestNG's own graph executor is kept for dependency handling.
+ *
+ * <p>Passed as {@code -threadpoolfactoryclass} when running TestNG directly (as the shard forks
+ * do); under surefire, which cannot pass that option, {@code ParallelExecutionListener} installs it.
+ */
+public class VirtualThreadExecutorFactory implements IExecutorFactory {
+
+    private static final Logger logger = LogManager.getLogger(VirtualThreadExecutorFactory.class);
+
+    // TestNG configures one factory for the whole run, so any instance means it is in use
+    private static volatile boolean installed;
+
+    private final IExecutorFactory delegate = new DefaultThreadPoolExecutorFactory();
+
+    public VirtualThreadExecutorFactory() {
+        installed = true;
+    }
+
+    public static boolean isInstalled() {
+        return installed;
+    }
+
+    @Override
+    public ITestNGThreadPoolExecutor newSuiteExecutor(String name, IDynamicGraph<ISuite> graph,
+                                                      IThreadWorkerFactory<ISuite> factory, int corePoolSize,
+                                                      int maximumPoolSize, long keepAliveTime, TimeUnit unit,
+                                                      BlockingQueue<Runnable> workQueue,
+                                                      Comparator<ISuite> comparator) {
+        return delegate.newSuiteExecutor(name, graph, factory, corePoolSize, maximumPoolSize, keepAliveTime,
+                unit, workQueue, comparator);
+    }
+
+    @Override
+    public ITestNGThreadPoolExecutor newTestMethodExecutor(String name, IDynamicGraph<ITestNGMethod> graph,
+                                                           IThreadWorkerFactory<ITestNGMethod> factory,
+                                                           int corePoolSize, int maximumPoolSize, long keepAliveTime,
+                                                           TimeUnit unit, BlockingQueue<Runnable> workQueue,
+                                                           Comparator<ITestNGMethod> comparator) {
+        ITestNGThreadPoolExecutor executor = delegate.newTestMethodExecutor(name, graph, factory, corePoolSize,
+                maximumPoolSize, keepAliveTime, unit, workQueue, comparator);
+        if (!(executor instanceof ThreadPoolExecutor)) {
+            logger.warn("Unexpected TestNG executor " + executor.getClass().getName()
+                    + ", keeping its default threads");
+            return executor;
+        }
+
+        int limit = ConfigReader.hasProperty("test.parallel.threads")
+                ? Math.max(1, ConfigReader.getParallelThreads()) : corePoolSize;
+        ThreadPoolExecutor pool = (ThreadPoolExecutor) executor;
+        // Grow the maximum first: the core size may never exceed it
+        if (limit > pool.getMaximumPoolSize()) {
+            pool.setMaximumPoolSize(limit);
+            pool.setCorePoolSize(limit);
+        } else {
+            pool.setCorePoolSize(limit);
+            pool.setMaximumPoolSize(limit);
+        }
+        pool.setThreadFactory(ExecutorUtils.newThreadFactory("testng-" + name));
+
+        logger.info("Running test methods of '" + name + "' on " + limit + " "
+                + (ExecutorUtils.isVirtualThreadSupported() ? "virtual" : "platform") + " threads"
+                + " (suite thread-count " + corePoolSize + ")");
+        return executor;
+    }
+}